@@ -24,16 +24,45 @@
 package appeng.api.networking.events;
 
 
+import javax.annotation.Nullable;
+
+import appeng.api.storage.ICellProvider;
+
+
 /**
  * Posted by storage devices to inform AE to refresh its storage structure.
  *
  * This is done in cases such as a storage cell being removed or added to a
  * drive.
  *
+ * Devices that know which cell provider changed should pass it, then only the
+ * cells of that provider are refreshed. The provider must post the changes of
+ * its contents itself, as it does for a full refresh.
+ *
  * you do not need to send this event when your node is added / removed from the
  * grid.
  */
 public class MENetworkCellArrayUpdate extends MENetworkEvent
 {
 
+	private final ICellProvider provider;
+
+	public MENetworkCellArrayUpdate()
+	{
+		this( null );
+	}
+
+	public MENetworkCellArrayUpdate( @Nullable final ICellProvider provider )
+	{
+		this.provider = provider;
+	}
+
+	/**
+	 * @return the provider whose cells changed, or null if every provider has to be refreshed
+	 */
+	@Nullable
+	public ICellProvider getProvider()
+	{
+		return this.provider;
+	}
 }
@@ -0,0 +1,76 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.AEItemStack;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Wrapping vanilla stacks, which goes through the shared registry of item types from every thread that reads an
+ * inventory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AEItemStackBenchmark {
+
+    private static final int TYPES = 10000;
+
+    private ItemStack[] stacks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        final List<IAEItemStack> synthetic = BenchmarkFixtures.syntheticStacks(TYPES, 1);
+        this.stacks = new ItemStack[TYPES];
+        for (int i = 0; i < TYPES; i++) {
+            this.stacks[i] = synthetic.get(i).createItemStack();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(TYPES)
+    public void fromItemStack(final Blackhole bh) {
+        for (final ItemStack stack : this.stacks) {
+            bh.consume(AEItemStack.fromItemStack(stack));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(TYPES)
+    public void fromItemStackContended(final Blackhole bh) {
+        for (final ItemStack stack : this.stacks) {
+            bh.consume(AEItemStack.fromItemStack(stack));
+        }
+    }
+}
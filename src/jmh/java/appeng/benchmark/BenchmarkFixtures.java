@@ -0,0 +1,94 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.AEApi;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.me.simulator.HeadlessBootstrap;
+import appeng.util.item.AEItemStack;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Shared setup of the benchmarks.
+ * <p>
+ * The benchmarks run without a game, see {@link HeadlessBootstrap} for what is set up instead.
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * Every n-th synthetic type is a damaged tool, so fuzzy lookups have variants to search through.
+     */
+    public static final int DAMAGEABLE_EVERY = 10;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static void bootstrap() {
+        HeadlessBootstrap.start();
+    }
+
+    public static IItemStorageChannel itemChannel() {
+        return AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+    }
+
+    /**
+     * Creates distinct item types: paper with a unique tag, and every {@link #DAMAGEABLE_EVERY}th a damaged diamond
+     * sword.
+     *
+     * @param types amount of distinct types
+     * @param size  stack size of every type
+     */
+    public static List<IAEItemStack> syntheticStacks(final int types, final long size) {
+        final int maxDamage = Items.DIAMOND_SWORD.getMaxDamage() + 1;
+        final List<IAEItemStack> stacks = new ArrayList<>(types);
+
+        for (int i = 0; i < types; i++) {
+            final ItemStack is;
+
+            if (i % DAMAGEABLE_EVERY == 0) {
+                final int variant = i / DAMAGEABLE_EVERY;
+                is = new ItemStack(Items.DIAMOND_SWORD, 1, variant % maxDamage);
+                if (variant >= maxDamage) {
+                    final NBTTagCompound tag = new NBTTagCompound();
+                    tag.setInteger("variant", variant / maxDamage);
+                    is.setTagCompound(tag);
+                }
+            } else {
+                is = new ItemStack(Items.PAPER);
+                final NBTTagCompound tag = new NBTTagCompound();
+                tag.setInteger("id", i);
+                is.setTagCompound(tag);
+            }
+
+            final IAEItemStack stack = AEItemStack.fromItemStack(is);
+            stack.setStackSize(size);
+            stacks.add(stack);
+        }
+
+        return stacks;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.benchmark;
+
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * A world whose chunks exist only in memory. Missing chunks are created empty on first access and stay loaded.
+ */
+final class BenchmarkWorld extends World {
+
+    BenchmarkWorld() {
+        super(null, new WorldInfo(new WorldSettings(0L, GameType.SURVIVAL, false, false, WorldType.DEFAULT), "benchmark"), new WorldProviderSurface(), new Profiler(), false);
+        this.provider.setWorld(this);
+        this.chunkProvider = this.createChunkProvider();
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider() {
+        return new MemoryChunkProvider(this);
+    }
+
+    @Override
+    protected boolean isChunkLoaded(final int x, final int z, final boolean allowEmpty) {
+        return this.chunkProvider.getLoadedChunk(x, z) != null;
+    }
+
+    private static final class MemoryChunkProvider implements IChunkProvider {
+
+        private final World world;
+        private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+
+        private MemoryChunkProvider(final World world) {
+            this.world = world;
+        }
+
+        @Nullable
+        @Override
+        public Chunk getLoadedChunk(final int x, final int z) {
+            return this.chunks.get(ChunkPos.asLong(x, z));
+        }
+
+        @Override
+        public Chunk provideChunk(final int x, final int z) {
+            final long key = ChunkPos.asLong(x, z);
+            Chunk chunk = this.chunks.get(key);
+            if (chunk == null) {
+                this.chunks.put(key, chunk = new Chunk(this.world, x, z));
+            }
+            return chunk;
+        }
+
+        @Override
+        public boolean tick() {
+            return false;
+        }
+
+        @Override
+        public String makeString() {
+            return "MemoryChunkProvider: " + this.chunks.size();
+        }
+
+        @Override
+        public boolean isChunkGeneratedAt(final int x, final int z) {
+            return this.chunks.containsKey(ChunkPos.asLong(x, z));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.crafting.CraftingJob;
+import appeng.me.simulator.GridSimulator;
+import appeng.me.simulator.GridTopology;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Calculation of a crafting job on a simulated network, requesting the output of the last pattern, which has the
+ * deepest tree of sub crafts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CraftingJobBenchmark {
+
+    @Param({"1000", "10000"})
+    public int nodes;
+
+    @Param({"1", "1000"})
+    public long amount;
+
+    private GridSimulator simulator;
+    private IAEItemStack request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.simulator = GridSimulator.build(new GridTopology().setNodes(this.nodes));
+        this.simulator.boot(1000 + this.nodes / 10);
+
+        final List<IAEItemStack> craftables = this.simulator.getCraftableTypes();
+        this.request = craftables.get(craftables.size() - 1).copy().setStackSize(this.amount);
+    }
+
+    @Benchmark
+    public CraftingJob calculate() {
+        return this.simulator.calculateCraftingJob(this.request);
+    }
+}
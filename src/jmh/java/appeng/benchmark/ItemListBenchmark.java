@@ -0,0 +1,116 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.CompactItemList;
+import appeng.util.item.ItemList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Building, searching and iterating an {@link ItemList} or {@link CompactItemList}, as done by network monitors and
+ * cells.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemListBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10000", "100000"})
+    public int types;
+
+    @Param({"ItemList", "CompactItemList"})
+    public String implementation;
+
+    private List<IAEItemStack> stacks;
+    private IItemList<IAEItemStack> list;
+    private IAEItemStack[] preciseLookups;
+    private IAEItemStack[] fuzzyLookups;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        this.stacks = BenchmarkFixtures.syntheticStacks(this.types, 64);
+        this.list = this.createList();
+        for (final IAEItemStack stack : this.stacks) {
+            this.list.add(stack);
+        }
+
+        final Random random = new Random(0);
+        this.preciseLookups = new IAEItemStack[LOOKUPS];
+        this.fuzzyLookups = new IAEItemStack[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.preciseLookups[i] = this.stacks.get(random.nextInt(this.types));
+            this.fuzzyLookups[i] = this.stacks.get(random.nextInt(this.types / BenchmarkFixtures.DAMAGEABLE_EVERY) * BenchmarkFixtures.DAMAGEABLE_EVERY);
+        }
+    }
+
+    @Benchmark
+    public IItemList<IAEItemStack> addAll() {
+        final IItemList<IAEItemStack> fresh = this.createList();
+        for (final IAEItemStack stack : this.stacks) {
+            fresh.add(stack);
+        }
+        return fresh;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findPrecise(final Blackhole bh) {
+        for (final IAEItemStack lookup : this.preciseLookups) {
+            bh.consume(this.list.findPrecise(lookup));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findFuzzy(final Blackhole bh) {
+        for (final IAEItemStack lookup : this.fuzzyLookups) {
+            bh.consume(this.list.findFuzzy(lookup, FuzzyMode.PERCENT_99));
+        }
+    }
+
+    @Benchmark
+    public long iterate() {
+        long total = 0;
+        for (final IAEItemStack stack : this.list) {
+            total += stack.getStackSize();
+        }
+        return total;
+    }
+
+    private IItemList<IAEItemStack> createList() {
+        return "CompactItemList".equals(this.implementation) ? new CompactItemList() : new ItemList();
+    }
+}
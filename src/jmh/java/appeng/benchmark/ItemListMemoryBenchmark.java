@@ -0,0 +1,94 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.benchmark;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.CompactItemList;
+import appeng.util.item.ItemList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Heap retained by an {@link ItemList} or {@link CompactItemList} holding every type once, reported as the
+ * {@code retainedBytes} counter.
+ * <p>
+ * The stacks added are kept alive during the whole trial, so only the memory of the list itself is counted. The
+ * counter is measured after full garbage collections and therefore only approximate, and the reported time includes
+ * these collections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ItemListMemoryBenchmark {
+
+    @Param({"10000", "100000"})
+    public int types;
+
+    @Param({"ItemList", "CompactItemList"})
+    public String implementation;
+
+    private List<IAEItemStack> stacks;
+    private long usedBefore;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+        public long retainedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        this.stacks = BenchmarkFixtures.syntheticStacks(this.types, 64);
+    }
+
+    @Setup(Level.Iteration)
+    public void measureBefore() {
+        this.usedBefore = usedHeap();
+    }
+
+    @Benchmark
+    public IItemList<IAEItemStack> build(final Retained retained) {
+        final IItemList<IAEItemStack> fresh = "CompactItemList".equals(this.implementation) ? new CompactItemList() : new ItemList();
+        for (final IAEItemStack stack : this.stacks) {
+            fresh.add(stack);
+        }
+
+        retained.retainedBytes = usedHeap() - this.usedBefore;
+        return fresh;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.crafting.MECraftingInventory;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.item.ItemList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Branching of the simulated inventory while a crafting job is calculated.
+ * <p>
+ * Every branch copies the available items of its parent, which is what makes jobs on networks with many types slow.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MECraftingInventoryBenchmark {
+
+    private static final int EXTRACTIONS = 64;
+
+    @Param({"1000", "10000", "100000"})
+    public int types;
+
+    @Param({"1", "4"})
+    public int depth;
+
+    private final IActionSource src = new BaseActionSource();
+    private MECraftingInventory root;
+    private IAEItemStack[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        final List<IAEItemStack> stacks = BenchmarkFixtures.syntheticStacks(this.types, 1000);
+        final IItemList<IAEItemStack> available = new ItemList();
+        for (final IAEItemStack stack : stacks) {
+            available.add(stack);
+        }
+        this.root = new MECraftingInventory(available);
+
+        final Random random = new Random(0);
+        this.requests = new IAEItemStack[EXTRACTIONS];
+        for (int i = 0; i < EXTRACTIONS; i++) {
+            this.requests[i] = stacks.get(random.nextInt(this.types)).copy().setStackSize(1 + random.nextInt(64));
+        }
+    }
+
+    @Benchmark
+    public void branchAndExtract(final Blackhole bh) {
+        MECraftingInventory inv = this.root;
+        for (int i = 0; i < this.depth; i++) {
+            inv = new MECraftingInventory(inv);
+        }
+
+        for (final IAEItemStack request : this.requests) {
+            bh.consume(inv.extractItems(request, Actionable.MODULATE, this.src));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.me.cache.SecurityCache;
+import appeng.me.helpers.BaseActionSource;
+import appeng.me.simulator.SimulatedCellInventory;
+import appeng.me.storage.NetworkInventoryHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Inserting into and extracting from a network storage spread over many handlers with different priorities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkInventoryHandlerBenchmark {
+
+    private static final int TYPES = 10000;
+    private static final int OPERATIONS = 1024;
+
+    @Param({"1", "16", "256"})
+    public int handlers;
+
+    private final IActionSource src = new BaseActionSource();
+    private NetworkInventoryHandler<IAEItemStack> network;
+    private IAEItemStack[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        final List<IAEItemStack> stacks = BenchmarkFixtures.syntheticStacks(TYPES, 1000);
+        this.network = new NetworkInventoryHandler<>(BenchmarkFixtures.itemChannel(), new SecurityCache(null));
+
+        final SimulatedCellInventory[] inventories = new SimulatedCellInventory[this.handlers];
+        for (int i = 0; i < this.handlers; i++) {
+            inventories[i] = new SimulatedCellInventory(BenchmarkFixtures.itemChannel(), i % 4);
+            this.network.addNewStorage(inventories[i]);
+        }
+        for (int i = 0; i < stacks.size(); i++) {
+            inventories[i % this.handlers].store(stacks.get(i));
+        }
+
+        final Random random = new Random(0);
+        this.requests = new IAEItemStack[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            this.requests[i] = stacks.get(random.nextInt(TYPES)).copy().setStackSize(1 + random.nextInt(64));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void injectSimulate(final Blackhole bh) {
+        for (final IAEItemStack request : this.requests) {
+            bh.consume(this.network.injectItems(request, Actionable.SIMULATE, this.src));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void extractSimulate(final Blackhole bh) {
+        for (final IAEItemStack request : this.requests) {
+            bh.consume(this.network.extractItems(request, Actionable.SIMULATE, this.src));
+        }
+    }
+
+    /**
+     * Extracts and reinserts every request, so the stored amounts stay the same between invocations.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void extractAndInject(final Blackhole bh) {
+        for (final IAEItemStack request : this.requests) {
+            final IAEItemStack extracted = this.network.extractItems(request, Actionable.MODULATE, this.src);
+            if (extracted != null) {
+                bh.consume(this.network.injectItems(extracted, Actionable.MODULATE, this.src));
+            }
+        }
+    }
+}
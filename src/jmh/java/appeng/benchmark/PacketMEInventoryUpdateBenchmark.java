@@ -0,0 +1,97 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.benchmark;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.core.sync.packets.PacketMEInventoryUpdate;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Encoding and decoding the item updates sent to open terminals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketMEInventoryUpdateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int types;
+
+    private List<IAEItemStack> stacks;
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkFixtures.bootstrap();
+
+        this.stacks = BenchmarkFixtures.syntheticStacks(this.types, 1000);
+
+        // same layout the server sends, minus the packet id which is consumed by the handler
+        this.encoded = Unpooled.buffer();
+        this.encoded.writeByte(0);
+        try (GZIPOutputStream out = new GZIPOutputStream(new ByteBufOutputStream(this.encoded))) {
+            final ByteBuf tmp = Unpooled.buffer();
+            for (final IAEItemStack stack : this.stacks) {
+                tmp.clear();
+                stack.writeToPacket(tmp);
+                out.write(tmp.array(), tmp.arrayOffset(), tmp.readableBytes());
+            }
+        }
+    }
+
+    /**
+     * Packs the stacks into as many packets as the server would, see {@code ContainerMEMonitorable}.
+     */
+    @Benchmark
+    public int encode() throws IOException {
+        int length = 0;
+        PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+
+        for (final IAEItemStack stack : this.stacks) {
+            try {
+                piu.appendItem(stack);
+            } catch (final BufferOverflowException boe) {
+                length += piu.getLength();
+                piu = new PacketMEInventoryUpdate();
+                piu.appendItem(stack);
+            }
+        }
+
+        return length + piu.getLength();
+    }
+
+    @Benchmark
+    public boolean decode() throws IOException {
+        return new PacketMEInventoryUpdate(this.encoded.duplicate()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.benchmark;
+
+
+import appeng.spatial.StorageHelper;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Spatial IO transfers of cubic regions, reporting the time of one swap per region size.
+ * <p>
+ * The source region is filled with stone and glass, the destination is empty, and every invocation swaps the two. With
+ * {@code aligned} both regions start on a section boundary, so fully covered sections are swapped as a whole;
+ * otherwise the destination is shifted by one block and every block is copied on its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpatialTransferBenchmark {
+
+    private static final int SRC_X = 0;
+    private static final int SRC_Y = 64;
+    private static final int SRC_Z = 0;
+    private static final int DST_X = 1024;
+
+    @Param({"16", "32", "64", "128"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean aligned;
+
+    private World world;
+    private int dstOffset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootstrap();
+
+        this.world = new BenchmarkWorld();
+        this.dstOffset = this.aligned ? 0 : 1;
+
+        final IBlockState stone = Blocks.STONE.getDefaultState();
+        final IBlockState glass = Blocks.GLASS.getDefaultState();
+
+        for (int x = SRC_X; x < SRC_X + this.size; x++) {
+            for (int z = SRC_Z; z < SRC_Z + this.size; z++) {
+                final Chunk chunk = this.world.getChunk(x >> 4, z >> 4);
+                for (int y = SRC_Y; y < SRC_Y + this.size; y++) {
+                    ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+                    if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                        storage = chunk.getBlockStorageArray()[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, true);
+                    }
+                    storage.set(x & 15, y & 15, z & 15, (x + y + z) % 7 == 0 ? glass : stone);
+                }
+            }
+        }
+
+        for (int cx = SRC_X >> 4; cx <= (SRC_X + this.size - 1) >> 4; cx++) {
+            for (int cz = SRC_Z >> 4; cz <= (SRC_Z + this.size - 1) >> 4; cz++) {
+                this.world.getChunk(cx, cz).generateSkylightMap();
+            }
+        }
+    }
+
+    @Benchmark
+    public World swap() {
+        final int scale = this.size - 1;
+        StorageHelper.getInstance()
+                .swapRegions(this.world, SRC_X, SRC_Y, SRC_Z, this.world, DST_X + this.dstOffset, SRC_Y + this.dstOffset, SRC_Z + this.dstOffset, scale, scale, scale);
+        return this.world;
+    }
+}
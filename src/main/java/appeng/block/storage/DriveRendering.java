@@ -29,5 +29,7 @@ public class DriveRendering extends BlockRenderingCustomizer {
     @Override
     public void customize(IBlockRendering rendering, IItemRendering itemRendering) {
         rendering.builtInModel("models/block/builtin/drive", new DriveModel());
+        // the cell states are proper values, so drives can be cached per combination of them
+        rendering.rotatingModelCacheKey(BlockDrive.SLOTS_STATE);
     }
 }
@@ -21,6 +21,8 @@ package appeng.block.storage;
 
 import appeng.api.implementations.tiles.IChestOrDrive;
 
+import java.util.Arrays;
+
 
 /**
  * Contains the full information about what the state of the slots in a BlockDrive is.
@@ -63,6 +65,22 @@ public class DriveSlotsState {
         return new DriveSlotsState(slots);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(this.slots, ((DriveSlotsState) o).slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.slots);
+    }
+
     public static DriveSlotsState createEmpty(int slotCount) {
         DriveSlotState[] slots = new DriveSlotState[slotCount];
         for (int i = 0; i < slotCount; i++) {
@@ -36,6 +36,7 @@ import net.minecraft.client.resources.IResourceManager;
 import net.minecraft.client.resources.IResourceManagerReloadListener;
 import net.minecraftforge.client.model.IModel;
 import net.minecraftforge.client.resource.IResourceType;
+import net.minecraftforge.common.property.IUnlistedProperty;
 import net.minecraftforge.client.resource.ISelectiveResourceReloadListener;
 import net.minecraftforge.client.resource.VanillaResourceType;
 import net.minecraftforge.fml.relauncher.Side;
@@ -66,6 +67,9 @@ class BlockRendering implements IBlockRendering, ISelectiveResourceReloadListene
     @SideOnly(Side.CLIENT)
     private final Map<String, IModel> builtInModels = new HashMap<>();
 
+    @SideOnly(Side.CLIENT)
+    private IUnlistedProperty<?> rotatingModelCacheKey;
+
     @SideOnly(Side.CLIENT)
     private final List<IResourceManagerReloadListener> reloads = new ArrayList<>();
 
@@ -107,6 +111,13 @@ class BlockRendering implements IBlockRendering, ISelectiveResourceReloadListene
         return this;
     }
 
+    @SideOnly(Side.CLIENT)
+    @Override
+    public IBlockRendering rotatingModelCacheKey(IUnlistedProperty<?> property) {
+        this.rotatingModelCacheKey = property;
+        return this;
+    }
+
     void apply(FeatureFactory factory, Block block, Class<?> tileEntityClass) {
         if (this.tesr != null) {
             if (tileEntityClass == null) {
@@ -121,7 +132,7 @@ class BlockRendering implements IBlockRendering, ISelectiveResourceReloadListene
             // This is a default rotating model if the base-block uses an AE tile entity which exposes UP/FRONT as
             // extended props
             factory.addModelOverride(block.getRegistryName().getPath(), (l, m) -> {
-                AutoRotatingModel model = new AutoRotatingModel(m);
+                AutoRotatingModel model = new AutoRotatingModel(m, BlockRendering.this.rotatingModelCacheKey);
                 BlockRendering.this.reloads.add(model);
                 return model;
             });
@@ -25,6 +25,7 @@ import net.minecraft.client.renderer.block.statemap.IStateMapper;
 import net.minecraft.client.renderer.color.IBlockColor;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraftforge.client.model.IModel;
+import net.minecraftforge.common.property.IUnlistedProperty;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -54,4 +55,11 @@ public interface IBlockRendering {
     @SideOnly(Side.CLIENT)
     IBlockRendering builtInModel(String name, IModel model);
 
+    /**
+     * Adds an extended state property besides forward and up to the quad cache key of the default rotating model. Its
+     * values have to implement equals and hashCode.
+     */
+    @SideOnly(Side.CLIENT)
+    IBlockRendering rotatingModelCacheKey(IUnlistedProperty<?> property);
+
 }
@@ -23,6 +23,7 @@ import appeng.api.parts.CableRenderMode;
 import appeng.api.util.AEColor;
 import appeng.block.AEBaseBlock;
 import appeng.client.gui.AEBaseGui;
+import appeng.client.render.cablebus.CableBusBakedModel;
 import appeng.client.render.crafting.ItemEncodedPatternBakedModel;
 import appeng.client.render.effects.*;
 import appeng.client.render.model.UVLModelLoader;
@@ -131,6 +132,13 @@ public class ClientHelper extends ServerHelper {
         HighlighterHandler.tick(event);
     }
 
+    @SubscribeEvent
+    public void debugOverlayEvent(RenderGameOverlayEvent.Text event) {
+        if (Minecraft.getMinecraft().gameSettings.showDebugInfo) {
+            CableBusBakedModel.addDebugInfo(event.getRight());
+        }
+    }
+
     @Override
     public World getWorld() {
         if (Platform.isClient()) {
@@ -130,6 +130,14 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
         this.cancel = new GuiButton(0, this.guiLeft + CANCEL_LEFT_OFFSET, this.guiTop + this.ySize - CANCEL_TOP_OFFSET, CANCEL_WIDTH, CANCEL_HEIGHT, GuiText.Cancel
                 .getLocal());
         this.buttonList.add(this.cancel);
+
+        if (AEConfig.instance().isCraftingStatusSummaryOnly()) {
+            try {
+                NetworkHandler.instance().sendToServer(new PacketValueConfig("CraftingStatus.Summary", "1"));
+            } catch (final IOException e) {
+                AELog.debug(e);
+            }
+        }
     }
 
     private void setScrollBar() {
@@ -141,7 +149,11 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
 
     @Override
     public void drawScreen(final int mouseX, final int mouseY, final float btn) {
-        this.cancel.enabled = !this.visual.isEmpty();
+        if (AEConfig.instance().isCraftingStatusSummaryOnly()) {
+            this.cancel.enabled = this.craftingCpu.remainingItems > 0;
+        } else {
+            this.cancel.enabled = !this.visual.isEmpty();
+        }
 
         final int gx = (this.width - this.xSize) / 2;
         final int gy = (this.height - this.ySize) / 2;
@@ -177,7 +189,8 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
     public void drawFG(final int offsetX, final int offsetY, final int mouseX, final int mouseY) {
         String title = this.getGuiDisplayName(GuiText.CraftingStatus.getLocal());
 
-        if (this.craftingCpu.getEstimatedTime() > 0 && !this.visual.isEmpty()) {
+        final boolean summaryOnly = AEConfig.instance().isCraftingStatusSummaryOnly();
+        if (this.craftingCpu.getEstimatedTime() > 0 && (summaryOnly ? this.craftingCpu.remainingItems > 0 : !this.visual.isEmpty())) {
             final long etaInMilliseconds = TimeUnit.MILLISECONDS.convert(this.craftingCpu.getEstimatedTime(), TimeUnit.NANOSECONDS);
             final String etaTimeText = DurationFormatUtils.formatDuration(etaInMilliseconds, GuiText.ETAFormat.getLocal());
             title += " - " + etaTimeText;
@@ -185,6 +198,21 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
 
         this.fontRenderer.drawString(title, TITLE_LEFT_OFFSET, TITLE_TOP_OFFSET, TEXT_COLOR);
 
+        if (summaryOnly) {
+            if (this.craftingCpu.remainingItems > 0) {
+                final ReadableNumberConverter converter = ReadableNumberConverter.INSTANCE;
+                final String progress = GuiText.CraftingProgress.getLocal() + ": " + converter.toWideReadableForm(this.craftingCpu.remainingItems) + " / " + converter
+                        .toWideReadableForm(this.craftingCpu.startItems);
+                this.fontRenderer.drawString(progress, ITEMSTACK_LEFT_OFFSET, ITEMSTACK_TOP_OFFSET, TEXT_COLOR);
+
+                final long elapsedInMilliseconds = TimeUnit.MILLISECONDS.convert(this.craftingCpu.elapsedTime, TimeUnit.NANOSECONDS);
+                final String elapsed = GuiText.CraftingElapsed.getLocal() + ": " + DurationFormatUtils.formatDuration(elapsedInMilliseconds, GuiText.ETAFormat
+                        .getLocal());
+                this.fontRenderer.drawString(elapsed, ITEMSTACK_LEFT_OFFSET, ITEMSTACK_TOP_OFFSET + this.fontRenderer.FONT_HEIGHT + 2, TEXT_COLOR);
+            }
+            return;
+        }
+
         int x = 0;
         int y = 0;
         final int viewStart = this.getScrollBar().getCurrentScroll() * 3;
@@ -458,6 +458,18 @@ public class GuiInterfaceTerminal extends AEBaseGui {
                     }
                 } catch (final NumberFormatException ignored) {
                 }
+            } else if (key.startsWith("-")) {
+                try {
+                    final long id = Long.parseLong(key.substring(1), Character.MAX_RADIX);
+                    final ClientDCInternalInv current = this.byId.remove(id);
+                    if (current != null) {
+                        blockPosHashMap.remove(current);
+                        dimHashMap.remove(current);
+                        numUpgradesMap.remove(current);
+                        this.refreshList = true;
+                    }
+                } catch (final NumberFormatException ignored) {
+                }
             }
         }
 
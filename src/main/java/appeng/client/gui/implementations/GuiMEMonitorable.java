@@ -72,6 +72,9 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
     private static int craftingGridOffsetY;
 
     private static String memoryText = "";
+
+    private static final long MISSING_SLOTS_HIGHLIGHT_TIME = 3000;
+
     protected final ItemRepo repo;
     private final int offsetX = 9;
     private final int lowerTextureOffset = 0;
@@ -97,6 +100,8 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
     private int currentMouseX = 0;
     private int currentMouseY = 0;
     private boolean delayedUpdate;
+    private int missingCraftingSlots = 0;
+    private long missingCraftingSlotsUntil = 0;
 
     protected int jeiOffset = Platform.isModLoaded("jei") ? 24 : 0;
 
@@ -358,11 +363,31 @@ public class GuiMEMonitorable extends AEBaseMEGui implements ISortSource, IConfi
         return exclusionArea;
     }
 
+    /**
+     * Highlights the crafting grid slots a recipe transfer could not fill for a few seconds.
+     */
+    public void setMissingCraftingSlots(final int slotMask) {
+        this.missingCraftingSlots = slotMask;
+        this.missingCraftingSlotsUntil = System.currentTimeMillis() + MISSING_SLOTS_HIGHLIGHT_TIME;
+    }
+
     @Override
     public void drawFG(final int offsetX, final int offsetY, final int mouseX, final int mouseY) {
         this.fontRenderer.drawString(this.getGuiDisplayName(this.myName.getLocal()), 8, 6, 4210752);
         this.fontRenderer.drawString(GuiText.inventory.getLocal(), 8, this.ySize - 96 + 3, 4210752);
 
+        if (this.missingCraftingSlots != 0) {
+            if (System.currentTimeMillis() > this.missingCraftingSlotsUntil) {
+                this.missingCraftingSlots = 0;
+            } else {
+                for (final Slot slot : this.inventorySlots.inventorySlots) {
+                    if (slot instanceof SlotCraftingMatrix && (this.missingCraftingSlots & (1 << slot.getSlotIndex())) != 0) {
+                        drawRect(slot.xPos, slot.yPos, 16 + slot.xPos, 16 + slot.yPos, 0x66ff6666);
+                    }
+                }
+            }
+        }
+
         this.currentMouseX = mouseX;
         this.currentMouseY = mouseY;
     }
@@ -24,8 +24,10 @@ import appeng.api.parts.IPartModel;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.block.networking.BlockCableBus;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.Weigher;
 import net.minecraft.block.state.IBlockState;
@@ -62,6 +64,13 @@ public class CableBusBakedModel implements IBakedModel {
 
     private final LoadingCache<CableBusRenderState, List<BakedQuad>> cableModelCache;
 
+    private final Cache<PartQuadKey, List<BakedQuad>> partQuadCache;
+
+    /**
+     * The most recently baked model, only used to show the cache statistics in the debug overlay.
+     */
+    private static volatile CableBusBakedModel lastBaked;
+
     CableBusBakedModel(CableBuilder cableBuilder, FacadeBuilder facadeBuilder, Map<ResourceLocation, IBakedModel> partModels, TextureAtlasSprite particleTexture) {
         this.cableBuilder = cableBuilder;
         this.facadeBuilder = facadeBuilder;
@@ -78,6 +87,12 @@ public class CableBusBakedModel implements IBakedModel {
                         return model;
                     }
                 });
+        this.partQuadCache = CacheBuilder.newBuilder()
+                .maximumWeight(20000)
+                .weigher((Weigher<PartQuadKey, List<BakedQuad>>) (k, v) -> Math.max(1, v.size()))
+                .recordStats()
+                .build();
+        lastBaked = this;
     }
 
     @Override
@@ -115,18 +130,7 @@ public class CableBusBakedModel implements IBakedModel {
                         throw new IllegalStateException("Trying to use an unregistered part model: " + model);
                     }
 
-                    List<BakedQuad> partQuads;
-                    if (bakedModel instanceof IPartBakedModel) {
-                        partQuads = ((IPartBakedModel) bakedModel).getPartQuads(renderState.getPartFlags().get(facing), rand);
-                    } else {
-                        partQuads = bakedModel.getQuads(state, null, rand);
-                    }
-
-                    // Rotate quads accordingly
-                    QuadRotator rotator = new QuadRotator();
-                    partQuads = rotator.rotateQuads(partQuads, facing, EnumFacing.UP);
-
-                    quads.addAll(partQuads);
+                    quads.addAll(this.getRotatedPartQuads(state, model, bakedModel, facing, renderState.getPartFlags().get(facing), rand));
                 }
             }
         }
@@ -135,6 +139,51 @@ public class CableBusBakedModel implements IBakedModel {
         return quads;
     }
 
+    /**
+     * Part models do not change with their position, so their rotated quads are shared by all parts with the same
+     * model, facing and flags.
+     */
+    private List<BakedQuad> getRotatedPartQuads(IBlockState state, ResourceLocation model, IBakedModel bakedModel, EnumFacing facing, Long partFlags, long rand) {
+        final boolean partModel = bakedModel instanceof IPartBakedModel;
+        final PartQuadKey key = new PartQuadKey(model, facing, partModel ? partFlags : null);
+
+        List<BakedQuad> partQuads = this.partQuadCache.getIfPresent(key);
+        if (partQuads == null) {
+            if (partModel) {
+                partQuads = ((IPartBakedModel) bakedModel).getPartQuads(partFlags, rand);
+            } else {
+                partQuads = bakedModel.getQuads(state, null, rand);
+            }
+
+            // Rotate quads accordingly
+            QuadRotator rotator = new QuadRotator();
+            partQuads = rotator.rotateQuads(partQuads, facing, EnumFacing.UP);
+
+            this.partQuadCache.put(key, partQuads);
+        }
+
+        return partQuads;
+    }
+
+    /**
+     * Adds the hit rates of the quad caches of the current cable bus model to the debug overlay.
+     */
+    public static void addDebugInfo(List<String> lines) {
+        final CableBusBakedModel model = lastBaked;
+        if (model == null) {
+            return;
+        }
+
+        lines.add("");
+        lines.add("AE2 cable bus quad caches");
+        lines.add(formatStats("Parts", model.partQuadCache.stats(), model.partQuadCache.size()));
+        lines.add(formatStats("Facades", model.facadeBuilder.getFacadeCacheStats(), model.facadeBuilder.getFacadeCacheSize()));
+    }
+
+    private static String formatStats(String name, CacheStats stats, long size) {
+        return String.format("%s: %.1f%% hits, %d entries", name, stats.hitRate() * 100, size);
+    }
+
     // Determines whether a cable is connected to exactly two sides that are opposite each other
     private static boolean isStraightLine(AECableType cableType, EnumMap<EnumFacing, AECableType> sides) {
         final Iterator<Entry<EnumFacing, AECableType>> it = sides.entrySet().iterator();
@@ -301,6 +350,36 @@ public class CableBusBakedModel implements IBakedModel {
         return extendedBlockState.getValue(BlockCableBus.RENDER_STATE_PROPERTY);
     }
 
+    private static final class PartQuadKey {
+
+        private final ResourceLocation model;
+        private final EnumFacing facing;
+        private final Long partFlags;
+
+        private PartQuadKey(ResourceLocation model, EnumFacing facing, Long partFlags) {
+            this.model = model;
+            this.facing = facing;
+            this.partFlags = partFlags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final PartQuadKey other = (PartQuadKey) o;
+            return this.facing == other.facing && this.model.equals(other.model) && Objects.equals(this.partFlags, other.partFlags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.model, this.facing, this.partFlags);
+        }
+    }
+
     @Override
     public boolean isAmbientOcclusion() {
         return true;
@@ -26,11 +26,16 @@ import appeng.thirdparty.codechicken.lib.model.CachedFormat;
 import appeng.thirdparty.codechicken.lib.model.Quad;
 import appeng.thirdparty.codechicken.lib.model.pipeline.BakedPipeline;
 import appeng.thirdparty.codechicken.lib.model.pipeline.transformers.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.block.model.WeightedBakedModel;
 import net.minecraft.client.renderer.color.BlockColors;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.BlockRenderLayer;
@@ -45,6 +50,7 @@ import net.minecraftforge.client.ForgeHooksClient;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 
@@ -93,6 +99,20 @@ public class FacadeBuilder {
     );
     private final ThreadLocal<Quad> collectors = ThreadLocal.withInitial(Quad::new);
 
+    /**
+     * Clipped facade quads, shared between all facades with the same block state and surroundings.
+     */
+    private final Cache<FacadeQuadKey, List<BakedQuad>> facadeQuadCache = CacheBuilder.newBuilder()
+            .maximumWeight(50000)
+            .weigher((Weigher<FacadeQuadKey, List<BakedQuad>>) (k, v) -> Math.max(1, v.size()))
+            .recordStats()
+            .build();
+
+    /**
+     * Rotated stilt quads of the cable anchor, per side.
+     */
+    private final Map<EnumFacing, List<BakedQuad>> stiltQuads = new ConcurrentHashMap<>();
+
     public void buildFacadeQuads(BlockRenderLayer layer, CableBusRenderState renderState, long rand, List<BakedQuad> quads, Function<ResourceLocation, IBakedModel> modelLookup) {
         BakedPipeline pipeline = this.pipelines.get();
         Quad collectorQuad = this.collectors.get();
@@ -111,11 +131,15 @@ public class FacadeBuilder {
             FacadeRenderState facadeRenderState = entry.getValue();
             boolean renderStilt = !sidesWithParts.contains(side);
             if (layer == BlockRenderLayer.CUTOUT && renderStilt) {
-                for (ResourceLocation part : PartCableAnchor.FACADE_MODELS.getModels()) {
-                    IBakedModel partModel = modelLookup.apply(part);
-                    QuadRotator rotator = new QuadRotator();
-                    quads.addAll(rotator.rotateQuads(gatherQuads(partModel, null, rand), side, EnumFacing.UP));
-                }
+                quads.addAll(this.stiltQuads.computeIfAbsent(side, s -> {
+                    final List<BakedQuad> stilt = new ArrayList<>();
+                    for (ResourceLocation part : PartCableAnchor.FACADE_MODELS.getModels()) {
+                        IBakedModel partModel = modelLookup.apply(part);
+                        QuadRotator rotator = new QuadRotator();
+                        stilt.addAll(rotator.rotateQuads(gatherQuads(partModel, null, rand), s, EnumFacing.UP));
+                    }
+                    return stilt;
+                }));
             }
             // If we are forcing transparency and this isn't the Translucent layer.
             if (transparent && layer != BlockRenderLayer.TRANSLUCENT) {
@@ -185,11 +209,37 @@ public class FacadeBuilder {
             } catch (Exception ignored) {
             }
             IBakedModel model = dispatcher.getModelForState(blockState);
+            final IBlockState actualState = blockState;
             try {
                 blockState = blockState.getBlock().getExtendedState(blockState, facadeAccess, pos);
             } catch (Exception ignored) {
             }
 
+            // calculate the side mask.
+            int facadeMask = 0;
+            for (Entry<EnumFacing, FacadeRenderState> ent : facadeStates.entrySet()) {
+                EnumFacing s = ent.getKey();
+                if (s.getAxis() != side.getAxis()) {
+                    FacadeRenderState otherState = ent.getValue();
+                    if (!otherState.isTransparent()) {
+                        facadeMask |= 1 << s.ordinal();
+                    }
+                }
+            }
+
+            // Extended states usually carry position dependent data, and only weighted models care about the seed.
+            FacadeQuadKey cacheKey = null;
+            if (blockState == actualState) {
+                cacheKey = new FacadeQuadKey(blockState, layer, transparent, side, facadeMask, thinFacades, facadeRenderState.isTransparent(),
+                        cutOutBox == null ? null : cutOutBox.getBoundingBox(), model instanceof WeightedBakedModel ? rand : 0);
+
+                final List<BakedQuad> cached = this.facadeQuadCache.getIfPresent(cacheKey);
+                if (cached != null) {
+                    quads.addAll(cached);
+                    continue;
+                }
+            }
+
             List<BakedQuad> modelQuads = new ArrayList<>();
             // If we are forcing transparent facades, fake the render layer, and grab all quads.
             if (transparent || layer == null) {
@@ -221,17 +271,6 @@ public class FacadeBuilder {
 
             // Set global element states.
 
-            // calculate the side mask.
-            int facadeMask = 0;
-            for (Entry<EnumFacing, FacadeRenderState> ent : facadeStates.entrySet()) {
-                EnumFacing s = ent.getKey();
-                if (s.getAxis() != side.getAxis()) {
-                    FacadeRenderState otherState = ent.getValue();
-                    if (!otherState.isTransparent()) {
-                        facadeMask |= 1 << s.ordinal();
-                    }
-                }
-            }
             // Setup the edge stripper.
             edgeStripper.setBounds(fullBounds);
             edgeStripper.setMask(facadeMask);
@@ -242,12 +281,17 @@ public class FacadeBuilder {
             kicker.setBox(fullBounds);
             kicker.setThickness(thinFacades ? THIN_THICKNESS : THICK_THICKNESS);
 
+            final List<BakedQuad> facadeQuads = new ArrayList<>();
+            // Tints usually depend on the biome, so tinted facades can't be shared.
+            boolean tinted = false;
+
             for (BakedQuad quad : modelQuads) {
                 // lookup the format in CachedFormat.
                 CachedFormat format = CachedFormat.lookup(quad.getFormat());
                 // If this quad has a tint index, setup the tinter.
                 if (quad.hasTintIndex()) {
                     tinter.setTint(blockColors.colorMultiplier(blockState, facadeAccess, pos, quad.getTintIndex()));
+                    tinted = true;
                 }
                 for (AxisAlignedBB box : holeStrips) {
                     // setup the clamper for this box
@@ -267,13 +311,26 @@ public class FacadeBuilder {
                     // Check if the collector got any data.
                     if (collectorQuad.full) {
                         // Add the result.
-                        quads.add(collectorQuad.bake());
+                        facadeQuads.add(collectorQuad.bake());
                     }
                 }
             }
+
+            if (cacheKey != null && !tinted) {
+                this.facadeQuadCache.put(cacheKey, facadeQuads);
+            }
+            quads.addAll(facadeQuads);
         }
     }
 
+    public CacheStats getFacadeCacheStats() {
+        return this.facadeQuadCache.stats();
+    }
+
+    public long getFacadeCacheSize() {
+        return this.facadeQuadCache.size();
+    }
+
     /**
      * This is slow, so should be cached.
      *
@@ -330,6 +387,50 @@ public class FacadeBuilder {
         return modelQuads;
     }
 
+    private static final class FacadeQuadKey {
+
+        private final IBlockState state;
+        private final BlockRenderLayer layer;
+        private final boolean forceTransparent;
+        private final EnumFacing side;
+        private final int facadeMask;
+        private final boolean thin;
+        private final boolean transparent;
+        private final AxisAlignedBB cutOut;
+        private final long rand;
+
+        private FacadeQuadKey(IBlockState state, BlockRenderLayer layer, boolean forceTransparent, EnumFacing side, int facadeMask, boolean thin, boolean transparent, AxisAlignedBB cutOut, long rand) {
+            this.state = state;
+            this.layer = layer;
+            this.forceTransparent = forceTransparent;
+            this.side = side;
+            this.facadeMask = facadeMask;
+            this.thin = thin;
+            this.transparent = transparent;
+            this.cutOut = cutOut;
+            this.rand = rand;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final FacadeQuadKey other = (FacadeQuadKey) o;
+            return this.state == other.state && this.layer == other.layer && this.forceTransparent == other.forceTransparent && this.side == other.side
+                    && this.facadeMask == other.facadeMask && this.thin == other.thin && this.transparent == other.transparent && this.rand == other.rand
+                    && Objects.equals(this.cutOut, other.cutOut);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.state, this.layer, this.forceTransparent, this.side, this.facadeMask, this.thin, this.transparent, this.cutOut, this.rand);
+        }
+    }
+
     /**
      * Given the actual facade bounding box, and the bounding boxes of all parts, determine the biggest union of AABB
      * that intersect with the facade's bounding
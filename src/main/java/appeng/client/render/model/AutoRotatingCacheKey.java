@@ -22,6 +22,8 @@ package appeng.client.render.model;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 
+import java.util.Objects;
+
 
 /**
  * Used as the cache key for caching automatically rotated baked models.
@@ -31,12 +33,14 @@ final class AutoRotatingCacheKey {
     private final EnumFacing forward;
     private final EnumFacing up;
     private final EnumFacing side;
+    private final Object extraState;
 
-    AutoRotatingCacheKey(IBlockState blockState, EnumFacing forward, EnumFacing up, EnumFacing side) {
+    AutoRotatingCacheKey(IBlockState blockState, EnumFacing forward, EnumFacing up, EnumFacing side, Object extraState) {
         this.blockState = blockState;
         this.forward = forward;
         this.up = up;
         this.side = side;
+        this.extraState = extraState;
     }
 
     public IBlockState getBlockState() {
@@ -65,7 +69,8 @@ final class AutoRotatingCacheKey {
         }
 
         AutoRotatingCacheKey cacheKey = (AutoRotatingCacheKey) o;
-        return this.blockState.equals(cacheKey.blockState) && this.forward == cacheKey.forward && this.up == cacheKey.up && this.side == cacheKey.side;
+        return this.blockState.equals(cacheKey.blockState) && this.forward == cacheKey.forward && this.up == cacheKey.up && this.side == cacheKey.side
+                && Objects.equals(this.extraState, cacheKey.extraState);
     }
 
     @Override
@@ -74,6 +79,7 @@ final class AutoRotatingCacheKey {
         result = 31 * result + this.forward.hashCode();
         result = 31 * result + this.up.hashCode();
         result = 31 * result + (this.side != null ? this.side.hashCode() : 0);
+        result = 31 * result + Objects.hashCode(this.extraState);
         return result;
     }
 }
@@ -41,7 +41,9 @@ import net.minecraftforge.client.model.pipeline.IVertexConsumer;
 import net.minecraftforge.client.model.pipeline.QuadGatheringTransformer;
 import net.minecraftforge.client.model.pipeline.UnpackedBakedQuad;
 import net.minecraftforge.common.property.IExtendedBlockState;
+import net.minecraftforge.common.property.IUnlistedProperty;
 
+import javax.annotation.Nullable;
 import javax.vecmath.Vector3f;
 import javax.vecmath.Vector4f;
 import java.util.ArrayList;
@@ -51,12 +53,23 @@ import java.util.List;
 public class AutoRotatingModel implements IBakedModel, IResourceManagerReloadListener {
 
     private final IBakedModel parent;
+    @Nullable
+    private final IUnlistedProperty<?> extraKeyProperty;
     private final LoadingCache<AutoRotatingCacheKey, List<BakedQuad>> quadCache;
 
     public AutoRotatingModel(IBakedModel parent) {
+        this(parent, null);
+    }
+
+    /**
+     * @param extraKeyProperty an extended state property besides forward and up whose value becomes part of the cache
+     *                         key, or null if the model has no other properties
+     */
+    public AutoRotatingModel(IBakedModel parent, @Nullable IUnlistedProperty<?> extraKeyProperty) {
         this.parent = parent;
-        // 6 (DUNSWE) * 6 (DUNSWE) * 7 (DUNSWE + null) = 252
-        this.quadCache = CacheBuilder.newBuilder().maximumSize(252).build(new CacheLoader<AutoRotatingCacheKey, List<BakedQuad>>() {
+        this.extraKeyProperty = extraKeyProperty;
+        // 6 (DUNSWE) * 6 (DUNSWE) * 7 (DUNSWE + null) = 252, plus room for the values of the extra key property
+        this.quadCache = CacheBuilder.newBuilder().maximumSize(1024).build(new CacheLoader<AutoRotatingCacheKey, List<BakedQuad>>() {
             @Override
             public List<BakedQuad> load(AutoRotatingCacheKey key) throws Exception {
                 return AutoRotatingModel.this.getRotatedModel(key.getBlockState(), key.getSide(), key.getForward(), key.getUp());
@@ -144,12 +157,28 @@ public class AutoRotatingModel implements IBakedModel, IResourceManagerReloadLis
         // The model has other properties than just forward/up, so it would cause our cache to inadvertendly also cache
         // these
         // additional states, possibly leading to huge isseus if the other extended state properties do not implement
-        // equals/hashCode correctly
+        // equals/hashCode correctly. The extra key property registered for the model becomes part of the key instead,
+        // as long as it is the only other property.
+        Object extraState = null;
         if (extState.getUnlistedProperties().size() != 2) {
-            return this.getRotatedModel(extState, side, forward, up);
+            if (this.extraKeyProperty == null || extState.getUnlistedProperties().size() != 3 || !extState.getUnlistedNames().contains(this.extraKeyProperty)) {
+                return this.getRotatedModel(extState, side, forward, up);
+            }
+
+            extraState = extState.getValue(this.extraKeyProperty);
         }
 
-        AutoRotatingCacheKey key = new AutoRotatingCacheKey(extState.getClean(), forward, up, side);
+        AutoRotatingCacheKey key = new AutoRotatingCacheKey(extState.getClean(), forward, up, side, extraState);
+
+        if (extraState != null) {
+            // The clean state in the key lacks the extra state, so the parent has to be asked with the full state.
+            List<BakedQuad> quads = this.quadCache.getIfPresent(key);
+            if (quads == null) {
+                quads = this.getRotatedModel(extState, side, forward, up);
+                this.quadCache.put(key, quads);
+            }
+            return quads;
+        }
 
         return this.quadCache.getUnchecked(key);
     }
@@ -21,6 +21,9 @@ package appeng.client.render.model;
 import appeng.block.storage.BlockDrive;
 import appeng.block.storage.DriveSlotState;
 import appeng.block.storage.DriveSlotsState;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
@@ -35,66 +38,92 @@ import javax.annotation.Nullable;
 import javax.vecmath.Matrix4f;
 import javax.vecmath.Vector3f;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 public class DriveBakedModel implements IBakedModel {
-    private final IBakedModel bakedBase;
-    private final Map<DriveSlotState, IBakedModel> bakedCells;
+    private static final int SLOT_COUNT = 10;
 
-    public DriveBakedModel(IBakedModel bakedBase, Map<DriveSlotState, IBakedModel> bakedCells) {
-        this.bakedBase = bakedBase;
-        this.bakedCells = bakedCells;
-    }
+    private final IBakedModel bakedBase;
 
-    @Override
-    public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand) {
+    /**
+     * The cell quads for every slot and slot state, already moved to the position of the slot.
+     */
+    private final List<Map<DriveSlotState, List<BakedQuad>>> slotQuads = new ArrayList<>(SLOT_COUNT);
 
-        List<BakedQuad> result = new ArrayList<>(this.bakedBase.getQuads(state, side, rand));
+    /**
+     * The complete unrotated model for every combination of slot states seen so far.
+     */
+    private final LoadingCache<DriveSlotsState, List<BakedQuad>> driveQuadCache;
 
-        if (side == null && state instanceof IExtendedBlockState) {
-            IExtendedBlockState extState = (IExtendedBlockState) state;
+    public DriveBakedModel(IBakedModel bakedBase, Map<DriveSlotState, IBakedModel> bakedCells) {
+        this.bakedBase = bakedBase;
 
-            if (!extState.getUnlistedNames().contains(BlockDrive.SLOTS_STATE)) {
-                return result;
+        for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 2; col++) {
+                Map<DriveSlotState, List<BakedQuad>> quadsByState = new EnumMap<>(DriveSlotState.class);
+                for (Map.Entry<DriveSlotState, IBakedModel> entry : bakedCells.entrySet()) {
+                    quadsByState.put(entry.getKey(), translateCell(entry.getValue(), row, col));
+                }
+                this.slotQuads.add(quadsByState);
             }
+        }
 
-            DriveSlotsState slotsState = extState.getValue(BlockDrive.SLOTS_STATE);
-            if (slotsState == null) {
-                return result;
+        this.driveQuadCache = CacheBuilder.newBuilder().maximumSize(1024).build(new CacheLoader<DriveSlotsState, List<BakedQuad>>() {
+            @Override
+            public List<BakedQuad> load(DriveSlotsState slotsState) {
+                return DriveBakedModel.this.buildQuads(slotsState);
             }
+        });
+    }
 
-            for (int row = 0; row < 5; row++) {
-                for (int col = 0; col < 2; col++) {
-                    DriveSlotState slotState = slotsState.getState(row * 2 + col);
-
-                    IBakedModel bakedCell = this.bakedCells.get(slotState);
-
-                    Matrix4f transform = new Matrix4f();
-                    transform.setIdentity();
+    private static List<BakedQuad> translateCell(IBakedModel bakedCell, int row, int col) {
+        Matrix4f transform = new Matrix4f();
+        transform.setIdentity();
+
+        // Position this drive model copy at the correct slot. The transform is based on
+        // the
+        // cell-model being in slot 0,0 at the top left of the drive.
+        float xOffset = -col * 8 / 16.0f;
+        float yOffset = -row * 3 / 16.0f;
+
+        transform.setTranslation(new Vector3f(xOffset, yOffset, 0));
+
+        List<BakedQuad> result = new ArrayList<>();
+        MatrixVertexTransformer transformer = new MatrixVertexTransformer(transform);
+        for (BakedQuad bakedQuad : bakedCell.getQuads(null, null, 0)) {
+            UnpackedBakedQuad.Builder builder = new UnpackedBakedQuad.Builder(bakedQuad.getFormat());
+            transformer.setParent(builder);
+            transformer.setVertexFormat(builder.getVertexFormat());
+            bakedQuad.pipe(transformer);
+            result.add(builder.build());
+        }
+        return result;
+    }
 
-                    // Position this drive model copy at the correct slot. The transform is based on
-                    // the
-                    // cell-model being in slot 0,0 at the top left of the drive.
-                    float xOffset = -col * 8 / 16.0f;
-                    float yOffset = -row * 3 / 16.0f;
+    private List<BakedQuad> buildQuads(DriveSlotsState slotsState) {
+        List<BakedQuad> result = new ArrayList<>(this.bakedBase.getQuads(null, null, 0));
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            result.addAll(this.slotQuads.get(slot).get(slotsState.getState(slot)));
+        }
+        return result;
+    }
 
-                    transform.setTranslation(new Vector3f(xOffset, yOffset, 0));
+    @Override
+    public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand) {
+        if (side == null && state instanceof IExtendedBlockState) {
+            IExtendedBlockState extState = (IExtendedBlockState) state;
 
-                    MatrixVertexTransformer transformer = new MatrixVertexTransformer(transform);
-                    for (BakedQuad bakedQuad : bakedCell.getQuads(state, null, rand)) {
-                        UnpackedBakedQuad.Builder builder = new UnpackedBakedQuad.Builder(bakedQuad.getFormat());
-                        transformer.setParent(builder);
-                        transformer.setVertexFormat(builder.getVertexFormat());
-                        bakedQuad.pipe(transformer);
-                        result.add(builder.build());
-                    }
+            if (extState.getUnlistedNames().contains(BlockDrive.SLOTS_STATE)) {
+                DriveSlotsState slotsState = extState.getValue(BlockDrive.SLOTS_STATE);
+                if (slotsState != null) {
+                    return this.driveQuadCache.getUnchecked(slotsState);
                 }
             }
         }
 
-
-        return result;
+        return this.bakedBase.getQuads(state, side, rand);
     }
 
     @Override
@@ -433,6 +433,9 @@ public class ContainerCraftConfirm extends AEBaseContainer {
     }
 
     public void setJob(final Future<ICraftingJob> job) {
+        if (this.job != null && this.job != job && !this.job.isDone()) {
+            this.job.cancel(true);
+        }
         this.job = job;
     }
 
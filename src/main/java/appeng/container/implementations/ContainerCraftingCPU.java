@@ -54,13 +54,29 @@ import java.util.List;
 
 public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorHandlerReceiver<IAEItemStack>, ICustomNameObject {
 
+    /**
+     * Minimum number of ticks between two updates of the progress and the item breakdown sent to the viewer.
+     */
+    private static final int UPDATE_INTERVAL = 10;
+
     private final IItemList<IAEItemStack> list = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private IItemList<IAEItemStack> sentStorage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private IItemList<IAEItemStack> sentActive = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private IItemList<IAEItemStack> sentPending = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private IGrid network;
     private CraftingCPUCluster monitor = null;
     private String cpuName = null;
+    private boolean summaryOnly = false;
+    private int ticksSinceUpdate = UPDATE_INTERVAL;
 
     @GuiSync(0)
     public long eta = -1;
+    @GuiSync(1)
+    public long elapsedTime = 0;
+    @GuiSync(2)
+    public long remainingItems = 0;
+    @GuiSync(3)
+    public long startItems = 0;
     private GuiCraftingCPU guiCraftingCPU;
 
     public ContainerCraftingCPU(final InventoryPlayer ip, final Object te) {
@@ -85,6 +101,25 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
             return;
         }
 
+        this.subscribe(c);
+    }
+
+    /**
+     * Only the progress summary (elapsed time, remaining and started item count) is synced while enabled, the item
+     * breakdown is neither tracked nor sent.
+     */
+    public void setSummaryOnly(final boolean summaryOnly) {
+        if (this.summaryOnly != summaryOnly) {
+            this.summaryOnly = summaryOnly;
+            this.subscribe(this.getMonitor());
+        }
+    }
+
+    public boolean isSummaryOnly() {
+        return this.summaryOnly;
+    }
+
+    private void subscribe(final ICraftingCPU c) {
         if (this.getMonitor() != null) {
             this.getMonitor().removeListener(this);
         }
@@ -99,12 +134,20 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
             }
         }
 
+        // the client starts from an empty breakdown again.
+        this.list.resetStatus();
+        this.sentStorage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        this.sentActive = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        this.sentPending = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        this.ticksSinceUpdate = UPDATE_INTERVAL;
+
         if (c instanceof CraftingCPUCluster) {
             this.cpuName = c.getName();
             this.setMonitor((CraftingCPUCluster) c);
-            this.list.resetStatus();
-            this.getMonitor().getListOfItem(this.list, CraftingItemList.ALL);
-            this.getMonitor().addListener(this, null);
+            if (!this.summaryOnly) {
+                this.getMonitor().getListOfItem(this.list, CraftingItemList.ALL);
+                this.getMonitor().addListener(this, null);
+            }
             this.setEstimatedTime(0);
         } else {
             this.setMonitor(null);
@@ -140,48 +183,83 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
     @Override
     public void detectAndSendChanges() {
         if (Platform.isServer() && this.getMonitor() != null) {
-            if (this.getEstimatedTime() >= 0) {
+            // the synced fields change every tick while crafting, so they are refreshed with the breakdown.
+            this.ticksSinceUpdate++;
+            if (this.ticksSinceUpdate >= UPDATE_INTERVAL) {
+                this.ticksSinceUpdate = 0;
+
                 final long elapsedTime = this.getMonitor().getElapsedTime();
-                final double remainingItems = this.getMonitor().getRemainingItemCount();
-                final double startItems = this.getMonitor().getStartItemCount();
-                final long eta = (long) (elapsedTime / Math.max(1d, (startItems - remainingItems)) * remainingItems);
-                this.setEstimatedTime(eta);
+                final long remainingItems = this.getMonitor().getRemainingItemCount();
+                final long startItems = this.getMonitor().getStartItemCount();
+
+                if (this.getEstimatedTime() >= 0) {
+                    final long eta = (long) (elapsedTime / Math.max(1d, (startItems - remainingItems)) * remainingItems);
+                    this.setEstimatedTime(eta);
+                }
+
+                this.elapsedTime = elapsedTime;
+                this.remainingItems = remainingItems;
+                this.startItems = startItems;
+
+                if (!this.summaryOnly && !this.list.isEmpty()) {
+                    this.sendItemUpdates();
+                }
             }
-            if (!this.list.isEmpty()) {
-                try {
-                    final PacketMEInventoryUpdate a = new PacketMEInventoryUpdate((byte) 0);
-                    final PacketMEInventoryUpdate b = new PacketMEInventoryUpdate((byte) 1);
-                    final PacketMEInventoryUpdate c = new PacketMEInventoryUpdate((byte) 2);
-
-                    for (final IAEItemStack out : this.list) {
-                        a.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.STORAGE));
-                        b.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.ACTIVE));
-                        c.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.PENDING));
-                    }
+        }
+        super.detectAndSendChanges();
+    }
 
-                    this.list.resetStatus();
+    /**
+     * Sends the entries that changed since the last update, and per list only the ones whose amount differs from what
+     * this viewer was sent before.
+     */
+    private void sendItemUpdates() {
+        try {
+            final PacketMEInventoryUpdate a = new PacketMEInventoryUpdate((byte) 0);
+            final PacketMEInventoryUpdate b = new PacketMEInventoryUpdate((byte) 1);
+            final PacketMEInventoryUpdate c = new PacketMEInventoryUpdate((byte) 2);
+
+            for (final IAEItemStack out : this.list) {
+                this.appendChanged(a, this.sentStorage, this.getMonitor().getItemStack(out, CraftingItemList.STORAGE));
+                this.appendChanged(b, this.sentActive, this.getMonitor().getItemStack(out, CraftingItemList.ACTIVE));
+                this.appendChanged(c, this.sentPending, this.getMonitor().getItemStack(out, CraftingItemList.PENDING));
+            }
 
-                    for (final Object g : this.listeners) {
-                        if (g instanceof EntityPlayer) {
-                            if (!a.isEmpty()) {
-                                NetworkHandler.instance().sendTo(a, (EntityPlayerMP) g);
-                            }
+            this.list.resetStatus();
 
-                            if (!b.isEmpty()) {
-                                NetworkHandler.instance().sendTo(b, (EntityPlayerMP) g);
-                            }
+            for (final Object g : this.listeners) {
+                if (g instanceof EntityPlayer) {
+                    if (!a.isEmpty()) {
+                        NetworkHandler.instance().sendTo(a, (EntityPlayerMP) g);
+                    }
 
-                            if (!c.isEmpty()) {
-                                NetworkHandler.instance().sendTo(c, (EntityPlayerMP) g);
-                            }
-                        }
+                    if (!b.isEmpty()) {
+                        NetworkHandler.instance().sendTo(b, (EntityPlayerMP) g);
+                    }
+
+                    if (!c.isEmpty()) {
+                        NetworkHandler.instance().sendTo(c, (EntityPlayerMP) g);
                     }
-                } catch (final IOException e) {
-                    // :P
                 }
             }
+        } catch (final IOException e) {
+            // :P
+        }
+    }
+
+    private void appendChanged(final PacketMEInventoryUpdate packet, final IItemList<IAEItemStack> sent, final IAEItemStack current) throws IOException {
+        final IAEItemStack last = sent.findPrecise(current);
+        final long previous = last == null ? 0 : last.getStackSize();
+
+        if (previous != current.getStackSize()) {
+            packet.appendItem(current);
+
+            if (last == null) {
+                sent.add(current.copy());
+            } else {
+                last.setStackSize(current.getStackSize());
+            }
         }
-        super.detectAndSendChanges();
     }
 
     @Override
@@ -26,6 +26,7 @@ import appeng.container.guisync.GuiSync;
 import appeng.container.interfaces.IProgressProvider;
 import appeng.container.slot.SlotOutput;
 import appeng.container.slot.SlotRestrictedInput;
+import appeng.core.features.registries.inscriber.InscriberRecipeIndex;
 import appeng.tile.misc.TileInscriber;
 import appeng.util.Platform;
 import net.minecraft.entity.player.InventoryPlayer;
@@ -115,7 +116,7 @@ public class ContainerInscriber extends ContainerUpgradeable implements IProgres
             }
 
             boolean matches = false;
-            for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes()) {
+            for (final IInscriberRecipe recipe : InscriberRecipeIndex.get().getCandidatesForPlates(top, bot)) {
                 // Check if plateA matches any item in the list of top components of the recipe
                 final boolean matchA = top.isEmpty() && recipe.getTopInputs().isEmpty() ||
                         recipe.getTopInputs().stream().anyMatch(topItem -> Platform.itemComparisons().isSameItem(top, topItem)) &&
@@ -154,7 +155,7 @@ public class ContainerInscriber extends ContainerUpgradeable implements IProgres
             }
 
             // everything else
-            for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes()) {
+            for (final IInscriberRecipe recipe : InscriberRecipeIndex.get().getCandidatesForPlate(otherSlot)) {
                 boolean isValid = false;
                 // Check if otherSlot matches any item in the top component list
                 boolean matchTop = recipe.getTopInputs().stream()
@@ -24,6 +24,7 @@ import appeng.api.config.Upgrades;
 import appeng.api.config.YesNo;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
+import appeng.api.networking.IMachineSet;
 import appeng.api.networking.security.IActionHost;
 import appeng.client.me.SlotDisconnected;
 import appeng.container.AEBaseContainer;
@@ -33,8 +34,10 @@ import appeng.core.sync.packets.PacketCompressedNBT;
 import appeng.core.sync.packets.PacketInventoryAction;
 import appeng.helpers.DualityInterface;
 import appeng.helpers.IInterfaceHost;
+import appeng.helpers.IInterfaceTerminalListener;
 import appeng.helpers.InventoryAction;
 import appeng.items.misc.ItemEncodedPattern;
+import appeng.me.MachineSet;
 import appeng.parts.misc.PartInterface;
 import appeng.parts.reporting.PartInterfaceTerminal;
 import appeng.tile.inventory.AppEngInternalInventory;
@@ -58,14 +61,17 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 
 import static appeng.helpers.ItemStackHelper.stackWriteToNBT;
 
 
-public final class ContainerInterfaceTerminal extends AEBaseContainer {
+public final class ContainerInterfaceTerminal extends AEBaseContainer implements IInterfaceTerminalListener {
 
     /**
      * this stuff is all server side..
@@ -74,8 +80,15 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer {
     private static long autoBase = Long.MIN_VALUE;
     private final Map<IInterfaceHost, InvTracker> diList = new HashMap<>();
     private final Map<Long, InvTracker> byId = new HashMap<>();
+    private final Set<IInterfaceHost> listeningTo = new HashSet<>();
+    private final Set<IInterfaceHost> changedHosts = new HashSet<>();
+    private final Set<InvTracker> changedSlots = new HashSet<>();
     private IGrid grid;
     private NBTTagCompound data = new NBTTagCompound();
+    private boolean initialized = false;
+    private boolean wasActive = false;
+    private IGrid knownGrid;
+    private long knownMachinesVersion = -1;
 
     public ContainerInterfaceTerminal(final InventoryPlayer ip, final PartInterfaceTerminal anchor) {
         super(ip, anchor);
@@ -99,72 +112,38 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer {
             return;
         }
 
-        int total = 0;
-        boolean missing = false;
+        // interfaces report their own changes, only joining or leaving nodes have to be detected here.
+        final boolean active = this.isTerminalActive();
 
-        final IActionHost host = this.getActionHost();
-        if (host != null) {
-            final IGridNode agn = host.getActionableNode();
-            if (agn != null && agn.isActive()) {
-                for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
-                    if (gn.isActive()) {
-                        final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                        if (ih.getInterfaceDuality().getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.NO) {
-                            continue;
-                        }
-
-                        final InvTracker t = this.diList.get(ih);
-
-                        if (t == null) {
-                            missing = true;
-                        } else {
-                            final DualityInterface dual = ih.getInterfaceDuality();
-                            if (!t.unlocalizedName.equals(dual.getTermName())) {
-                                missing = true;
-                            }
-                        }
-
-                        total++;
-                    }
-                }
-
-                for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
-                    if (gn.isActive()) {
-                        final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                        if (ih.getInterfaceDuality().getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.NO) {
-                            continue;
-                        }
-
-                        final InvTracker t = this.diList.get(ih);
-
-                        if (t == null) {
-                            missing = true;
-                        } else {
-                            final DualityInterface dual = ih.getInterfaceDuality();
-                            if (!t.unlocalizedName.equals(dual.getTermName())) {
-                                missing = true;
-                            }
-                        }
+        if (!this.initialized) {
+            this.regenList(this.data, active);
+            this.initialized = true;
+        } else if (active != this.wasActive || active && this.haveMachinesChanged()) {
+            this.reconcile(this.data, active);
+        }
 
-                        total++;
-                    }
-                }
+        for (final IInterfaceHost ih : this.changedHosts) {
+            if (this.listeningTo.contains(ih)) {
+                this.updateRow(this.data, ih);
             }
         }
 
-        if (total != this.diList.size() || missing) {
-            this.regenList(this.data);
-        } else {
-            for (final Entry<IInterfaceHost, InvTracker> en : this.diList.entrySet()) {
-                final InvTracker inv = en.getValue();
-                for (int x = 0; x < inv.server.getSlots(); x++) {
+        this.changedHosts.clear();
+        this.wasActive = active;
+
+        for (final InvTracker inv : this.changedSlots) {
+            if (this.byId.get(inv.which) == inv) {
+                for (int x = inv.dirtySlots.nextSetBit(0); x >= 0 && x < inv.server.getSlots(); x = inv.dirtySlots.nextSetBit(x + 1)) {
                     if (this.isDifferent(inv.server.getStackInSlot(x), inv.client.getStackInSlot(x))) {
                         this.addItems(this.data, inv, x, 1);
                     }
                 }
             }
+            inv.dirtySlots.clear();
         }
 
+        this.changedSlots.clear();
+
         if (!this.data.isEmpty()) {
             try {
                 NetworkHandler.instance().sendTo(new PacketCompressedNBT(this.data), (EntityPlayerMP) this.getPlayerInv().player);
@@ -176,6 +155,31 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer {
         }
     }
 
+    @Override
+    public void onContainerClosed(final EntityPlayer player) {
+        super.onContainerClosed(player);
+
+        for (final IInterfaceHost ih : this.listeningTo) {
+            ih.getInterfaceDuality().removeTerminalListener(this);
+        }
+
+        this.listeningTo.clear();
+    }
+
+    @Override
+    public void onPatternSlotChanged(final IInterfaceHost host, final int slot) {
+        final InvTracker inv = this.diList.get(host);
+        if (inv != null) {
+            inv.dirtySlots.set(slot);
+            this.changedSlots.add(inv);
+        }
+    }
+
+    @Override
+    public void onInterfaceChanged(final IInterfaceHost host) {
+        this.changedHosts.add(host);
+    }
+
     @Override
     public void doAction(final EntityPlayerMP player, final InventoryAction action, final int slot, final long id) {
         final InvTracker inv = this.byId.get(id);
@@ -302,38 +306,117 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer {
         }
     }
 
-    private void regenList(final NBTTagCompound data) {
-        this.byId.clear();
-        this.diList.clear();
-
+    private boolean isTerminalActive() {
         final IActionHost host = this.getActionHost();
         if (host != null) {
             final IGridNode agn = host.getActionableNode();
             if (agn != null && agn.isActive()) {
-                for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
-                    final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                    final DualityInterface dual = ih.getInterfaceDuality();
-                    if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
-                        this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
-                    }
-                }
-
-                for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
-                    final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                    final DualityInterface dual = ih.getInterfaceDuality();
-                    if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
-                        this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
-                    }
-                }
+                // follow the terminal into the grid it ends up in after merges and splits
+                this.grid = agn.getGrid();
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Compares the membership versions of the interface machine sets with the ones of the last {@link #reconcile}, so
+     * an interface replaced by another in the same tick is noticed as well, without walking the nodes.
+     */
+    private boolean haveMachinesChanged() {
+        return this.grid != this.knownGrid || this.getMachinesVersion() != this.knownMachinesVersion;
+    }
+
+    private long getMachinesVersion() {
+        return getVersion(this.grid.getMachines(TileInterface.class)) + getVersion(this.grid.getMachines(PartInterface.class));
+    }
+
+    private static long getVersion(final IMachineSet set) {
+        // every join or leave increments the version, so the sum of both sets only grows
+        return set instanceof MachineSet ? ((MachineSet) set).getVersion() : set.size();
+    }
+
+    private void regenList(final NBTTagCompound data, final boolean active) {
+        this.byId.clear();
+        this.diList.clear();
 
         data.setBoolean("clear", true);
 
-        for (final Entry<IInterfaceHost, InvTracker> en : this.diList.entrySet()) {
-            final InvTracker inv = en.getValue();
-            this.byId.put(inv.which, inv);
-            this.addItems(data, inv, 0, inv.server.getSlots());
+        for (final IInterfaceHost ih : this.listeningTo) {
+            ih.getInterfaceDuality().removeTerminalListener(this);
+        }
+        this.listeningTo.clear();
+
+        this.reconcile(data, active);
+    }
+
+    /**
+     * Subscribes to interfaces that joined the grid and drops the rows of the ones that left it. Rows of already known
+     * interfaces are kept, their changes arrive through {@link IInterfaceTerminalListener}.
+     */
+    private void reconcile(final NBTTagCompound data, final boolean active) {
+        final Set<IInterfaceHost> present = new HashSet<>();
+        this.knownGrid = active ? this.grid : null;
+        this.knownMachinesVersion = active ? this.getMachinesVersion() : -1;
+
+        if (active) {
+            for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
+                present.add((IInterfaceHost) gn.getMachine());
+            }
+
+            for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
+                present.add((IInterfaceHost) gn.getMachine());
+            }
+        }
+
+        final Iterator<IInterfaceHost> i = this.listeningTo.iterator();
+        while (i.hasNext()) {
+            final IInterfaceHost ih = i.next();
+            if (!present.contains(ih)) {
+                ih.getInterfaceDuality().removeTerminalListener(this);
+                this.removeRow(data, ih);
+                i.remove();
+            }
+        }
+
+        for (final IInterfaceHost ih : present) {
+            if (this.listeningTo.add(ih)) {
+                ih.getInterfaceDuality().addTerminalListener(this);
+                this.updateRow(data, ih);
+            }
+        }
+    }
+
+    private void updateRow(final NBTTagCompound data, final IInterfaceHost ih) {
+        final InvTracker known = this.diList.get(ih);
+        final DualityInterface dual = ih.getInterfaceDuality();
+        final IGridNode gn = ih.getActionableNode();
+
+        if (gn == null || gn.getGrid() != this.grid || !gn.isActive() || dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.NO) {
+            this.removeRow(data, ih);
+            return;
+        }
+
+        final String name = dual.getTermName();
+        if (known != null && known.unlocalizedName.equals(name) && known.numUpgrades == dual.getInstalledUpgrades(Upgrades.PATTERN_EXPANSION)) {
+            return;
+        }
+
+        // the client keys rows by id, so a renamed row is replaced instead of updated.
+        this.removeRow(data, ih);
+
+        final InvTracker inv = new InvTracker(dual, dual.getPatterns(), name);
+        this.diList.put(ih, inv);
+        this.byId.put(inv.which, inv);
+        this.addItems(data, inv, 0, inv.server.getSlots());
+    }
+
+    private void removeRow(final NBTTagCompound data, final IInterfaceHost ih) {
+        final InvTracker inv = this.diList.remove(ih);
+        if (inv != null) {
+            this.byId.remove(inv.which);
+            data.removeTag('=' + Long.toString(inv.which, Character.MAX_RADIX));
+            data.setBoolean('-' + Long.toString(inv.which, Character.MAX_RADIX), true);
         }
     }
 
@@ -410,6 +493,7 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer {
         private final BlockPos pos;
         private final int dim;
         private final int numUpgrades;
+        private final BitSet dirtySlots = new BitSet();
 
         public InvTracker(final DualityInterface dual, final IItemHandler patterns, final String unlocalizedName) {
             this.server = patterns;
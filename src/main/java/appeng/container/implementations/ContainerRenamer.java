@@ -5,6 +5,7 @@ import appeng.api.parts.IPart;
 import appeng.client.gui.widgets.MEGuiTextField;
 import appeng.container.AEBaseContainer;
 import appeng.helpers.ICustomNameObject;
+import appeng.helpers.IInterfaceHost;
 import appeng.util.Platform;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.tileentity.TileEntity;
@@ -30,6 +31,9 @@ public class ContainerRenamer extends AEBaseContainer {
 
     public void setNewName(String newValue) {
         this.namedObject.setCustomName(newValue);
+        if (this.namedObject instanceof IInterfaceHost) {
+            ((IInterfaceHost) this.namedObject).getInterfaceDuality().notifyTerminalListeners();
+        }
 
     }
 
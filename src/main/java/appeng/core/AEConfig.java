@@ -81,10 +81,15 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     private boolean useColoredCraftingStatus;
     private boolean disableColoredCableRecipesInJEI = true;
     private int craftingCalculationTimePerTick = 5;
+    private int craftingCalculationThreads = 4;
+    private int craftingCalculationsPerPlayer = 1;
+    private int craftingCalculationsPerGrid = 2;
+    private double craftingCalculationMemoryShare = 0.25;
     private PowerUnits selectedPowerUnit = PowerUnits.AE;
     private boolean showCraftableTooltip = true;
     private boolean showPlacementPreview = true;
     private boolean showCellContentsPreview = true;
+    private boolean craftingStatusSummaryOnly = false;
 
     // Spatial IO/Dimension
     private int storageProviderID = -1;
@@ -240,6 +245,10 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 
         if (this.isFeatureEnabled(AEFeature.CRAFTING_CPU)) {
             this.craftingCalculationTimePerTick = this.get("craftingCPU", "craftingCalculationTimePerTick", this.craftingCalculationTimePerTick).getInt(this.craftingCalculationTimePerTick);
+            this.craftingCalculationThreads = Math.max(1, this.get("craftingCPU", "craftingCalculationThreads", this.craftingCalculationThreads, "Threads calculating crafting jobs, further requests are queued.").getInt(this.craftingCalculationThreads));
+            this.craftingCalculationsPerPlayer = Math.max(1, this.get("craftingCPU", "craftingCalculationsPerPlayer", this.craftingCalculationsPerPlayer, "Crafting calculations a single player can run at the same time.").getInt(this.craftingCalculationsPerPlayer));
+            this.craftingCalculationsPerGrid = Math.max(1, this.get("craftingCPU", "craftingCalculationsPerGrid", this.craftingCalculationsPerGrid, "Crafting calculations a single network can run at the same time.").getInt(this.craftingCalculationsPerGrid));
+            this.craftingCalculationMemoryShare = this.get("craftingCPU", "craftingCalculationMemoryShare", this.craftingCalculationMemoryShare, "Share of the maximum heap the estimated storage snapshots of running crafting calculations may use before further ones wait.").getDouble(this.craftingCalculationMemoryShare);
         }
 
         this.updatable = true;
@@ -261,6 +270,7 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         this.showCraftableTooltip = this.get("Client", "showCraftableTooltip", true, "Whether to add \"Craftable\" to item tooltips when they can be crafted automatically.").getBoolean(true);
         this.showPlacementPreview = this.get("Client", "showPlacementPreview", true, "Whether to show a preview of part and facade placement.").getBoolean(true);
         this.showCellContentsPreview = this.get("Client", "showCellContentsPreview", true, "Whether to show a preview of cell contents in tooltips.").getBoolean(true);
+        this.craftingStatusSummaryOnly = this.get("Client", "craftingStatusSummaryOnly", false, "Whether crafting status screens only show the progress of a job instead of every item it involves.").getBoolean(false);
 
         // load buttons..
         for (int btnNum = 0; btnNum < 4; btnNum++) {
@@ -526,6 +536,10 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         return showCellContentsPreview;
     }
 
+    public boolean isCraftingStatusSummaryOnly() {
+        return this.craftingStatusSummaryOnly;
+    }
+
     public boolean isDisableColoredCableRecipesInJEI() {
         return this.disableColoredCableRecipesInJEI;
     }
@@ -534,6 +548,22 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         return this.craftingCalculationTimePerTick;
     }
 
+    public int getCraftingCalculationThreads() {
+        return this.craftingCalculationThreads;
+    }
+
+    public int getCraftingCalculationsPerPlayer() {
+        return this.craftingCalculationsPerPlayer;
+    }
+
+    public int getCraftingCalculationsPerGrid() {
+        return this.craftingCalculationsPerGrid;
+    }
+
+    public double getCraftingCalculationMemoryShare() {
+        return this.craftingCalculationMemoryShare;
+    }
+
     public PowerUnits getSelectedPowerUnit() {
         return this.selectedPowerUnit;
     }
@@ -110,6 +110,7 @@ public enum AEFeature {
     ME_DRIVE("MEDrive", Constants.CATEGORY_STORAGE),
     IO_PORT("IOPort", Constants.CATEGORY_STORAGE),
     CONDENSER("Condenser", Constants.CATEGORY_STORAGE),
+    COMPACT_NETWORK_ITEM_LISTS("CompactNetworkItemLists", Constants.CATEGORY_STORAGE, false, "Keeps the item list of networks in a compact form, which uses less memory on networks with very many item types. Reading the list creates a short-lived stack per item, and fuzzy searches of damageable items compare every variant."),
 
     NETWORK_TOOL("NetworkTool", Constants.CATEGORY_NETWORK_TOOL),
     MEMORY_CARD("MemoryCard", Constants.CATEGORY_NETWORK_TOOL),
@@ -22,6 +22,7 @@ package appeng.core.features.registries.grinder;
 import appeng.api.features.*;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
+import appeng.core.features.AEFeature;
 import appeng.recipes.ores.IOreListener;
 import appeng.recipes.ores.OreDictionaryHandler;
 import appeng.util.Platform;
@@ -110,9 +111,13 @@ public final class GrinderRecipeManager implements IGrinderRegistry, IOreListene
 
     @Override
     public IGrinderRecipe getRecipeForInput(final ItemStack input) {
-        this.log("Looking up recipe for '%1$s'", Platform.getItemDisplayName(input));
+        // slots and tiles call this for every stack they see, so skip building display names unless they are logged
+        final boolean logging = AEConfig.instance().isFeatureEnabled(AEFeature.GRINDER_LOGGING);
+        if (logging) {
+            this.log("Looking up recipe for '%1$s'", Platform.getItemDisplayName(input));
+        }
 
-        if (input == null) {
+        if (input == null || input.isEmpty()) {
             return null;
         }
 
@@ -122,7 +127,9 @@ public final class GrinderRecipeManager implements IGrinderRegistry, IOreListene
             return null;
         }
 
-        this.log("Recipe for '%1$s' found '%2$s'", input.getTranslationKey(), Platform.getItemDisplayName(recipe.getOutput()));
+        if (logging) {
+            this.log("Recipe for '%1$s' found '%2$s'", input.getTranslationKey(), Platform.getItemDisplayName(recipe.getOutput()));
+        }
         return recipe;
     }
 
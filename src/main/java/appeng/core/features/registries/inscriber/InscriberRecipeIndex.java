@@ -0,0 +1,144 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.features.registries.inscriber;
+
+
+import appeng.api.AEApi;
+import appeng.api.features.IInscriberRecipe;
+import appeng.api.features.IInscriberRegistry;
+import appeng.util.Platform;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Immutable lookup of inscriber recipes by the items of their inputs and plates.
+ * <p>
+ * The index only narrows down the recipes that can match, callers still compare the stacks of the candidates. It is
+ * rebuilt by the {@link InscriberRegistry} after recipes were added or removed.
+ */
+public final class InscriberRecipeIndex {
+
+    private final ImmutableListMultimap<Item, IInscriberRecipe> byInput;
+    private final ImmutableListMultimap<Item, IInscriberRecipe> byPlate;
+    private final ImmutableListMultimap<Item, ItemStack> plates;
+    private final ImmutableList<IInscriberRecipe> withoutPlate;
+
+    InscriberRecipeIndex(final Collection<IInscriberRecipe> recipes) {
+        final ImmutableListMultimap.Builder<Item, IInscriberRecipe> byInput = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Item, IInscriberRecipe> byPlate = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Item, ItemStack> plates = ImmutableListMultimap.builder();
+        final ImmutableList.Builder<IInscriberRecipe> withoutPlate = ImmutableList.builder();
+
+        for (final IInscriberRecipe recipe : recipes) {
+            for (final Item item : items(recipe.getInputs())) {
+                byInput.put(item, recipe);
+            }
+
+            final Set<Item> plateItems = new LinkedHashSet<>();
+            plateItems.addAll(items(recipe.getTopInputs()));
+            plateItems.addAll(items(recipe.getBottomInputs()));
+            for (final Item item : plateItems) {
+                byPlate.put(item, recipe);
+            }
+
+            for (final ItemStack plate : recipe.getTopInputs()) {
+                plates.put(plate.getItem(), plate);
+            }
+            for (final ItemStack plate : recipe.getBottomInputs()) {
+                plates.put(plate.getItem(), plate);
+            }
+
+            if (recipe.getTopInputs().isEmpty() || recipe.getBottomInputs().isEmpty()) {
+                withoutPlate.add(recipe);
+            }
+        }
+
+        this.byInput = byInput.build();
+        this.byPlate = byPlate.build();
+        this.plates = plates.build();
+        this.withoutPlate = withoutPlate.build();
+    }
+
+    /**
+     * @return the index of the inscriber registry of AE2
+     */
+    public static InscriberRecipeIndex get() {
+        final IInscriberRegistry registry = AEApi.instance().registries().inscriber();
+        if (registry instanceof InscriberRegistry) {
+            return ((InscriberRegistry) registry).getIndex();
+        }
+        return new InscriberRecipeIndex(registry.getRecipes());
+    }
+
+    private static Set<Item> items(final Collection<ItemStack> stacks) {
+        final Set<Item> items = new LinkedHashSet<>();
+        for (final ItemStack stack : stacks) {
+            items.add(stack.getItem());
+        }
+        return items;
+    }
+
+    /**
+     * @return the recipes with an input of the same item as the stack, in any damage or NBT
+     */
+    @Nonnull
+    public List<IInscriberRecipe> getCandidatesForInput(@Nonnull final ItemStack input) {
+        return this.byInput.get(input.getItem());
+    }
+
+    /**
+     * @return the recipes that use the item of either plate, or that leave one plate slot empty
+     */
+    @Nonnull
+    public Collection<IInscriberRecipe> getCandidatesForPlates(@Nonnull final ItemStack plateA, @Nonnull final ItemStack plateB) {
+        final Set<IInscriberRecipe> candidates = new LinkedHashSet<>(this.byPlate.get(plateA.getItem()));
+        candidates.addAll(this.byPlate.get(plateB.getItem()));
+        candidates.addAll(this.withoutPlate);
+        return candidates;
+    }
+
+    /**
+     * @return the recipes that use the item of the plate as top or bottom
+     */
+    @Nonnull
+    public List<IInscriberRecipe> getCandidatesForPlate(@Nonnull final ItemStack plate) {
+        return this.byPlate.get(plate.getItem());
+    }
+
+    /**
+     * @return true if the stack is used as top or bottom plate by any recipe
+     */
+    public boolean isPlate(@Nonnull final ItemStack stack) {
+        for (final ItemStack plate : this.plates.get(stack.getItem())) {
+            if (Platform.itemComparisons().isSameItem(stack, plate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
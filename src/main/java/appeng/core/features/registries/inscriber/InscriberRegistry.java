@@ -39,6 +39,7 @@ public final class InscriberRegistry implements IInscriberRegistry {
     private final Set<IInscriberRecipe> recipes;
     private final Set<ItemStack> optionals;
     private final Set<ItemStack> inputs;
+    private InscriberRecipeIndex index;
 
     public InscriberRegistry() {
         this.inputs = new HashSet<>();
@@ -64,6 +65,17 @@ public final class InscriberRegistry implements IInscriberRegistry {
         return this.inputs;
     }
 
+    /**
+     * @return the index of the current recipes, rebuilt on first use after the recipes changed
+     */
+    @Nonnull
+    public synchronized InscriberRecipeIndex getIndex() {
+        if (this.index == null) {
+            this.index = new InscriberRecipeIndex(this.recipes);
+        }
+        return this.index;
+    }
+
     @Nonnull
     @Override
     public IInscriberRecipeBuilder builder() {
@@ -78,6 +90,7 @@ public final class InscriberRegistry implements IInscriberRegistry {
             this.optionals.addAll(recipe.getTopInputs());
             this.optionals.addAll(recipe.getBottomInputs());
             this.inputs.addAll(recipe.getInputs());
+            this.invalidateIndex();
 
             return true;
         }
@@ -99,9 +112,17 @@ public final class InscriberRegistry implements IInscriberRegistry {
             }
         }
 
+        if (changed) {
+            this.invalidateIndex();
+        }
+
         return changed;
     }
 
+    private synchronized void invalidateIndex() {
+        this.index = null;
+    }
+
     /**
      * Internal {@link IInscriberRecipeBuilder} implementation.
      * Needs to be adapted to represent a correct {@link IInscriberRecipe}
@@ -156,6 +156,8 @@ public enum GuiText {
     Crafting,
     Scheduled,
     CraftingStatus,
+    CraftingProgress,
+    CraftingElapsed,
     Cancel,
     ETA,
     ETAFormat,
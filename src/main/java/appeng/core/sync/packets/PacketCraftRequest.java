@@ -105,9 +105,15 @@ public class PacketCraftRequest extends AppEngPacket {
                             final ContainerCraftConfirm ccc = (ContainerCraftConfirm) player.openContainer;
                             ccc.setAutoStart(this.heldShift);
                             ccc.setJob(futureJob);
+                            futureJob = null;
                             cca.detectAndSendChanges();
                         }
                     }
+
+                    if (futureJob != null) {
+                        // the confirm screen did not open, nobody would ever collect the result
+                        futureJob.cancel(true);
+                    }
                 } catch (final Throwable e) {
                     if (futureJob != null) {
                         futureJob.cancel(true);
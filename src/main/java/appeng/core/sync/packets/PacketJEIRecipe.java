@@ -20,7 +20,6 @@ package appeng.core.sync.packets;
 
 
 import appeng.api.AEApi;
-import appeng.api.config.Actionable;
 import appeng.api.config.FuzzyMode;
 import appeng.api.config.SecurityPermissions;
 import appeng.api.networking.IGrid;
@@ -32,11 +31,14 @@ import appeng.api.networking.storage.IStorageGrid;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
 import appeng.container.implementations.ContainerExpandedProcessingPatternTerm;
 import appeng.container.implementations.ContainerPatternEncoder;
 import appeng.container.implementations.ContainerPatternTerm;
+import appeng.core.AELog;
 import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
+import appeng.core.sync.network.NetworkHandler;
 import appeng.helpers.IContainerCraftingPacket;
 import appeng.items.storage.ItemViewCell;
 import appeng.util.Platform;
@@ -61,8 +63,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static appeng.helpers.ItemStackHelper.stackFromNBT;
 
@@ -153,8 +157,12 @@ public class PacketJEIRecipe extends AppEngPacket {
         if (inv != null && this.recipe != null && security != null) {
             final IMEMonitor<IAEItemStack> storage = inv.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
             final IPartitionList<IAEItemStack> filter = ItemViewCell.createFilter(cct.getViewCells());
+            final boolean canExtract = security.hasPermission(player, SecurityPermissions.EXTRACT);
+            final int slots = craftMatrix.getSlots();
+            final ItemStack[] newItems = new ItemStack[slots];
+            final boolean[] wanted = new boolean[slots];
 
-            for (int x = 0; x < craftMatrix.getSlots(); x++) {
+            for (int x = 0; x < slots; x++) {
                 ItemStack currentItem = craftMatrix.getStackInSlot(x);
 
                 if (x >= this.recipe.size()) {
@@ -184,74 +192,98 @@ public class PacketJEIRecipe extends AppEngPacket {
                     }
                 }
 
-                if (currentItem.isEmpty() && recipe.size() > x && recipe.get(x) != null) {
-                    // for each variant
-                    for (int y = 0; y < this.recipe.get(x).length && currentItem.isEmpty(); y++) {
-                        final IAEItemStack request = AEItemStack.fromItemStack(this.recipe.get(x)[y]);
-                        if (request != null) {
-                            // try ae
-                            if ((filter == null || filter.isListed(request)) && security.hasPermission(player, SecurityPermissions.EXTRACT)) {
-                                request.setStackSize(1);
-                                IAEItemStack out;
-
-                                if (cct.useRealItems()) {
-                                    out = Platform.poweredExtraction(energy, storage, request, cct.getActionSource());
-                                    if (out == null) {
-                                        if (request.getItem().isDamageable() || Platform.isGTDamageableItem(request.getItem())) {
-                                            Collection<IAEItemStack> outList = inv.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)).getStorageList().findFuzzy(request, FuzzyMode.IGNORE_ALL);
-                                            for (IAEItemStack is : outList) {
-                                                if (is.getStackSize() == 0) {
-                                                    continue;
-                                                }
-                                                if (Platform.isGTDamageableItem(request.getItem())) {
-                                                    if (!(is.getDefinition().getMetadata() == request.getDefinition().getMetadata())) {
-                                                        continue;
-                                                    }
-                                                }
-                                                out = Platform.poweredExtraction(energy, storage, is.copy().setStackSize(1), cct.getActionSource());
-                                                if (out != null) {
-                                                    break;
-                                                }
-                                            }
-                                        }
-                                    }
-                                } else {
-                                    // Query the crafting grid if there is a pattern providing the item
-                                    if (!crafting.getCraftingFor(request, null, 0, null).isEmpty()) {
-                                        out = request;
-                                    } else {
-                                        // Fall back using an existing item
-                                        out = storage.extractItems(request, Actionable.SIMULATE, cct.getActionSource());
-                                    }
-                                }
-
-                                if (out != null) {
-                                    if (!cct.useRealItems()) {
-                                        out.setStackSize(recipe.get(x)[y].getCount());
-                                    }
-                                    currentItem = out.createItemStack();
-                                }
-                            }
+                newItems[x] = currentItem;
+                wanted[x] = currentItem.isEmpty() && recipe.size() > x && recipe.get(x) != null;
+            }
+
+            // Resolve all slots against the same view of the network, so slots sharing an ingredient don't claim
+            // more than there is, and every ingredient is looked up only once.
+            final IItemList<IAEItemStack> snapshot = storage.getStorageList();
+            final Map<IAEItemStack, List<IAEItemStack>> candidateIndex = new HashMap<>();
+            final Map<IAEItemStack, Long> reserved = new LinkedHashMap<>();
+            final IAEItemStack[] fromNetwork = new IAEItemStack[slots];
 
-                            // try inventory
-                            if (currentItem.isEmpty()) {
-                                AdaptorItemHandler ad = new AdaptorItemHandler(playerInventory);
+            for (int x = 0; x < slots && canExtract; x++) {
+                if (!wanted[x]) {
+                    continue;
+                }
 
-                                if (cct.useRealItems()) {
-                                    currentItem = ad.removeSimilarItems(1, this.recipe.get(x)[y], FuzzyMode.IGNORE_ALL, null);
-                                } else {
-                                    currentItem = ad.simulateSimilarRemove(recipe.get(x)[y].getCount(), this.recipe.get(x)[y], FuzzyMode.IGNORE_ALL, null);
-                                }
+                // for each variant
+                for (int y = 0; y < this.recipe.get(x).length && fromNetwork[x] == null && newItems[x].isEmpty(); y++) {
+                    final IAEItemStack request = AEItemStack.fromItemStack(this.recipe.get(x)[y]);
+                    if (request == null || (filter != null && !filter.isListed(request))) {
+                        continue;
+                    }
+                    request.setStackSize(1);
+
+                    if (cct.useRealItems()) {
+                        for (IAEItemStack candidate : candidateIndex.computeIfAbsent(request, r -> findCandidates(snapshot, r))) {
+                            final long used = reserved.getOrDefault(candidate, 0L);
+                            if (candidate.getStackSize() > used) {
+                                reserved.put(candidate, used + 1);
+                                fromNetwork[x] = candidate;
+                                break;
                             }
                         }
+                    } else {
+                        // Query the crafting grid if there is a pattern providing the item, fall back using an
+                        // existing item
+                        final IAEItemStack stored = snapshot.findPrecise(request);
+                        if (!crafting.getCraftingFor(request, null, 0, null).isEmpty() || (stored != null && stored.getStackSize() > 0)) {
+                            newItems[x] = request.setStackSize(recipe.get(x)[y].getCount()).createItemStack();
+                        }
+                    }
+                }
+            }
+
+            // one extraction per distinct item, slots that can't be served fall back to the player inventory
+            for (Map.Entry<IAEItemStack, Long> entry : reserved.entrySet()) {
+                final IAEItemStack out = Platform.poweredExtraction(energy, storage, entry.getKey().copy().setStackSize(entry.getValue()), cct.getActionSource());
+                long extracted = out == null ? 0 : out.getStackSize();
+
+                for (int x = 0; x < slots && extracted > 0; x++) {
+                    if (entry.getKey().equals(fromNetwork[x])) {
+                        newItems[x] = out.copy().setStackSize(1).createItemStack();
+                        extracted--;
+                    }
+                }
+            }
+
+            int missingSlots = 0;
+            for (int x = 0; x < slots; x++) {
+                if (wanted[x]) {
+                    // try inventory
+                    for (int y = 0; y < this.recipe.get(x).length && newItems[x].isEmpty(); y++) {
+                        if (this.recipe.get(x)[y].isEmpty()) {
+                            continue;
+                        }
+
+                        AdaptorItemHandler ad = new AdaptorItemHandler(playerInventory);
+
+                        if (cct.useRealItems()) {
+                            newItems[x] = ad.removeSimilarItems(1, this.recipe.get(x)[y], FuzzyMode.IGNORE_ALL, null);
+                        } else {
+                            newItems[x] = ad.simulateSimilarRemove(recipe.get(x)[y].getCount(), this.recipe.get(x)[y], FuzzyMode.IGNORE_ALL, null);
+                        }
                     }
+
                     if (!cct.useRealItems()) {
-                        if (currentItem.isEmpty() && recipe.size() > x && this.recipe.get(x) != null) {
-                            currentItem = this.recipe.get(x)[0].copy();
+                        if (newItems[x].isEmpty()) {
+                            newItems[x] = this.recipe.get(x)[0].copy();
                         }
+                    } else if (newItems[x].isEmpty() && this.hasIngredient(x)) {
+                        missingSlots |= 1 << x;
                     }
                 }
-                ItemHandlerUtil.setStackInSlot(craftMatrix, x, currentItem);
+                ItemHandlerUtil.setStackInSlot(craftMatrix, x, newItems[x]);
+            }
+
+            if (cct.useRealItems()) {
+                try {
+                    NetworkHandler.instance().sendTo(new PacketValueConfig("JEI.MissingSlots", Integer.toString(missingSlots)), pmp);
+                } catch (final IOException e) {
+                    AELog.debug(e);
+                }
             }
 
             con.onCraftMatrixChanged(new WrapperInvItemHandler(craftMatrix));
@@ -271,6 +303,44 @@ public class PacketJEIRecipe extends AppEngPacket {
         }
     }
 
+    /**
+     * All stacks in the network that can be used for the requested ingredient, the exact item first. Damaged items
+     * also accept other damage values.
+     */
+    private static List<IAEItemStack> findCandidates(IItemList<IAEItemStack> snapshot, IAEItemStack request) {
+        final List<IAEItemStack> candidates = new ArrayList<>(1);
+
+        final IAEItemStack precise = snapshot.findPrecise(request);
+        if (precise != null && precise.getStackSize() > 0) {
+            candidates.add(precise);
+        }
+
+        if (request.getItem().isDamageable() || Platform.isGTDamageableItem(request.getItem())) {
+            for (IAEItemStack is : snapshot.findFuzzy(request, FuzzyMode.IGNORE_ALL)) {
+                if (is.getStackSize() <= 0 || is.equals(precise)) {
+                    continue;
+                }
+                if (Platform.isGTDamageableItem(request.getItem())) {
+                    if (!(is.getDefinition().getMetadata() == request.getDefinition().getMetadata())) {
+                        continue;
+                    }
+                }
+                candidates.add(is);
+            }
+        }
+
+        return candidates;
+    }
+
+    private boolean hasIngredient(int slot) {
+        for (ItemStack option : this.recipe.get(slot)) {
+            if (!option.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @param slot
      * @param is   itemstack
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.core.sync.packets;
+
+
+import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.network.INetworkInfo;
+import appeng.tile.AEBaseTile;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+
+/**
+ * Syncs of the tiles in one chunk, written by {@link appeng.tile.TileSyncQueue}.
+ */
+public class PacketTileUpdates extends AppEngPacket {
+
+    private final long[] positions;
+    private final int[] fields;
+    private final byte[][] payloads;
+
+    // automatic.
+    public PacketTileUpdates(final ByteBuf stream) {
+        final int count = stream.readInt();
+        this.positions = new long[count];
+        this.fields = new int[count];
+        this.payloads = new byte[count][];
+
+        for (int i = 0; i < count; i++) {
+            this.positions[i] = stream.readLong();
+            this.fields[i] = stream.readInt();
+            this.payloads[i] = new byte[stream.readInt()];
+            stream.readBytes(this.payloads[i]);
+        }
+    }
+
+    // api
+    public PacketTileUpdates(final int count, final ByteBuf entries) {
+        this.positions = null;
+        this.fields = null;
+        this.payloads = null;
+
+        final ByteBuf data = Unpooled.buffer();
+
+        data.writeInt(this.getPacketID());
+        data.writeInt(count);
+        data.writeBytes(entries);
+
+        this.configureWrite(data);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void clientPacketData(final INetworkInfo network, final AppEngPacket packet, final EntityPlayer player) {
+        final World world = Minecraft.getMinecraft().world;
+
+        for (int i = 0; i < this.positions.length; i++) {
+            final BlockPos pos = BlockPos.fromLong(this.positions[i]);
+            if (!world.isBlockLoaded(pos)) {
+                continue;
+            }
+
+            final TileEntity te = world.getTileEntity(pos);
+            if (te instanceof AEBaseTile tile) {
+                tile.handleSyncData(Unpooled.wrappedBuffer(this.payloads[i]), this.fields[i]);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import appeng.api.config.Settings;
 import appeng.api.util.IConfigManager;
 import appeng.api.util.IConfigurableObject;
 import appeng.client.gui.implementations.GuiCraftingCPU;
+import appeng.client.gui.implementations.GuiMEMonitorable;
 import appeng.client.gui.implementations.GuiOreDictStorageBus;
 import appeng.container.AEBaseContainer;
 import appeng.container.implementations.*;
@@ -111,6 +112,9 @@ public class PacketValueConfig extends AppEngPacket {
         } else if (this.Name.equals("TileCrafting.Cancel") && c instanceof ContainerCraftingCPU) {
             final ContainerCraftingCPU qk = (ContainerCraftingCPU) c;
             qk.cancelCrafting();
+        } else if (this.Name.equals("CraftingStatus.Summary") && c instanceof ContainerCraftingCPU) {
+            final ContainerCraftingCPU qk = (ContainerCraftingCPU) c;
+            qk.setSummaryOnly(this.Value.equals("1"));
         } else if (this.Name.equals("QuartzKnife.Name") && c instanceof ContainerQuartzKnife) {
             final ContainerQuartzKnife qk = (ContainerQuartzKnife) c;
             qk.setName(this.Value);
@@ -237,6 +241,11 @@ public class PacketValueConfig extends AppEngPacket {
             if (gs instanceof GuiCraftingCPU) {
                 ((GuiCraftingCPU) gs).clearItems();
             }
+        } else if (this.Name.equals("JEI.MissingSlots")) {
+            final GuiScreen gs = Minecraft.getMinecraft().currentScreen;
+            if (gs instanceof GuiMEMonitorable) {
+                ((GuiMEMonitorable) gs).setMissingCraftingSlots(Integer.parseInt(this.Value));
+            }
         } else if (this.Name.equals("OreDictStorageBus.sendRegex")) {
             final GuiScreen gs = Minecraft.getMinecraft().currentScreen;
             if (gs instanceof GuiOreDictStorageBus) {
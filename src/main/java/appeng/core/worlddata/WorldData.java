@@ -22,6 +22,7 @@ package appeng.core.worlddata;
 import appeng.core.AEConfig;
 import appeng.services.CompassService;
 import appeng.services.compass.CompassThreadFactory;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import net.minecraft.server.MinecraftServer;
@@ -120,6 +121,18 @@ public final class WorldData implements IWorldData {
         if (worldDirectory == null) {
             worldDirectory = server.getActiveAnvilConverter().getSaveLoader(server.getFolderName(), false).getWorldDirectory();
         }
+        startInstance(worldDirectory);
+    }
+
+    /**
+     * Starts the world data without a running server, as done by the grid simulator of the tests.
+     * <p>
+     * Stop it again with {@link #onServerStopping()} and {@link #onServerStoppped()}.
+     *
+     * @param worldDirectory directory holding the data, it has to exist
+     */
+    @VisibleForTesting
+    public static void startInstance(@Nonnull final File worldDirectory) {
         final WorldData newInstance = new WorldData(worldDirectory);
 
         instance = newInstance;
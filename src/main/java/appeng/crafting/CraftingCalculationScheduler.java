@@ -0,0 +1,366 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import appeng.api.AEApi;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.crafting.ICraftingCallback;
+import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Runs the calculations of crafting jobs on a bounded amount of threads.
+ * <p>
+ * Requests are queued and started from the server thread, calculations of players before those of machines. A
+ * calculation only starts when its player and its grid are below their limit of concurrent calculations, and when the
+ * estimated memory of its storage snapshot fits next to the running ones. The snapshot is only taken when the
+ * calculation starts, so waiting requests hold no copy of the network.
+ */
+public final class CraftingCalculationScheduler {
+
+    public static final CraftingCalculationScheduler INSTANCE = new CraftingCalculationScheduler();
+
+    /**
+     * Rough retained size of one type in a storage snapshot. A calculation holds about three snapshots: the original,
+     * the inventory it crafts from and the one it checks availability against.
+     */
+    private static final long BYTES_PER_TYPE = 3 * 128;
+
+    private final PriorityQueue<Calculation> queue = new PriorityQueue<>();
+    private final Set<Calculation> running = new HashSet<>();
+    private final Map<UUID, Integer> runningPerPlayer = new HashMap<>();
+    private final Map<IGrid, Integer> runningPerGrid = new IdentityHashMap<>();
+    private ThreadPoolExecutor executor;
+    private long runningBytes = 0;
+    private long sequence = 0;
+
+    private long started = 0;
+    private long totalWaitNanos = 0;
+    private long maxWaitNanos = 0;
+
+    private CraftingCalculationScheduler() {
+    }
+
+    /**
+     * Queues the calculation of a job.
+     *
+     * @return the job once it is calculated, cancelling it removes it from the queue or interrupts the calculation
+     */
+    public synchronized Future<ICraftingJob> submit(final World world, final IGrid grid, final IActionSource actionSrc, final IAEItemStack what, final ICraftingCallback callback) {
+        final Calculation calculation = new Calculation(world, grid, actionSrc, what, callback, this.sequence++);
+        this.queue.add(calculation);
+        this.dispatch();
+        return calculation;
+    }
+
+    /**
+     * Starts as many queued calculations as the limits allow. Called every server tick, and whenever a request is
+     * queued.
+     */
+    public synchronized void dispatch() {
+        if (this.queue.isEmpty()) {
+            return;
+        }
+
+        final int threads = Math.max(1, AEConfig.instance().getCraftingCalculationThreads());
+        final List<Calculation> postponed = new ArrayList<>();
+
+        while (this.running.size() < threads && !this.queue.isEmpty()) {
+            final Calculation next = this.queue.poll();
+
+            if (!this.isBelowLimits(next)) {
+                postponed.add(next);
+                continue;
+            }
+
+            final long estimatedBytes = estimateBytes(next.grid);
+            if (!this.running.isEmpty() && this.runningBytes + estimatedBytes > this.getMemoryBudget()) {
+                // wait for memory instead of letting smaller requests overtake it forever
+                postponed.add(next);
+                break;
+            }
+
+            this.start(next, estimatedBytes);
+        }
+
+        this.queue.addAll(postponed);
+    }
+
+    private boolean isBelowLimits(final Calculation calculation) {
+        if (calculation.playerId != null && this.runningPerPlayer.getOrDefault(calculation.playerId, 0) >= AEConfig.instance().getCraftingCalculationsPerPlayer()) {
+            return false;
+        }
+        return this.runningPerGrid.getOrDefault(calculation.grid, 0) < AEConfig.instance().getCraftingCalculationsPerGrid();
+    }
+
+    private long getMemoryBudget() {
+        return (long) (Runtime.getRuntime().maxMemory() * AEConfig.instance().getCraftingCalculationMemoryShare());
+    }
+
+    private static long estimateBytes(final IGrid grid) {
+        final IStorageGrid storage = grid.getCache(IStorageGrid.class);
+        return storage.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)).getStorageList().size() * BYTES_PER_TYPE;
+    }
+
+    private void start(final Calculation calculation, final long estimatedBytes) {
+        final long waited = System.nanoTime() - calculation.queuedAt;
+        this.started++;
+        this.totalWaitNanos += waited;
+        this.maxWaitNanos = Math.max(this.maxWaitNanos, waited);
+
+        final CraftingJob job;
+        try {
+            job = new CraftingJob(calculation.world, calculation.grid, calculation.actionSrc, calculation.what, calculation.callback);
+        } catch (final RuntimeException e) {
+            final FutureTask<ICraftingJob> failed = new FutureTask<>(() -> {
+                throw e;
+            });
+            failed.run();
+            calculation.setTask(failed);
+            return;
+        }
+
+        calculation.estimatedBytes = estimatedBytes;
+        this.running.add(calculation);
+        this.runningBytes += estimatedBytes;
+        if (calculation.playerId != null) {
+            this.runningPerPlayer.merge(calculation.playerId, 1, Integer::sum);
+        }
+        this.runningPerGrid.merge(calculation.grid, 1, Integer::sum);
+
+        // whoever claims the calculation first releases it: the worker once it finished, or done() if it was cancelled
+        // before the worker started. A running calculation keeps its slots until it noticed the interrupt.
+        final AtomicBoolean claimed = new AtomicBoolean();
+        final FutureTask<ICraftingJob> task = new FutureTask<ICraftingJob>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                job.run();
+            } finally {
+                this.release(calculation);
+            }
+        }, job) {
+            @Override
+            protected void done() {
+                if (this.isCancelled() && claimed.compareAndSet(false, true)) {
+                    CraftingCalculationScheduler.this.release(calculation);
+                }
+            }
+        };
+
+        calculation.setTask(task);
+        this.getExecutor().execute(task);
+    }
+
+    private synchronized void release(final Calculation calculation) {
+        if (!this.running.remove(calculation)) {
+            return;
+        }
+
+        this.runningBytes -= calculation.estimatedBytes;
+        if (calculation.playerId != null) {
+            this.runningPerPlayer.computeIfPresent(calculation.playerId, (k, v) -> v > 1 ? v - 1 : null);
+        }
+        this.runningPerGrid.computeIfPresent(calculation.grid, (k, v) -> v > 1 ? v - 1 : null);
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (this.executor == null) {
+            final int threads = Math.max(1, AEConfig.instance().getCraftingCalculationThreads());
+            final ThreadFactory factory = ar -> new Thread(ar, "AE Crafting Calculator");
+
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+        return this.executor;
+    }
+
+    /**
+     * Cancels all queued and running calculations, used when the server stops.
+     */
+    public void cancelAll() {
+        final List<Calculation> all;
+        synchronized (this) {
+            all = new ArrayList<>(this.queue);
+            all.addAll(this.running);
+        }
+
+        for (final Calculation calculation : all) {
+            calculation.cancel(true);
+        }
+
+        if (!all.isEmpty()) {
+            AELog.crafting("Cancelled %d crafting calculations.", all.size());
+        }
+    }
+
+    public synchronized int getQueued() {
+        return this.queue.size();
+    }
+
+    public synchronized int getRunning() {
+        return this.running.size();
+    }
+
+    /**
+     * @return how long the oldest queued request has been waiting
+     */
+    public synchronized long getOldestWaitMillis() {
+        long oldest = 0;
+        final long now = System.nanoTime();
+        for (final Calculation calculation : this.queue) {
+            oldest = Math.max(oldest, now - calculation.queuedAt);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(oldest);
+    }
+
+    public synchronized long getAverageWaitMillis() {
+        return this.started == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.totalWaitNanos / this.started);
+    }
+
+    public synchronized long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos);
+    }
+
+    public synchronized long getStarted() {
+        return this.started;
+    }
+
+    public synchronized long getRunningBytes() {
+        return this.runningBytes;
+    }
+
+    /**
+     * A queued request, which becomes a running calculation once the scheduler starts it.
+     */
+    private final class Calculation implements Future<ICraftingJob>, Comparable<Calculation> {
+
+        private final World world;
+        private final IGrid grid;
+        private final IActionSource actionSrc;
+        private final IAEItemStack what;
+        private final ICraftingCallback callback;
+        private final UUID playerId;
+        private final long sequence;
+        private final long queuedAt = System.nanoTime();
+        private long estimatedBytes;
+
+        private volatile FutureTask<ICraftingJob> task;
+        private boolean cancelled = false;
+
+        private Calculation(final World world, final IGrid grid, final IActionSource actionSrc, final IAEItemStack what, final ICraftingCallback callback, final long sequence) {
+            this.world = world;
+            this.grid = grid;
+            this.actionSrc = actionSrc;
+            this.what = what.copy();
+            this.callback = callback;
+            this.playerId = actionSrc.player().map(EntityPlayer::getUniqueID).orElse(null);
+            this.sequence = sequence;
+        }
+
+        private synchronized void setTask(final FutureTask<ICraftingJob> task) {
+            this.task = task;
+            this.notifyAll();
+        }
+
+        @Override
+        public int compareTo(final Calculation other) {
+            // players wait on the result, machines retry later anyway
+            final int byPlayer = Boolean.compare(other.playerId != null, this.playerId != null);
+            if (byPlayer != 0) {
+                return byPlayer;
+            }
+            return Long.compare(this.sequence, other.sequence);
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            // same lock order as starting it, the scheduler first
+            synchronized (CraftingCalculationScheduler.this) {
+                synchronized (this) {
+                    if (this.task == null) {
+                        if (this.cancelled || !CraftingCalculationScheduler.this.queue.remove(this)) {
+                            return false;
+                        }
+                        this.cancelled = true;
+                        this.notifyAll();
+                        return true;
+                    }
+                }
+            }
+            return this.task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return this.task == null ? this.cancelled : this.task.isCancelled();
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return this.task == null ? this.cancelled : this.task.isDone();
+        }
+
+        @Override
+        public ICraftingJob get() throws InterruptedException, ExecutionException {
+            synchronized (this) {
+                while (this.task == null && !this.cancelled) {
+                    this.wait();
+                }
+                if (this.task == null) {
+                    throw new CancellationException();
+                }
+            }
+            return this.task.get();
+        }
+
+        @Override
+        public ICraftingJob get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                while (this.task == null && !this.cancelled) {
+                    final long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, left);
+                }
+                if (this.task == null) {
+                    throw new CancellationException();
+                }
+            }
+            return this.task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -20,7 +20,6 @@ package appeng.entity;
 
 
 import appeng.api.implementations.items.IGrowableCrystal;
-import appeng.api.implementations.tiles.ICrystalGrowthAccelerator;
 import appeng.client.EffectType;
 import appeng.core.AEConfig;
 import appeng.core.AppEng;
@@ -31,7 +30,6 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
@@ -39,7 +37,14 @@ import net.minecraft.world.World;
 
 public final class EntityGrowingCrystal extends EntityItem {
 
+    /**
+     * Crystals only look at their surroundings every few ticks and add the growth of all ticks in between.
+     */
+    private static final int GROWTH_INTERVAL = 10;
+
     private int progress_1000 = 0;
+    private int lastSampleTick = 0;
+    private boolean sampledInLiquid = false;
 
     public EntityGrowingCrystal(final World w) {
         super(w);
@@ -63,6 +68,13 @@ public final class EntityGrowingCrystal extends EntityItem {
 
         if (gc instanceof IGrowableCrystal) // if it changes this just stops being an issue...
         {
+            final boolean isClient = Platform.isClient();
+
+            // spread the crystals over the interval instead of updating all of them in the same tick
+            if ((this.ticksExisted + this.getEntityId()) % GROWTH_INTERVAL != 0) {
+                return;
+            }
+
             final int j = MathHelper.floor(this.posX);
             final int i = MathHelper.floor((this.getEntityBoundingBox().minY + this.getEntityBoundingBox().maxY) / 2.0D);
             final int k = MathHelper.floor(this.posZ);
@@ -74,18 +86,22 @@ public final class EntityGrowingCrystal extends EntityItem {
             final float multiplier = cry.getMultiplier(state.getBlock(), mat);
             final int speed = (int) Math.max(1, this.getSpeed(j, i, k) * multiplier);
 
-            final boolean isClient = Platform.isClient();
-
             if (mat.isLiquid()) {
+                // only the ticks since the last sample count. If the crystal was not in liquid back then, it
+                // entered it at an unknown tick in between, on average after half of them.
+                final int ticks = this.ticksExisted - this.lastSampleTick;
                 if (isClient) {
-                    this.progress_1000++;
+                    this.progress_1000 += ticks;
                 } else {
-                    this.progress_1000 += speed;
+                    this.progress_1000 += this.sampledInLiquid ? speed * ticks : speed * ticks / 2;
                 }
             } else {
                 this.progress_1000 = 0;
             }
 
+            this.lastSampleTick = this.ticksExisted;
+            this.sampledInLiquid = mat.isLiquid();
+
             if (isClient) {
                 int len = 40;
 
@@ -118,9 +134,12 @@ public final class EntityGrowingCrystal extends EntityItem {
                     AppEng.proxy.spawnEffect(EffectType.Vibrant, this.world, this.posX, this.posY + 0.2, this.posZ, null);
                 }
             } else {
-                if (this.progress_1000 > 1000) {
+                // a whole interval can be worth more than one step with enough accelerators
+                ItemStack current = is;
+                while (this.progress_1000 > 1000 && current.getItem() instanceof IGrowableCrystal) {
                     this.progress_1000 -= 1000;
-                    this.setItem(cry.triggerGrowth(is));
+                    current = ((IGrowableCrystal) current.getItem()).triggerGrowth(current);
+                    this.setItem(current);
                 }
             }
         }
@@ -160,8 +179,6 @@ public final class EntityGrowingCrystal extends EntityItem {
     }
 
     private boolean isAccelerated(final int x, final int y, final int z) {
-        final TileEntity te = this.world.getTileEntity(new BlockPos(x, y, z));
-
-        return te instanceof ICrystalGrowthAccelerator && ((ICrystalGrowthAccelerator) te).isPowered();
+        return GrowthAcceleratorField.isAccelerated(this.world, x, y, z);
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.entity;
+
+
+import appeng.api.implementations.tiles.ICrystalGrowthAccelerator;
+import appeng.core.AEConfig;
+import appeng.core.features.AEFeature;
+import appeng.tile.misc.TileQuartzGrowthAccelerator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * Positions of all powered crystal growth accelerators, grouped by chunk.
+ * <p>
+ * Accelerators report their power state here whenever it changes, so growing crystals can look up their neighbours
+ * without touching the tile entities of the world.
+ * <p>
+ * Accelerators of other mods only implement {@link ICrystalGrowthAccelerator} and cannot report anything. They are
+ * found when their chunk loads or a player places them, and their power state is polled every
+ * {@link #FOREIGN_POLL_TICKS} ticks.
+ */
+public final class GrowthAcceleratorField {
+
+    public static final GrowthAcceleratorField INSTANCE = new GrowthAcceleratorField();
+
+    private static final int FOREIGN_POLL_TICKS = 20;
+
+    private static final Map<World, Long2ObjectMap<LongSet>> FIELDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Positions of the known accelerators of other mods, packed with {@link BlockPos#toLong()}.
+     */
+    private static final Map<World, LongSet> FOREIGN = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Chunks that loaded since the last update. They are scanned one tick later, because the client only receives
+     * the tile entities of a chunk after it was loaded.
+     */
+    private static final Map<World, LongSet> PENDING_CHUNKS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private GrowthAcceleratorField() {
+    }
+
+    private static long key(final int x, final int y, final int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    public static void setPowered(final World w, final BlockPos pos, final boolean powered) {
+        if (powered) {
+            final Long2ObjectMap<LongSet> field = FIELDS.computeIfAbsent(w, k -> new Long2ObjectOpenHashMap<>());
+            final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            LongSet inChunk = field.get(chunk);
+            if (inChunk == null) {
+                field.put(chunk, inChunk = new LongOpenHashSet());
+            }
+            inChunk.add(key(pos.getX(), pos.getY(), pos.getZ()));
+        } else {
+            remove(w, pos);
+        }
+    }
+
+    public static void remove(final World w, final BlockPos pos) {
+        final Long2ObjectMap<LongSet> field = FIELDS.get(w);
+        if (field == null) {
+            return;
+        }
+
+        final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        final LongSet inChunk = field.get(chunk);
+        if (inChunk != null && inChunk.remove(key(pos.getX(), pos.getY(), pos.getZ())) && inChunk.isEmpty()) {
+            field.remove(chunk);
+            if (field.isEmpty()) {
+                FIELDS.remove(w);
+            }
+        }
+    }
+
+    public static boolean isAccelerated(final World w, final int x, final int y, final int z) {
+        final Long2ObjectMap<LongSet> field = FIELDS.get(w);
+        if (field == null) {
+            return false;
+        }
+
+        final LongSet inChunk = field.get(ChunkPos.asLong(x >> 4, z >> 4));
+        return inChunk != null && inChunk.contains(key(x, y, z));
+    }
+
+    /**
+     * Scans the chunks loaded since the last call and refreshes the power state of the accelerators of other mods.
+     * Called once per tick for every world.
+     */
+    public static void update(final World w) {
+        final LongSet pending = PENDING_CHUNKS.remove(w);
+        if (pending != null) {
+            for (final LongIterator it = pending.iterator(); it.hasNext(); ) {
+                final long chunk = it.nextLong();
+                final Chunk c = w.getChunkProvider().getLoadedChunk((int) chunk, (int) (chunk >> 32));
+                if (c != null) {
+                    for (final TileEntity te : c.getTileEntityMap().values()) {
+                        if (isForeign(te)) {
+                            track(w, te);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (w.getTotalWorldTime() % FOREIGN_POLL_TICKS != 0) {
+            return;
+        }
+
+        final LongSet foreign = FOREIGN.get(w);
+        if (foreign == null) {
+            return;
+        }
+
+        for (final LongIterator it = foreign.iterator(); it.hasNext(); ) {
+            final BlockPos pos = BlockPos.fromLong(it.nextLong());
+            final TileEntity te = w.isBlockLoaded(pos) ? w.getTileEntity(pos) : null;
+            if (isForeign(te)) {
+                setPowered(w, pos, ((ICrystalGrowthAccelerator) te).isPowered());
+            } else {
+                it.remove();
+                remove(w, pos);
+            }
+        }
+
+        if (foreign.isEmpty()) {
+            FOREIGN.remove(w);
+        }
+    }
+
+    private static boolean isForeign(final TileEntity te) {
+        return te instanceof ICrystalGrowthAccelerator && !(te instanceof TileQuartzGrowthAccelerator) && !te.isInvalid();
+    }
+
+    private static void track(final World w, final TileEntity te) {
+        FOREIGN.computeIfAbsent(w, k -> new LongOpenHashSet()).add(te.getPos().toLong());
+        setPowered(w, te.getPos(), ((ICrystalGrowthAccelerator) te).isPowered());
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(final ChunkEvent.Load ev) {
+        if (AEConfig.instance().isFeatureEnabled(AEFeature.IN_WORLD_PURIFICATION)) {
+            final Chunk c = ev.getChunk();
+            PENDING_CHUNKS.computeIfAbsent(ev.getWorld(), k -> new LongOpenHashSet()).add(ChunkPos.asLong(c.x, c.z));
+        }
+    }
+
+    @SubscribeEvent
+    public void onBlockPlaced(final BlockEvent.PlaceEvent ev) {
+        if (AEConfig.instance().isFeatureEnabled(AEFeature.IN_WORLD_PURIFICATION)) {
+            final TileEntity te = ev.getWorld().getTileEntity(ev.getPos());
+            if (isForeign(te)) {
+                track(ev.getWorld(), te);
+            }
+        }
+    }
+}
@@ -195,14 +195,14 @@ public class PartFluidAnnihilationPlane extends PartBasicState implements IGridT
     @MENetworkEventSubscribe
     public void chanRender(final MENetworkChannelsChanged c) {
         this.refresh();
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
         this.refresh();
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     private TickRateModulation pickupFluid() {
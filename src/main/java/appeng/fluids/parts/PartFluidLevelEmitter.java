@@ -181,7 +181,7 @@ public class PartFluidLevelEmitter extends PartUpgradeable implements IStackWatc
     private void updateState() {
         final boolean isOn = this.isLevelEmitterOn();
         if (this.prevState != isOn) {
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
             final TileEntity te = this.getHost().getTile();
             this.prevState = isOn;
             Platform.notifyBlocksOfNeighbors(te.getWorld(), te.getPos());
@@ -134,7 +134,7 @@ public class PartFluidStorageBus extends PartUpgradeable implements IGridTickabl
             this.wasActive = currentActive;
             try {
                 this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
-                this.getHost().markForUpdate();
+                this.markPartForUpdate();
             } catch (final GridAccessException e) {
                 // :P
             }
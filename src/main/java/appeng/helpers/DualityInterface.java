@@ -136,8 +136,10 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
     private int isWorking = -1;
     private EnumSet<EnumFacing> visitedFaces = EnumSet.noneOf(EnumFacing.class);
     private EnumMap<EnumFacing, List<ItemStack>> waitingToSendFacing = new EnumMap<>(EnumFacing.class);
+    private final InterfaceTargets targets = new InterfaceTargets();
     private boolean resetConfigCache = true;
     private IMEMonitor<IAEItemStack> configCachedHandler;
+    private Set<IInterfaceTerminalListener> terminalListeners = null;
 
     private YesNo redstoneState = YesNo.UNDECIDED;
 
@@ -187,6 +189,12 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     @Override
     public void onChangeInventory(final IItemHandler inv, final int slot, final InvOperation mc, final ItemStack removed, final ItemStack added) {
+        if (inv == this.patterns) {
+            this.notifyPatternSlotChanged(slot);
+        } else if (inv == this.upgrades) {
+            this.notifyTerminalListeners();
+        }
+
         if (this.isWorking == slot) {
             return;
         }
@@ -538,6 +546,41 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         if (te != null && te.getWorld() != null) {
             Platform.notifyBlocksOfNeighbors(te.getWorld(), te.getPos());
         }
+
+        this.notifyTerminalListeners();
+    }
+
+    public void addTerminalListener(final IInterfaceTerminalListener listener) {
+        if (this.terminalListeners == null) {
+            this.terminalListeners = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        this.terminalListeners.add(listener);
+    }
+
+    public void removeTerminalListener(final IInterfaceTerminalListener listener) {
+        if (this.terminalListeners != null) {
+            this.terminalListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Tells open interface terminals that the row of this interface has to be re-evaluated, e.g. because a neighbour
+     * changed and with it the displayed name.
+     */
+    public void notifyTerminalListeners() {
+        if (this.terminalListeners != null && !this.terminalListeners.isEmpty()) {
+            for (final IInterfaceTerminalListener listener : new ArrayList<>(this.terminalListeners)) {
+                listener.onInterfaceChanged(this.iHost);
+            }
+        }
+    }
+
+    private void notifyPatternSlotChanged(final int slot) {
+        if (this.terminalListeners != null && !this.terminalListeners.isEmpty() && slot >= 0) {
+            for (final IInterfaceTerminalListener listener : new ArrayList<>(this.terminalListeners)) {
+                listener.onPatternSlotChanged(this.iHost, slot);
+            }
+        }
     }
 
     private void addToCraftingList(final ItemStack is) {
@@ -621,6 +664,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             this.fluids.setInternal(new NullInventory<IAEFluidStack>());
         }
 
+        this.targets.invalidate();
         this.notifyNeighbors();
     }
 
@@ -669,21 +713,18 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
-        final World w = tile.getWorld();
 
         final Iterator<ItemStack> i = this.waitingToSend.iterator();
         while (i.hasNext()) {
             ItemStack whatToSend = i.next();
 
             for (final EnumFacing s : possibleDirections) {
-                final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
-                if (te == null) {
-                    continue;
-                }
-
-                final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+                final InventoryAdaptor ad = this.targets.getAdaptor(tile, s);
                 if (ad != null) {
                     final ItemStack result = ad.addItems(whatToSend);
+                    if (result.getCount() != whatToSend.getCount()) {
+                        this.targets.markBlocked(tile, s);
+                    }
 
                     if (result.isEmpty()) {
                         whatToSend = ItemStack.EMPTY;
@@ -714,9 +755,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
-        final World w = tile.getWorld();
 
-        final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+        final TileEntity te = this.targets.getTile(tile, s);
         if (te == null) {
             return;
         }
@@ -763,13 +803,16 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             return;
         }
 
-        final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+        final InventoryAdaptor ad = this.targets.getAdaptor(tile, s);
 
         final Iterator<ItemStack> i = this.waitingToSendFacing.get(s).iterator();
         while (i.hasNext()) {
             ItemStack whatToSend = i.next();
             if (ad != null) {
                 final ItemStack result = ad.addItems(whatToSend);
+                if (result.getCount() != whatToSend.getCount()) {
+                    this.targets.markBlocked(tile, s);
+                }
                 if (!result.isEmpty()) {
                     whatToSend.setCount(result.getCount());
                     whatToSend.setTagCompound(result.getTagCompound());
@@ -978,6 +1021,11 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             resetCraftingLock();
         }
 
+        if (settingName == Settings.INTERFACE_TERMINAL) {
+            this.notifyTerminalListeners();
+        }
+
+        this.targets.invalidateBusy();
         this.iHost.saveChanges();
     }
 
@@ -1004,10 +1052,6 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         };
     }
 
-    private boolean invIsBlocked(InventoryAdaptor inv) {
-        return (inv.containsItems());
-    }
-
     @Override
     public boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
         if (this.hasItemsToSend() || this.hasItemsToSendFacing() || !this.gridProxy.isActive() || !this.craftingList.contains(patternDetails)) {
@@ -1026,7 +1070,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         for (final EnumFacing s : visitedFaces) {
-            final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+            final TileEntity te = this.targets.getTile(tile, s);
             if (te instanceof IInterfaceHost || (te instanceof TileCableBus && ((TileCableBus) te).getPart(s.getOpposite()) instanceof PartInterface)) {
                 visitedFaces.remove(s);
                 try {
@@ -1098,7 +1142,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 }
             }
 
-            InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+            InventoryAdaptor ad = this.targets.getAdaptor(tile, s);
             if (ad != null) {
                 if (this.isBlocking()) {
                     IPhantomTile phantomTE;
@@ -1118,7 +1162,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                             visitedFaces.remove(s);
                             continue;
                         }
-                    } else if (invIsBlocked(ad)) {
+                    } else if (this.targets.isBlocked(tile, s)) {
                         visitedFaces.remove(s);
                         continue;
                     }
@@ -1152,6 +1196,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     private void onPushPatternSuccess(ICraftingPatternDetails pattern) {
         resetCraftingLock();
+        this.targets.invalidateBusy();
 
         LockCraftingMode lockMode = (LockCraftingMode) cm.getSetting(Settings.UNLOCK);
         switch (lockMode) {
@@ -1202,14 +1247,19 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         if (this.isBlocking()) {
-            final EnumSet<EnumFacing> possibleDirections = this.iHost.getTargets();
             final TileEntity tile = this.iHost.getTileEntity();
+            if (this.targets.hasBusyState(tile)) {
+                // crafting CPUs ask once per pattern and tick
+                return this.targets.isBusy();
+            }
+
+            final EnumSet<EnumFacing> possibleDirections = this.iHost.getTargets();
             final World w = tile.getWorld();
 
             boolean allAreBusy = true;
 
             for (final EnumFacing s : possibleDirections) {
-                final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+                final TileEntity te = this.targets.getTile(tile, s);
 
                 if (te instanceof IInterfaceHost || (te instanceof TileCableBus && ((TileCableBus) te).getPart(s.getOpposite()) instanceof PartInterface)) {
                     try {
@@ -1240,7 +1290,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                     continue;
                 }
 
-                final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+                final InventoryAdaptor ad = this.targets.getAdaptor(tile, s);
                 if (ad != null) {
                     if (Platform.isModLoaded("actuallyadditions") && Platform.GTLoaded && te instanceof IPhantomTile phantomTE) {
                         if (phantomTE.hasBoundPosition()) {
@@ -1258,7 +1308,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                             break;
                         }
                     } else {
-                        if (!invIsBlocked(ad)) {
+                        if (!this.targets.isBlocked(tile, s)) {
                             allAreBusy = false;
                             break;
                         }
@@ -1266,6 +1316,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 }
             }
             busy = allAreBusy;
+            this.targets.setBusy(tile, busy);
         }
         return busy;
     }
@@ -1515,6 +1566,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             redstoneState = YesNo.UNDECIDED;
         }
         saveChanges(); // In any case, this needs to be changed since the state is now outdated
+        this.targets.invalidate(); // and the neighbour might be a different inventory now
+        this.notifyTerminalListeners(); // a neighbour changed, so might the terminal name
     }
 
     /**
@@ -0,0 +1,43 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.helpers;
+
+
+/**
+ * Receives change notifications from a {@link DualityInterface}, used by the interface terminal to only resend the rows
+ * that actually changed.
+ */
+public interface IInterfaceTerminalListener {
+
+    /**
+     * Called when the content of a single pattern slot changed.
+     *
+     * @param host the interface owning the slot
+     * @param slot the pattern slot
+     */
+    void onPatternSlotChanged(IInterfaceHost host, int slot);
+
+    /**
+     * Called when something that affects the row of the interface changed, e.g. its name, its terminal visibility, its
+     * active state or the number of installed pattern expansions.
+     *
+     * @param host the changed interface
+     */
+    void onInterfaceChanged(IInterfaceHost host);
+}
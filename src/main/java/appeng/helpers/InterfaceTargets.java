@@ -0,0 +1,145 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.helpers;
+
+
+import appeng.util.InventoryAdaptor;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+import java.util.Arrays;
+
+
+/**
+ * Neighbours of an interface per face, with their inventory adaptors and whether they still hold items.
+ * <p>
+ * Neighbours are resolved again after a neighbour change, when the cached tile entity was invalidated, or at the latest
+ * after {@link #REFRESH_TICKS}, as capabilities and chunk loads of neighbours do not notify the interface. Inventories
+ * have no change notification either, so whether a target holds items is scanned at most once per tick and face, and
+ * marked as blocked right away when the interface inserted something.
+ */
+final class InterfaceTargets {
+
+    static final int REFRESH_TICKS = 20;
+
+    private static final int FACES = EnumFacing.values().length;
+
+    private final TileEntity[] tiles = new TileEntity[FACES];
+    private final InventoryAdaptor[] adaptors = new InventoryAdaptor[FACES];
+    private final long[] resolvedAt = new long[FACES];
+    private final boolean[] blocked = new boolean[FACES];
+    private final long[] blockedCheckedAt = new long[FACES];
+
+    private boolean busy;
+    private long busyCheckedAt;
+
+    InterfaceTargets() {
+        this.invalidate();
+    }
+
+    /**
+     * Forgets every neighbour, used after a neighbour or the interface itself changed.
+     */
+    void invalidate() {
+        Arrays.fill(this.tiles, null);
+        Arrays.fill(this.adaptors, null);
+        Arrays.fill(this.resolvedAt, Long.MIN_VALUE);
+        Arrays.fill(this.blockedCheckedAt, Long.MIN_VALUE);
+        this.invalidateBusy();
+    }
+
+    TileEntity getTile(final TileEntity host, final EnumFacing face) {
+        this.resolve(host, face);
+        return this.tiles[face.ordinal()];
+    }
+
+    /**
+     * @return the adaptor of the neighbour on the face, accessed from the side of the interface
+     */
+    InventoryAdaptor getAdaptor(final TileEntity host, final EnumFacing face) {
+        this.resolve(host, face);
+        return this.adaptors[face.ordinal()];
+    }
+
+    /**
+     * @return true if the neighbour on the face held items when it was last scanned this tick
+     */
+    boolean isBlocked(final TileEntity host, final EnumFacing face) {
+        final int i = face.ordinal();
+        final long now = host.getWorld().getTotalWorldTime();
+
+        if (this.blockedCheckedAt[i] != now) {
+            final InventoryAdaptor ad = this.getAdaptor(host, face);
+            this.blocked[i] = ad != null && ad.containsItems();
+            this.blockedCheckedAt[i] = now;
+        }
+
+        return this.blocked[i];
+    }
+
+    /**
+     * Records that the interface inserted into the neighbour on the face, so it holds items without scanning it.
+     */
+    void markBlocked(final TileEntity host, final EnumFacing face) {
+        final int i = face.ordinal();
+        this.blocked[i] = true;
+        this.blockedCheckedAt[i] = host.getWorld().getTotalWorldTime();
+        this.invalidateBusy();
+    }
+
+    void invalidateBusy() {
+        this.busyCheckedAt = Long.MIN_VALUE;
+    }
+
+    /**
+     * @return true if the busy state was already computed this tick, read it with {@link #isBusy()}
+     */
+    boolean hasBusyState(final TileEntity host) {
+        return this.busyCheckedAt == host.getWorld().getTotalWorldTime();
+    }
+
+    boolean isBusy() {
+        return this.busy;
+    }
+
+    void setBusy(final TileEntity host, final boolean busy) {
+        this.busy = busy;
+        this.busyCheckedAt = host.getWorld().getTotalWorldTime();
+    }
+
+    private void resolve(final TileEntity host, final EnumFacing face) {
+        final int i = face.ordinal();
+        final World w = host.getWorld();
+        final long now = w.getTotalWorldTime();
+        final TileEntity cached = this.tiles[i];
+
+        if (this.resolvedAt[i] != Long.MIN_VALUE && now - this.resolvedAt[i] < REFRESH_TICKS && now >= this.resolvedAt[i] && (cached == null || !cached.isInvalid())) {
+            return;
+        }
+
+        final TileEntity te = w.getTileEntity(host.getPos().offset(face));
+        this.tiles[i] = te;
+        this.adaptors[i] = InventoryAdaptor.getAdaptor(te, face.getOpposite());
+        this.resolvedAt[i] = now;
+        this.blockedCheckedAt[i] = Long.MIN_VALUE;
+        this.invalidateBusy();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.helpers;
+
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+
+/**
+ * Shares the data computed for WAILA and The One Probe between all players looking at the same tile or part.
+ * <p>
+ * A snapshot is refreshed at most every {@link #REFRESH_TICKS} ticks, and no more than
+ * {@link #MAX_REFRESHES_PER_TICK} snapshots are computed per tick. Once that budget is used up, players get the
+ * previous snapshot even if it is outdated. Without a previous snapshot there is nothing to show, and the providers add
+ * no lines until the next refresh.
+ */
+public final class ProbeSnapshotCache {
+
+    public static final int REFRESH_TICKS = 10;
+    public static final int MAX_REFRESHES_PER_TICK = 32;
+
+    /**
+     * Set in the WAILA data instead of the snapshot, so the client skips the lines instead of showing default values.
+     */
+    public static final String PENDING_TAG = "ae2SnapshotPending";
+
+    private static final Map<Object, Map<String, Snapshot>> SNAPSHOTS = new WeakHashMap<>();
+    private static long currentTick = Long.MIN_VALUE;
+    private static int refreshes = 0;
+
+    private ProbeSnapshotCache() {
+    }
+
+    /**
+     * @param owner  the tile or part the data belongs to, the snapshot is dropped together with it
+     * @param kind   distinguishes the different kinds of data stored for the same owner
+     * @param world  the world of the owner, its server is used as clock
+     * @param writer computes the data, only called when the snapshot has to be refreshed
+     * @return the snapshot, must not be modified, or null if there is none yet and the refresh budget is used up
+     */
+    @Nullable
+    public static synchronized NBTTagCompound get(final Object owner, final String kind, final World world, final Consumer<NBTTagCompound> writer) {
+        // the budget is shared by all dimensions, so it has to follow the server ticks and not the time of a world
+        final MinecraftServer server = world.getMinecraftServer();
+        final long now = server != null ? server.getTickCounter() : world.getTotalWorldTime();
+        if (now != currentTick) {
+            currentTick = now;
+            refreshes = 0;
+        }
+
+        final Map<String, Snapshot> byKind = SNAPSHOTS.computeIfAbsent(owner, k -> new HashMap<>(2));
+        final Snapshot snapshot = byKind.get(kind);
+
+        if (snapshot != null && (now - snapshot.tick < REFRESH_TICKS || refreshes >= MAX_REFRESHES_PER_TICK)) {
+            return snapshot.data;
+        }
+
+        if (refreshes >= MAX_REFRESHES_PER_TICK) {
+            return null;
+        }
+
+        refreshes++;
+        final NBTTagCompound data = new NBTTagCompound();
+        writer.accept(data);
+        byKind.put(kind, new Snapshot(now, data));
+        return data;
+    }
+
+    private static final class Snapshot {
+        private final long tick;
+        private final NBTTagCompound data;
+
+        private Snapshot(final long tick, final NBTTagCompound data) {
+            this.tick = tick;
+            this.data = data;
+        }
+    }
+}
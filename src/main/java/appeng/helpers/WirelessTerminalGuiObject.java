@@ -45,12 +45,12 @@ import appeng.api.storage.data.IItemList;
 import appeng.api.util.DimensionalCoord;
 import appeng.api.util.IConfigManager;
 import appeng.container.interfaces.IInventorySlotAware;
+import appeng.me.cache.WirelessGridCache;
 import appeng.me.cluster.IAECluster;
 import appeng.me.cluster.implementations.QuantumCluster;
 import appeng.parts.automation.StackUpgradeInventory;
 import appeng.parts.automation.UpgradeInventory;
 import appeng.tile.inventory.AppEngInternalInventory;
-import appeng.tile.networking.TileWireless;
 import appeng.tile.qnb.TileQuantumBridge;
 import appeng.util.inv.IAEAppEngInventory;
 import appeng.util.inv.InvOperation;
@@ -261,19 +261,18 @@ public class WirelessTerminalGuiObject implements IPortableCell, IActionHost, II
 
         if (this.targetGrid != null && this.itemStorage != null) {
             if (this.myWap != null) {
-                if (this.myWap.getGrid() == this.targetGrid) {
-                    return this.testWap(this.myWap);
+                if (this.myWap.getGrid() == this.targetGrid && this.testWap(this.myWap)) {
+                    return true;
                 }
-                return false;
+                this.sqRange = this.myRange = Double.MAX_VALUE;
             }
 
-            IMachineSet tw = this.targetGrid.getMachines(TileWireless.class);
-
             this.myWap = null;
             this.myQC = null;
 
-            for (final IGridNode n : tw) {
-                final IWirelessAccessPoint wap = (IWirelessAccessPoint) n.getMachine();
+            final WirelessGridCache wirelessGrid = this.targetGrid.getCache(WirelessGridCache.class);
+            final int dimension = this.myPlayer.world.provider.getDimension();
+            for (final IWirelessAccessPoint wap : wirelessGrid.getAccessPointsNear(dimension, this.myPlayer.posX, this.myPlayer.posZ)) {
                 if (this.testWap(wap)) {
                     this.myWap = wap;
                 }
@@ -281,7 +280,7 @@ public class WirelessTerminalGuiObject implements IPortableCell, IActionHost, II
 
             if (myWap != null) return true;
 
-            tw = this.targetGrid.getMachines(TileQuantumBridge.class);
+            final IMachineSet tw = this.targetGrid.getMachines(TileQuantumBridge.class);
             for (final IGridNode n : tw) {
                 TileQuantumBridge tqb = (TileQuantumBridge) n.getMachine();
                 if (tqb.getCluster() != null) {
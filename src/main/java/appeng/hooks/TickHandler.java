@@ -27,9 +27,12 @@ import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.AppEng;
 import appeng.core.sync.packets.PacketPaintedEntity;
+import appeng.crafting.CraftingCalculationScheduler;
 import appeng.crafting.CraftingJob;
+import appeng.entity.GrowthAcceleratorField;
 import appeng.me.Grid;
 import appeng.tile.AEBaseTile;
+import appeng.tile.TileSyncQueue;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
 import com.google.common.base.Preconditions;
@@ -129,6 +132,8 @@ public class TickHandler {
 
     public void shutdown() {
         this.getRepo().clear();
+        CraftingCalculationScheduler.INSTANCE.cancelAll();
+        TileSyncQueue.INSTANCE.clear();
     }
 
     @SubscribeEvent
@@ -149,6 +154,8 @@ public class TickHandler {
             for (final IGridNode n : toDestroy) {
                 n.destroy();
             }
+
+            TileSyncQueue.INSTANCE.remove(ev.getWorld());
         }
     }
 
@@ -162,6 +169,11 @@ public class TickHandler {
                 this.crm = currentMode;
                 AppEng.proxy.triggerUpdates();
             }
+
+            final World world = AppEng.proxy.getWorld();
+            if (world != null) {
+                GrowthAcceleratorField.update(world);
+            }
         }
 
         if (ev.type == Type.WORLD && ev.phase == Phase.END) {
@@ -176,6 +188,8 @@ public class TickHandler {
                     jobSet.removeIf(cj -> !cj.simulateFor(simTime));
                 }
             }
+
+            GrowthAcceleratorField.update(wte.world);
         }
 
         // for no there is no reason to care about this on the client...
@@ -198,6 +212,12 @@ public class TickHandler {
 
             // cross world queue.
             this.processQueue(this.serverQueue, null);
+
+            // start crafting calculations that were waiting for a free slot.
+            CraftingCalculationScheduler.INSTANCE.dispatch();
+
+            // send the tiles that changed during this tick, one packet per chunk.
+            TileSyncQueue.INSTANCE.flush();
         }
 
         // world synced queue(s)
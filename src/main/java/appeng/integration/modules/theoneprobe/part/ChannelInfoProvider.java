@@ -22,6 +22,7 @@ package appeng.integration.modules.theoneprobe.part;
 import appeng.api.parts.IPart;
 import appeng.core.AEConfig;
 import appeng.core.features.AEFeature;
+import appeng.helpers.ProbeSnapshotCache;
 import appeng.integration.modules.theoneprobe.TheOneProbeText;
 import appeng.parts.networking.PartCableSmart;
 import appeng.parts.networking.PartDenseCableSmart;
@@ -46,8 +47,10 @@ public class ChannelInfoProvider implements IPartProbInfoProvider {
             final int maxChannels = (part instanceof PartDenseCableSmart) ? AEConfig.instance().getDenseChannelCapacity() : AEConfig.instance().getNormalChannelCapacity();
 
             if (part.getGridNode().isActive()) {
-                final NBTTagCompound tmp = new NBTTagCompound();
-                part.writeToNBT(tmp);
+                final NBTTagCompound tmp = ProbeSnapshotCache.get(part, "top.channels", world, part::writeToNBT);
+                if (tmp == null) {
+                    return;
+                }
                 usedChannels = tmp.getInteger("usedChannels");
             } else {
                 usedChannels = 0;
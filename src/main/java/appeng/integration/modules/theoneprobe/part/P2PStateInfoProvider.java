@@ -20,6 +20,7 @@ package appeng.integration.modules.theoneprobe.part;
 
 
 import appeng.api.parts.IPart;
+import appeng.helpers.ProbeSnapshotCache;
 import appeng.integration.modules.theoneprobe.TheOneProbeText;
 import appeng.me.GridAccessException;
 import appeng.parts.p2p.PartP2PTunnel;
@@ -30,6 +31,7 @@ import mcjty.theoneprobe.api.IProbeInfo;
 import mcjty.theoneprobe.api.ProbeMode;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 
 
@@ -50,8 +52,15 @@ public class P2PStateInfoProvider implements IPartProbInfoProvider {
 
             // The default state
             int state = STATE_UNLINKED;
-            int outputCount = getOutputCount(tunnel);
-            int inputCount = getInputCount(tunnel);
+            final NBTTagCompound counts = ProbeSnapshotCache.get(tunnel, "top.p2p", world, tag -> {
+                tag.setInteger("outputs", getOutputCount(tunnel));
+                tag.setInteger("inputs", getInputCount(tunnel));
+            });
+            if (counts == null) {
+                return;
+            }
+            int outputCount = counts.getInteger("outputs");
+            int inputCount = counts.getInteger("inputs");
 
             if (!tunnel.isOutput()) {
                 if (outputCount > 0) {
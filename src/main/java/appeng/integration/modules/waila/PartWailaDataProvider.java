@@ -20,6 +20,7 @@ package appeng.integration.modules.waila;
 
 
 import appeng.api.parts.IPart;
+import appeng.helpers.ProbeSnapshotCache;
 import appeng.integration.modules.waila.part.*;
 import com.google.common.collect.Lists;
 import mcp.mobius.waila.api.IWailaConfigHandler;
@@ -114,6 +115,10 @@ public final class PartWailaDataProvider implements IWailaDataProvider {
 
     @Override
     public List<String> getWailaBody(final ItemStack itemStack, final List<String> currentToolTip, final IWailaDataAccessor accessor, final IWailaConfigHandler config) {
+        if (isPending(accessor)) {
+            return currentToolTip;
+        }
+
         final TileEntity te = accessor.getTileEntity();
         final RayTraceResult mop = accessor.getMOP();
 
@@ -132,6 +137,10 @@ public final class PartWailaDataProvider implements IWailaDataProvider {
 
     @Override
     public List<String> getWailaTail(final ItemStack itemStack, final List<String> currentToolTip, final IWailaDataAccessor accessor, final IWailaConfigHandler config) {
+        if (isPending(accessor)) {
+            return currentToolTip;
+        }
+
         final TileEntity te = accessor.getTileEntity();
         final RayTraceResult mop = accessor.getMOP();
 
@@ -158,12 +167,28 @@ public final class PartWailaDataProvider implements IWailaDataProvider {
             if (maybePart.isPresent()) {
                 final IPart part = maybePart.get();
 
-                for (final IPartWailaDataProvider provider : this.providers) {
-                    provider.getNBTData(player, part, te, tag, world, pos);
+                final NBTTagCompound snapshot = ProbeSnapshotCache.get(part, "waila.part", world, data -> {
+                    for (final IPartWailaDataProvider provider : this.providers) {
+                        provider.getNBTData(player, part, te, data, world, pos);
+                    }
+                });
+
+                if (snapshot != null) {
+                    tag.merge(snapshot);
+                } else {
+                    tag.setBoolean(ProbeSnapshotCache.PENDING_TAG, true);
                 }
             }
         }
 
         return tag;
     }
+
+    /**
+     * @return true if the server had no snapshot for this tick, the lines are left out instead of showing defaults
+     */
+    private static boolean isPending(final IWailaDataAccessor accessor) {
+        final NBTTagCompound tag = accessor.getNBTData();
+        return tag != null && tag.getBoolean(ProbeSnapshotCache.PENDING_TAG);
+    }
 }
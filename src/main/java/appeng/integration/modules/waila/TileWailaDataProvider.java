@@ -19,6 +19,7 @@
 package appeng.integration.modules.waila;
 
 
+import appeng.helpers.ProbeSnapshotCache;
 import appeng.integration.modules.waila.tile.ChargerWailaDataProvider;
 import appeng.integration.modules.waila.tile.CraftingMonitorWailaDataProvider;
 import appeng.integration.modules.waila.tile.PowerStateWailaDataProvider;
@@ -78,6 +79,10 @@ public final class TileWailaDataProvider implements IWailaDataProvider {
 
     @Override
     public List<String> getWailaBody(final ItemStack itemStack, final List<String> currentToolTip, final IWailaDataAccessor accessor, final IWailaConfigHandler config) {
+        if (isPending(accessor)) {
+            return currentToolTip;
+        }
+
         for (final IWailaDataProvider provider : this.providers) {
             provider.getWailaBody(itemStack, currentToolTip, accessor, config);
         }
@@ -87,6 +92,10 @@ public final class TileWailaDataProvider implements IWailaDataProvider {
 
     @Override
     public List<String> getWailaTail(final ItemStack itemStack, final List<String> currentToolTip, final IWailaDataAccessor accessor, final IWailaConfigHandler config) {
+        if (isPending(accessor)) {
+            return currentToolTip;
+        }
+
         for (final IWailaDataProvider provider : this.providers) {
             provider.getWailaTail(itemStack, currentToolTip, accessor, config);
         }
@@ -96,10 +105,26 @@ public final class TileWailaDataProvider implements IWailaDataProvider {
 
     @Override
     public NBTTagCompound getNBTData(EntityPlayerMP player, TileEntity te, NBTTagCompound tag, World world, BlockPos pos) {
-        for (final IWailaDataProvider provider : this.providers) {
-            provider.getNBTData(player, te, tag, world, pos);
+        final NBTTagCompound snapshot = ProbeSnapshotCache.get(te, "waila.tile", world, data -> {
+            for (final IWailaDataProvider provider : this.providers) {
+                provider.getNBTData(player, te, data, world, pos);
+            }
+        });
+
+        if (snapshot != null) {
+            tag.merge(snapshot);
+        } else {
+            tag.setBoolean(ProbeSnapshotCache.PENDING_TAG, true);
         }
 
         return tag;
     }
+
+    /**
+     * @return true if the server had no snapshot for this tick, the lines are left out instead of showing defaults
+     */
+    private static boolean isPending(final IWailaDataAccessor accessor) {
+        final NBTTagCompound tag = accessor.getNBTData();
+        return tag != null && tag.getBoolean(ProbeSnapshotCache.PENDING_TAG);
+    }
 }
@@ -31,6 +31,7 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
     private static final long serialVersionUID = 3224660708327386933L;
 
     private final Class<? extends IGridHost> machine;
+    private long version = 0;
 
     MachineSet(final Class<? extends IGridHost> m) {
         this.machine = m;
@@ -40,4 +41,35 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
     public Class<? extends IGridHost> getMachineClass() {
         return this.machine;
     }
+
+    @Override
+    public boolean add(final IGridNode node) {
+        if (super.add(node)) {
+            this.version++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Object node) {
+        if (super.remove(node)) {
+            this.version++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.version++;
+    }
+
+    /**
+     * @return a counter that changes whenever a node joins or leaves the set
+     */
+    public long getVersion() {
+        return this.version;
+    }
 }
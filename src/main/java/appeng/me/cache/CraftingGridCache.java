@@ -41,7 +41,7 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
-import appeng.crafting.CraftingJob;
+import appeng.crafting.CraftingCalculationScheduler;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
 import appeng.crafting.CraftingWatcher;
@@ -59,24 +59,14 @@ import net.minecraft.world.World;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 import java.util.stream.StreamSupport;
 
 
 public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper, ICellProvider, IMEInventoryHandler<IAEItemStack> {
 
-    private static final ExecutorService CRAFTING_POOL;
     private static final Comparator<ICraftingPatternDetails> COMPARATOR = (firstDetail, nextDetail) -> nextDetail.getPriority() - firstDetail.getPriority();
 
-    static {
-        final ThreadFactory factory = ar -> new Thread(ar, "AE Crafting Calculator");
-
-        CRAFTING_POOL = Executors.newCachedThreadPool(factory);
-    }
-
     private final Set<CraftingCPUCluster> craftingCPUClusters = new HashSet<>();
     private final Set<ICraftingProvider> craftingProviders = new HashSet<>();
     private final Map<IGridNode, ICraftingWatcher> craftingWatchers = new HashMap<>();
@@ -442,9 +432,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
             throw new IllegalArgumentException("Invalid Crafting Job Request");
         }
 
-        final CraftingJob job = new CraftingJob(world, grid, actionSrc, slotItem, cb);
-
-        return CRAFTING_POOL.submit(job, job);
+        return CraftingCalculationScheduler.INSTANCE.submit(world, grid, actionSrc, slotItem, cb);
     }
 
     @Override
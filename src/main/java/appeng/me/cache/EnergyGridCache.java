@@ -42,6 +42,11 @@ import java.util.*;
 public class EnergyGridCache implements IEnergyGrid {
 
     private static final double MAX_BUFFER_STORAGE = 800;
+    /**
+     * ticks after which the tracked stored power is summed up from the storages again, to pick up changes made to
+     * them without the grid
+     */
+    private static final int STORED_POWER_REFRESH_TICKS = 20;
     private static final Comparator<IEnergyGridProvider> COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST = (o1, o2) -> Double.compare(o2.getProviderStoredEnergy(), o1.getProviderStoredEnergy());
 
     private static final Comparator<IEnergyGridProvider> COMPARATOR_LOWEST_PERCENTAGE_FIRST = (o1, o2) -> {
@@ -135,19 +140,11 @@ public class EnergyGridCache implements IEnergyGrid {
         if (ev.storage.isAEPublicPowerStorage()) {
             if (ev.type == PowerEventType.PROVIDE_POWER) {
                 if (ev.storage.getPowerFlow() != AccessRestriction.WRITE) {
-                    if (!ongoingExtractOperation) {
-                        addProvider(ev.storage);
-                    } else {
-                        this.providersToAdd.add(ev.storage);
-                    }
+                    this.offerProvider(ev.storage);
                 }
             } else if (ev.type == PowerEventType.REQUEST_POWER) {
                 if (ev.storage.getPowerFlow() != AccessRestriction.READ) {
-                    if (!ongoingInjectOperation) {
-                        addRequester(ev.storage);
-                    } else {
-                        this.requesterToAdd.add(ev.storage);
-                    }
+                    this.offerRequester(ev.storage);
                 }
             }
         } else {
@@ -205,9 +202,28 @@ public class EnergyGridCache implements IEnergyGrid {
             this.publicPowerState(false, this.myGrid);
         }
 
+        this.refillBuffer();
         this.availableTicksSinceUpdate++;
     }
 
+    /**
+     * Moves power from the storages into the buffer of the grid, so the extractions of the next tick can be served
+     * by the buffer alone.
+     */
+    private void refillBuffer() {
+        final double missing = MAX_BUFFER_STORAGE - this.localStorage.getAECurrentPower();
+        if (missing < 0.01) {
+            return;
+        }
+
+        this.mergePendingProviders();
+        final double moved = this.extractFromStorages(missing, Actionable.MODULATE, true);
+        if (moved > 0) {
+            // stays part of the stored power, only its location changes
+            this.localStorage.addCurrentAEPower(moved);
+        }
+    }
+
     @Override
     public double extractAEPower(final double amt, final Actionable mode, final PowerMultiplier pm) {
         final double toExtract = pm.multiply(amt);
@@ -249,7 +265,7 @@ public class EnergyGridCache implements IEnergyGrid {
     }
 
     /**
-     * refresh current stored power.
+     * refresh current stored power, the tracked value drifts when storages change without the grid.
      */
     private void refreshPower() {
         this.availableTicksSinceUpdate = 0;
@@ -266,23 +282,58 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double extractProviderPower(final double amt, final Actionable mode) {
-        double extractedPower = 0;
+        // the buffer is refilled every tick, most extractions never have to look at the storages
+        if (mode == Actionable.MODULATE && this.localStorage.getAECurrentPower() - amt > 0.01) {
+            this.localStorage.extractAEPower(amt, mode, PowerMultiplier.ONE);
+            this.globalAvailablePower -= amt;
+            this.tickDrainPerTick += amt;
+            return amt;
+        }
 
-        this.providers.addAll(providersToAdd);
-        providersToAdd.clear();
-        providers.removeIf(providerToRemove::contains);
-        this.providerToRemove.clear();
+        this.mergePendingProviders();
 
+        // when modulating, the buffer is used last, it keeps the grid powered while the storages are drained
+        final boolean ls = mode == Actionable.MODULATE && this.providers.contains(this.localStorage);
+        double extractedPower = this.extractFromStorages(amt, mode, mode == Actionable.MODULATE);
+
+        if (ls && extractedPower < amt) {
+            final double req = amt - extractedPower;
+            final double newPower = localStorage.extractAEPower(req, mode, PowerMultiplier.ONE);
+
+            extractedPower += newPower;
+
+            if (newPower < req) {
+                providers.remove(localStorage);
+            }
+        }
+
+        final double result = Math.min(extractedPower, amt);
+
+        if (mode == Actionable.MODULATE) {
+            if (extractedPower > amt) {
+                this.localStorage.addCurrentAEPower(extractedPower - amt);
+            }
+
+            this.globalAvailablePower -= result;
+            this.tickDrainPerTick += result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Extracts from the storages of the grid. Storages that run empty are dropped until they offer power again.
+     */
+    private double extractFromStorages(final double amt, final Actionable mode, final boolean skipBuffer) {
+        double extractedPower = 0;
         final Iterator<IAEPowerStorage> it = this.providers.iterator();
 
         ongoingExtractOperation = true;
-        boolean ls = false;
         try {
             while (extractedPower < amt && it.hasNext()) {
                 final IAEPowerStorage node = it.next();
                 if (node != null) {
-                    if (node == localStorage && mode == Actionable.MODULATE) {
-                        ls = true;
+                    if (skipBuffer && node == localStorage) {
                         continue;
                     }
 
@@ -299,40 +350,34 @@ public class EnergyGridCache implements IEnergyGrid {
             }
         } finally {
             ongoingExtractOperation = false;
-            if (ls && extractedPower < amt) {
-                final double req = amt - extractedPower;
-                final double newPower = localStorage.extractAEPower(req, mode, PowerMultiplier.ONE);
-
-                extractedPower += newPower;
-
-                if (newPower < req) {
-                    providers.remove(localStorage);
-                }
-            }
         }
 
-        final double result = Math.min(extractedPower, amt);
-
-        if (mode == Actionable.MODULATE) {
-            if (extractedPower > amt) {
-                this.localStorage.addCurrentAEPower(extractedPower - amt);
-            }
+        return extractedPower;
+    }
 
-            this.globalAvailablePower -= result;
-            this.tickDrainPerTick += result;
+    private void mergePendingProviders() {
+        if (!this.providersToAdd.isEmpty()) {
+            this.providers.addAll(this.providersToAdd);
+            this.providersToAdd.clear();
+        }
+        if (!this.providerToRemove.isEmpty()) {
+            this.providers.removeIf(this.providerToRemove::contains);
+            this.providerToRemove.clear();
         }
-
-        return result;
     }
 
     @Override
     public double injectProviderPower(double amt, final Actionable mode) {
         final double originalAmount = amt;
 
-        this.requesters.addAll(requesterToAdd);
-        requesterToAdd.clear();
-        requesters.removeIf(requesterToRemove::contains);
-        this.requesterToRemove.clear();
+        if (!this.requesterToAdd.isEmpty()) {
+            this.requesters.addAll(this.requesterToAdd);
+            this.requesterToAdd.clear();
+        }
+        if (!this.requesterToRemove.isEmpty()) {
+            this.requesters.removeIf(this.requesterToRemove::contains);
+            this.requesterToRemove.clear();
+        }
 
         final Iterator<IAEPowerStorage> it = this.requesters.iterator();
 
@@ -359,6 +404,7 @@ public class EnergyGridCache implements IEnergyGrid {
 
         if (mode == Actionable.MODULATE) {
             this.tickInjectionPerTick += originalAmount - overflow;
+            this.globalAvailablePower += originalAmount - overflow;
         }
 
         return overflow;
@@ -420,7 +466,9 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double getStoredPower() {
-        this.refreshPower();
+        if (this.availableTicksSinceUpdate >= STORED_POWER_REFRESH_TICKS) {
+            this.refreshPower();
+        }
         return Math.max(0.0, this.globalAvailablePower);
     }
 
@@ -480,6 +528,8 @@ public class EnergyGridCache implements IEnergyGrid {
                 if (ps.getPowerFlow() != AccessRestriction.WRITE) {
                     this.globalMaxPower -= ps.getAEMaxPower();
                     this.globalAvailablePower -= ps.getAECurrentPower();
+                    // reconcile with the remaining storages on the next query
+                    this.availableTicksSinceUpdate = STORED_POWER_REFRESH_TICKS;
                 }
                 if (!ongoingExtractOperation) {
                     removeProvider(ps);
@@ -504,6 +554,28 @@ public class EnergyGridCache implements IEnergyGrid {
         }
     }
 
+    /**
+     * Adds a storage that has power, or queues it while an extraction iterates the providers.
+     */
+    private void offerProvider(final IAEPowerStorage provider) {
+        if (!ongoingExtractOperation) {
+            addProvider(provider);
+        } else {
+            this.providersToAdd.add(provider);
+        }
+    }
+
+    /**
+     * Adds a storage that has room for power, or queues it while an injection iterates the requesters.
+     */
+    private void offerRequester(final IAEPowerStorage requester) {
+        if (!ongoingInjectOperation) {
+            addRequester(requester);
+        } else {
+            this.requesterToAdd.add(requester);
+        }
+    }
+
     private void addRequester(IAEPowerStorage requester) {
         Preconditions.checkState(!ongoingInjectOperation, "Cannot modify energy requesters while energy is being injected.");
         this.requesters.add(requester);
@@ -550,19 +622,11 @@ public class EnergyGridCache implements IEnergyGrid {
 
                 if (current > 0 && ps.getPowerFlow() != AccessRestriction.WRITE) {
                     this.globalAvailablePower += current;
-                    if (!ongoingExtractOperation) {
-                        addProvider(ps);
-                    } else {
-                        this.providersToAdd.add(ps);
-                    }
+                    this.offerProvider(ps);
                 }
 
                 if (current < max && ps.getPowerFlow() != AccessRestriction.READ) {
-                    if (!ongoingInjectOperation) {
-                        addRequester(ps);
-                    } else {
-                        this.requesterToAdd.add(ps);
-                    }
+                    this.offerRequester(ps);
                 }
             }
         }
@@ -651,8 +715,9 @@ public class EnergyGridCache implements IEnergyGrid {
         private void addCurrentAEPower(double amount) {
             this.stored += amount;
 
+            // the cache owns the buffer, no need to go through the event bus
             if (this.stored > 0.01) {
-                EnergyGridCache.this.myGrid.postEvent(new MENetworkPowerStorage(this, PowerEventType.PROVIDE_POWER));
+                EnergyGridCache.this.offerProvider(this);
             }
         }
 
@@ -660,7 +725,7 @@ public class EnergyGridCache implements IEnergyGrid {
             this.stored -= amount;
 
             if (this.stored < MAX_BUFFER_STORAGE - 0.001) {
-                EnergyGridCache.this.myGrid.postEvent(new MENetworkPowerStorage(this, PowerEventType.REQUEST_POWER));
+                EnergyGridCache.this.offerRequester(this);
             }
 
             if (this.stored < 0.01) {
@@ -56,12 +56,14 @@ public class GridStorageCache implements IStorageGrid {
     private final GenericInterestManager<ItemWatcher> interestManager = new GenericInterestManager<>(this.interests);
     private final HashMap<IGridNode, IStackWatcher> watchers = new HashMap<>();
     private final Map<IStorageChannel<? extends IAEStack>, NetworkInventoryHandler<?>> storageNetworks;
+    private final Map<IStorageChannel<? extends IAEStack>, Map<ICellProvider, List<IMEInventoryHandler>>> mountedHandlers;
     private final Map<IStorageChannel<? extends IAEStack>, NetworkMonitor<?>> storageMonitors;
     private int localDepth;
 
     public GridStorageCache(final IGrid g) {
         this.myGrid = g;
         this.storageNetworks = new IdentityHashMap<>();
+        this.mountedHandlers = new IdentityHashMap<>();
         this.storageMonitors = new IdentityHashMap<>();
 
         AEApi.instance().storage().storageChannels().forEach(channel -> this.storageMonitors.put(channel, new NetworkMonitor<>(this, channel)));
@@ -184,8 +186,18 @@ public class GridStorageCache implements IStorageGrid {
         if (localDepth > 0) {
             return;
         }
+
+        final ICellProvider changed = ev == null ? null : ev.getProvider();
+        if (changed != null && (this.activeCellProviders.contains(changed) || this.inactiveCellProviders.contains(changed))) {
+            localDepth++;
+            this.updateCellProvider(changed);
+            localDepth--;
+            return;
+        }
+
         localDepth++;
         this.storageNetworks.clear();
+        this.mountedHandlers.clear();
 
         final List<ICellProvider> ll = new ArrayList<ICellProvider>();
         ll.addAll(this.inactiveCellProviders);
@@ -194,14 +206,7 @@ public class GridStorageCache implements IStorageGrid {
         final CellChangeTracker tracker = new CellChangeTracker();
 
         for (final ICellProvider cc : ll) {
-            boolean active = true;
-
-            if (cc instanceof IActionHost) {
-                final IGridNode node = ((IActionHost) cc).getActionableNode();
-                active = node != null && node.isActive();
-            }
-
-            if (active) {
+            if (isProviderActive(cc)) {
                 this.addCellProvider(cc, tracker);
             } else {
                 this.removeCellProvider(cc, tracker);
@@ -212,17 +217,84 @@ public class GridStorageCache implements IStorageGrid {
         this.storageMonitors.forEach((channel, monitor) -> monitor.setForceUpdate(true));
     }
 
+    private static boolean isProviderActive(final ICellProvider cc) {
+        if (cc instanceof IActionHost) {
+            final IGridNode node = ((IActionHost) cc).getActionableNode();
+            return node != null && node.isActive();
+        }
+        return true;
+    }
+
+    /**
+     * Refreshes the cells of a single provider. Only the contents of the provider are posted, and only if it was
+     * activated or deactivated, the monitors keep their lists.
+     */
+    private void updateCellProvider(final ICellProvider cc) {
+        final CellChangeTracker tracker = new CellChangeTracker();
+
+        if (isProviderActive(cc)) {
+            this.addCellProvider(cc, tracker);
+        } else {
+            this.removeCellProvider(cc, tracker);
+        }
+
+        this.remount(cc);
+        tracker.applyChanges();
+    }
+
+    /**
+     * Replaces the handlers of the provider in the storage networks that were already built. The networks are
+     * recreated on their next use from the remembered handlers of the other providers, without asking them again.
+     */
+    private void remount(final ICellProvider cc) {
+        final boolean active = this.activeCellProviders.contains(cc);
+
+        for (final Map.Entry<IStorageChannel<? extends IAEStack>, Map<ICellProvider, List<IMEInventoryHandler>>> entry : this.mountedHandlers.entrySet()) {
+            final IStorageChannel channel = entry.getKey();
+            final Map<ICellProvider, List<IMEInventoryHandler>> mounted = entry.getValue();
+
+            final List<IMEInventoryHandler> previous = mounted.remove(cc);
+            final List<IMEInventoryHandler> current = active ? new ArrayList<>(cc.getCellArray(channel)) : Collections.emptyList();
+            if (!current.isEmpty()) {
+                mounted.put(cc, current);
+            }
+
+            if (previous != null || !current.isEmpty()) {
+                this.storageNetworks.remove(channel);
+            }
+        }
+    }
+
     private <T extends IAEStack<T>, C extends IStorageChannel<T>> void postChangesToNetwork(final C chan, final int upOrDown, final IItemList<T> availableItems, final IActionSource src) {
         this.storageMonitors.get(chan).postChange(upOrDown > 0, (Iterable) availableItems, src);
     }
 
     private <T extends IAEStack<T>, C extends IStorageChannel<T>> NetworkInventoryHandler<T> buildNetworkStorage(final C chan) {
+        Map<ICellProvider, List<IMEInventoryHandler>> mounted = this.mountedHandlers.get(chan);
+
+        if (mounted == null) {
+            mounted = new LinkedHashMap<>();
+
+            for (final ICellProvider cc : this.activeCellProviders) {
+                final List<IMEInventoryHandler> handlers = cc.getCellArray(chan);
+                if (!handlers.isEmpty()) {
+                    mounted.put(cc, new ArrayList<>(handlers));
+                }
+            }
+
+            this.mountedHandlers.put(chan, mounted);
+        }
+
+        return this.createNetworkStorage(chan, mounted);
+    }
+
+    private <T extends IAEStack<T>> NetworkInventoryHandler<T> createNetworkStorage(final IStorageChannel<T> chan, final Map<ICellProvider, List<IMEInventoryHandler>> mounted) {
         final SecurityCache security = this.getGrid().getCache(ISecurityGrid.class);
 
         final NetworkInventoryHandler<T> storageNetwork = new NetworkInventoryHandler<>(chan, security);
 
-        for (final ICellProvider cc : this.activeCellProviders) {
-            for (final IMEInventoryHandler<T> h : cc.getCellArray(chan)) {
+        for (final List<IMEInventoryHandler> handlers : mounted.values()) {
+            for (final IMEInventoryHandler<T> h : handlers) {
                 storageNetwork.addNewStorage(h);
             }
         }
@@ -244,12 +316,14 @@ public class GridStorageCache implements IStorageGrid {
     public void registerCellProvider(final ICellProvider provider) {
         this.inactiveCellProviders.add(provider);
         this.addCellProvider(provider, new CellChangeTracker()).applyChanges();
+        this.remount(provider);
     }
 
     @Override
     public void unregisterCellProvider(final ICellProvider provider) {
         this.removeCellProvider(provider, new CellChangeTracker()).applyChanges();
         this.inactiveCellProviders.remove(provider);
+        this.remount(provider);
     }
 
     public GenericInterestManager<ItemWatcher> getInterestManager() {
@@ -32,7 +32,10 @@ import appeng.api.storage.channels.IFluidStorageChannel;
 import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
+import appeng.core.features.AEFeature;
 import appeng.me.storage.ItemWatcher;
+import appeng.util.item.CompactItemList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
@@ -67,10 +70,18 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     public NetworkMonitor(final GridStorageCache cache, final IStorageChannel<T> chan) {
         this.myGridCache = cache;
         this.myChannel = chan;
-        this.cachedList = chan.createList();
+        this.cachedList = createCachedList(chan);
         this.listeners = new Object2ObjectOpenHashMap<>();
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T extends IAEStack<T>> IItemList<T> createCachedList(final IStorageChannel<T> chan) {
+        if (chan instanceof IItemStorageChannel && AEConfig.instance().isFeatureEnabled(AEFeature.COMPACT_NETWORK_ITEM_LISTS)) {
+            return (IItemList<T>) new CompactItemList();
+        }
+        return chan.createList();
+    }
+
     @Override
     public void addListener(final IMEMonitorHandlerReceiver<T> l, final Object verificationToken) {
         this.listeners.put(l, verificationToken);
@@ -268,13 +268,18 @@ public class PathGridCache implements IPathingGrid {
 
     private void achievementPost() {
         if (this.lastChannels != this.getChannelsInUse() && AEConfig.instance().isFeatureEnabled(AEFeature.CHANNELS)) {
-            final IAdvancementTrigger currentBracket = this.getAchievementBracket(this.getChannelsInUse());
-            final IAdvancementTrigger lastBracket = this.getAchievementBracket(this.lastChannels);
-            if (currentBracket != lastBracket && currentBracket != null) {
+            final int currentBracket = this.getAchievementBracket(this.getChannelsInUse());
+            final int lastBracket = this.getAchievementBracket(this.lastChannels);
+            if (currentBracket != lastBracket && currentBracket > 0) {
+                // only look up the trigger once a player is found, grids without players have nothing to award
+                IAdvancementTrigger trigger = null;
                 for (final IGridNode n : this.requireChannels) {
                     EntityPlayer player = AEApi.instance().registries().players().findPlayer(n.getPlayerID());
                     if (player instanceof EntityPlayerMP) {
-                        currentBracket.trigger((EntityPlayerMP) player);
+                        if (trigger == null) {
+                            trigger = this.getAchievementTrigger(currentBracket);
+                        }
+                        trigger.trigger((EntityPlayerMP) player);
                     }
                 }
             }
@@ -282,20 +287,31 @@ public class PathGridCache implements IPathingGrid {
         this.lastChannels = this.getChannelsInUse();
     }
 
-    private IAdvancementTrigger getAchievementBracket(final int ch) {
+    private int getAchievementBracket(final int ch) {
         if (ch < 8) {
-            return null;
+            return 0;
         }
 
         if (ch < 128) {
-            return AppEng.instance().getAdvancementTriggers().getNetworkApprentice();
+            return 1;
         }
 
         if (ch < 2048) {
-            return AppEng.instance().getAdvancementTriggers().getNetworkEngineer();
+            return 2;
         }
 
-        return AppEng.instance().getAdvancementTriggers().getNetworkAdmin();
+        return 3;
+    }
+
+    private IAdvancementTrigger getAchievementTrigger(final int bracket) {
+        switch (bracket) {
+            case 1:
+                return AppEng.instance().getAdvancementTriggers().getNetworkApprentice();
+            case 2:
+                return AppEng.instance().getAdvancementTriggers().getNetworkEngineer();
+            default:
+                return AppEng.instance().getAdvancementTriggers().getNetworkAdmin();
+        }
     }
 
     @MENetworkEventSubscribe
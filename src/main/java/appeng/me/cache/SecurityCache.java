@@ -32,33 +32,56 @@ import appeng.core.worlddata.WorldData;
 import appeng.me.GridNode;
 import com.google.common.base.Preconditions;
 import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.entity.player.EntityPlayer;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 
 public class SecurityCache implements ISecurityGrid {
 
+    private static final int ALL_PERMISSIONS = (1 << SecurityPermissions.values().length) - 1;
+
     private final IGrid myGrid;
     private final List<ISecurityProvider> securityProvider = new ArrayList<>();
     private final HashMap<Integer, EnumSet<SecurityPermissions>> playerPerms = new HashMap<>();
+    private final Int2IntMap playerMasks = new Int2IntOpenHashMap();
+    private final Long2IntMap sourceMasks = new Long2IntOpenHashMap();
+    private final Map<UUID, Integer> playerIDs = new HashMap<>();
     private long securityKey = -1;
 
     public SecurityCache(final IGrid g) {
         this.myGrid = g;
+        this.playerMasks.defaultReturnValue(ALL_PERMISSIONS);
+        this.sourceMasks.defaultReturnValue(-1);
     }
 
     @MENetworkEventSubscribe
     public void updatePermissions(final MENetworkSecurityChange ev) {
         this.playerPerms.clear();
+        this.playerMasks.clear();
+        this.sourceMasks.clear();
         if (this.securityProvider.isEmpty()) {
             return;
         }
 
         this.securityProvider.get(0).readPermissions(this.playerPerms);
+
+        for (final Map.Entry<Integer, EnumSet<SecurityPermissions>> entry : this.playerPerms.entrySet()) {
+            int mask = 0;
+            for (final SecurityPermissions perm : entry.getValue()) {
+                mask |= 1 << perm.ordinal();
+            }
+            this.playerMasks.put(entry.getKey().intValue(), mask);
+        }
     }
 
     public long getSecurityKey() {
@@ -136,10 +159,19 @@ public class SecurityCache implements ISecurityGrid {
         Preconditions.checkNotNull(player);
         Preconditions.checkNotNull(perm);
 
+        // resolving the player id reads the player registry, which is not needed without security
+        if (!this.isAvailable()) {
+            return true;
+        }
+
         final GameProfile profile = player.getGameProfile();
-        final int playerID = WorldData.instance().playerData().getPlayerID(profile);
+        Integer playerID = this.playerIDs.get(profile.getId());
+        if (playerID == null) {
+            playerID = WorldData.instance().playerData().getPlayerID(profile);
+            this.playerIDs.put(profile.getId(), playerID);
+        }
 
-        return this.hasPermission(playerID, perm);
+        return this.hasPermission(playerID.intValue(), perm);
     }
 
     @Override
@@ -148,15 +180,34 @@ public class SecurityCache implements ISecurityGrid {
             return true;
         }
         if (this.isAvailable()) {
-            final EnumSet<SecurityPermissions> perms = this.playerPerms.get(playerID);
+            return (this.playerMasks.get(playerID) & 1 << perm.ordinal()) != 0;
+        }
+        return true;
+    }
 
-            if (perms == null) {
-                return this.hasPermission(-1, perm);
-            }
+    /**
+     * Checks the permission of machines of another grid, which act as the owner of that grid's security terminal.
+     * <p>
+     * The result is remembered per security key of the other grid until the permissions of this grid change.
+     */
+    public boolean hasPermission(final ISecurityGrid source, final SecurityPermissions perm) {
+        if (!this.isAvailable()) {
+            return true;
+        }
 
-            return perms.contains(perm);
+        if (!(source instanceof SecurityCache) || !source.isAvailable()) {
+            return this.hasPermission(source.getOwner(), perm);
         }
-        return true;
+
+        final long sourceKey = ((SecurityCache) source).getSecurityKey();
+        int mask = this.sourceMasks.get(sourceKey);
+        if (mask == -1) {
+            final int owner = source.getOwner();
+            mask = owner == -1 ? ALL_PERMISSIONS : this.playerMasks.get(owner);
+            this.sourceMasks.put(sourceKey, mask);
+        }
+
+        return (mask & 1 << perm.ordinal()) != 0;
     }
 
     @Override
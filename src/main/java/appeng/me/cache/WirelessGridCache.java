@@ -0,0 +1,167 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache;
+
+
+import appeng.api.implementations.tiles.IWirelessAccessPoint;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+import appeng.core.AEConfig;
+import appeng.tile.networking.TileWireless;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Wireless access points of a grid, bucketed per dimension into square cells as wide as the largest possible access
+ * point range.
+ * <p>
+ * Every access point that can reach a position is therefore in the cell of that position or one of its eight
+ * neighbours. Range and power are still checked by the caller, as boosters and power change without moving the
+ * access point.
+ */
+public class WirelessGridCache implements IGridCache {
+
+    private static final int MAX_BOOSTERS = 64;
+
+    private final int cellSize;
+    private final Int2ObjectMap<Long2ObjectMap<List<TileWireless>>> cells = new Int2ObjectOpenHashMap<>();
+    private final Map<TileWireless, Location> locations = new IdentityHashMap<>();
+
+    public WirelessGridCache(final IGrid g) {
+        this.cellSize = Math.max(16, (int) Math.ceil(AEConfig.instance().wireless_getMaxRange(MAX_BOOSTERS)));
+    }
+
+    @Override
+    public void onUpdateTick() {
+
+    }
+
+    @Override
+    public void removeNode(final IGridNode node, final IGridHost machine) {
+        if (machine instanceof TileWireless) {
+            final Location location = this.locations.remove(machine);
+            if (location == null) {
+                return;
+            }
+
+            final Long2ObjectMap<List<TileWireless>> inDimension = this.cells.get(location.dimension);
+            final List<TileWireless> inCell = inDimension.get(location.cell);
+            inCell.remove(machine);
+
+            if (inCell.isEmpty()) {
+                inDimension.remove(location.cell);
+                if (inDimension.isEmpty()) {
+                    this.cells.remove(location.dimension);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void addNode(final IGridNode node, final IGridHost machine) {
+        if (machine instanceof TileWireless) {
+            final TileWireless wap = (TileWireless) machine;
+            if (wap.getWorld() == null || this.locations.containsKey(wap)) {
+                return;
+            }
+
+            final BlockPos pos = wap.getPos();
+            final Location location = new Location(wap.getWorld().provider.getDimension(), this.cellKey(pos.getX(), pos.getZ()));
+            this.locations.put(wap, location);
+
+            Long2ObjectMap<List<TileWireless>> inDimension = this.cells.get(location.dimension);
+            if (inDimension == null) {
+                this.cells.put(location.dimension, inDimension = new Long2ObjectOpenHashMap<>());
+            }
+
+            List<TileWireless> inCell = inDimension.get(location.cell);
+            if (inCell == null) {
+                inDimension.put(location.cell, inCell = new ArrayList<>());
+            }
+            inCell.add(wap);
+        }
+    }
+
+    @Override
+    public void onSplit(final IGridStorage storageB) {
+
+    }
+
+    @Override
+    public void onJoin(final IGridStorage storageB) {
+
+    }
+
+    @Override
+    public void populateGridStorage(final IGridStorage storage) {
+
+    }
+
+    /**
+     * @return the access points that might be in range of the position, without checking range or power
+     */
+    public List<IWirelessAccessPoint> getAccessPointsNear(final int dimension, final double x, final double z) {
+        final List<IWirelessAccessPoint> found = new ArrayList<>();
+        final Long2ObjectMap<List<TileWireless>> inDimension = this.cells.get(dimension);
+        if (inDimension == null) {
+            return found;
+        }
+
+        final int cellX = Math.floorDiv((int) Math.floor(x), this.cellSize);
+        final int cellZ = Math.floorDiv((int) Math.floor(z), this.cellSize);
+
+        for (int offX = -1; offX <= 1; offX++) {
+            for (int offZ = -1; offZ <= 1; offZ++) {
+                final List<TileWireless> inCell = inDimension.get(ChunkPos.asLong(cellX + offX, cellZ + offZ));
+                if (inCell != null) {
+                    found.addAll(inCell);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private long cellKey(final int x, final int z) {
+        return ChunkPos.asLong(Math.floorDiv(x, this.cellSize), Math.floorDiv(z, this.cellSize));
+    }
+
+    private static final class Location {
+        private final int dimension;
+        private final long cell;
+
+        private Location(final int dimension, final long cell) {
+            this.dimension = dimension;
+            this.cell = cell;
+        }
+    }
+}
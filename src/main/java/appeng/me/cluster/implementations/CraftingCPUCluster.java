@@ -78,6 +78,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private final WorldCoord max;
     private final int[] usedOps = new int[3];
     private final Map<ICraftingPatternDetails, TaskProgress> tasks = new HashMap<>();
+    private final List<CraftingCPUJournal.PendingTask> unresolvedTasks = new ArrayList<>();
     // INSTANCE sate
     private final List<TileCraftingTile> tiles = new ArrayList<>();
     private final List<TileCraftingTile> storage = new ArrayList<>();
@@ -98,6 +99,10 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private MachineSource machineSrc = null;
     private int accelerator = 0;
     private boolean isComplete = true;
+    /**
+     * last written journal, reused by saves until the CPU changes
+     */
+    private NBTTagCompound journal;
     private int remainingOperations;
     private boolean somethingChanged;
 
@@ -343,9 +348,35 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     private void markDirty() {
+        this.journal = null;
         this.getCore().saveChanges();
     }
 
+    /**
+     * @return the tasks, decoding the patterns of tasks that were loaded but not needed yet
+     */
+    private Map<ICraftingPatternDetails, TaskProgress> getTasks() {
+        if (!this.unresolvedTasks.isEmpty()) {
+            for (final CraftingCPUJournal.PendingTask pending : this.unresolvedTasks) {
+                this.resolveTask(pending.getPattern(), pending.getProgress());
+            }
+            this.unresolvedTasks.clear();
+        }
+        return this.tasks;
+    }
+
+    private void resolveTask(final IAEItemStack pattern, final long progress) {
+        if (pattern != null && pattern.getItem() instanceof ICraftingPatternItem) {
+            final ICraftingPatternItem cpi = (ICraftingPatternItem) pattern.getItem();
+            final ICraftingPatternDetails details = cpi.getPatternForItem(pattern.createItemStack(), this.getWorld());
+            if (details != null) {
+                final TaskProgress tp = new TaskProgress();
+                tp.value = progress;
+                this.tasks.put(details, tp);
+            }
+        }
+    }
+
     private void postCraftingStatusChange(final IAEItemStack diff) {
         if (this.getGrid() == null) {
             return;
@@ -533,7 +564,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
         this.isComplete = true;
         this.myLastLink = null;
-        this.tasks.clear();
+        this.getTasks().clear();
 
         // final ImmutableSet<IAEItemStack> items = ImmutableSet.copyOf( this.waitingFor );
         final List<IAEItemStack> items = new ArrayList<>(this.waitingFor.size());
@@ -575,7 +606,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
 
         this.waiting = false;
-        if (this.waiting || this.tasks.isEmpty()) // nothing to do here...
+        if (this.waiting || this.getTasks().isEmpty()) // nothing to do here...
         {
             return;
         }
@@ -599,7 +630,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     private void executeCrafting(final IEnergyGrid eg, final CraftingGridCache cc) {
-        final Iterator<Entry<ICraftingPatternDetails, TaskProgress>> i = this.tasks.entrySet().iterator();
+        final Iterator<Entry<ICraftingPatternDetails, TaskProgress>> i = this.getTasks().entrySet().iterator();
 
         while (i.hasNext()) {
             final Entry<ICraftingPatternDetails, TaskProgress> e = i.next();
@@ -805,7 +836,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     public ICraftingLink submitJob(final IGrid g, final ICraftingJob job, final IActionSource src, final ICraftingRequester requestingMachine) {
-        if (!this.tasks.isEmpty() || !this.waitingFor.isEmpty()) {
+        if (!this.getTasks().isEmpty() || !this.waitingFor.isEmpty()) {
             return null;
         }
 
@@ -862,11 +893,11 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
                 return whatLink;
             } else {
-                this.tasks.clear();
+                this.getTasks().clear();
                 this.inventory.getItemList().resetStatus();
             }
         } catch (final CraftBranchFailure e) {
-            this.tasks.clear();
+            this.getTasks().clear();
             this.inventory.getItemList().resetStatus();
             // AELog.error( e );
         }
@@ -877,13 +908,13 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     @Override
     public boolean isBusy() {
 
-        this.tasks.entrySet().removeIf(taskProgressEntry -> taskProgressEntry.getValue().value <= 0);
+        this.getTasks().entrySet().removeIf(taskProgressEntry -> taskProgressEntry.getValue().value <= 0);
 
-        if (!this.waitingFor.isEmpty() || !this.tasks.isEmpty()) {
+        if (!this.waitingFor.isEmpty() || !this.getTasks().isEmpty()) {
             this.updateElapsedTime();
         }
 
-        return !this.tasks.isEmpty() || !this.waitingFor.isEmpty();
+        return !this.getTasks().isEmpty() || !this.waitingFor.isEmpty();
     }
 
     @Override
@@ -956,7 +987,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 }
                 break;
             case PENDING:
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
+                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.getTasks().entrySet()) {
                     for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
                         ais = ais.copy();
                         ais.setStackSize(ais.getStackSize() * t.getValue().value);
@@ -975,7 +1006,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     list.add(ais);
                 }
 
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
+                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.getTasks().entrySet()) {
                     for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
                         ais = ais.copy();
                         ais.setStackSize(ais.getStackSize() * t.getValue().value);
@@ -987,19 +1018,22 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     public void addStorage(final IAEItemStack extractItems) {
+        this.journal = null;
         this.inventory.injectItems(extractItems, Actionable.MODULATE, null);
     }
 
     public void addEmitable(final IAEItemStack i) {
+        this.journal = null;
         this.waitingFor.add(i);
         this.postCraftingStatusChange(i);
     }
 
     public void addCrafting(final ICraftingPatternDetails details, final long crafts) {
-        TaskProgress i = this.tasks.get(details);
+        this.journal = null;
+        TaskProgress i = this.getTasks().get(details);
 
         if (i == null) {
-            this.tasks.put(details, i = new TaskProgress());
+            this.getTasks().put(details, i = new TaskProgress());
         }
 
         i.value += crafts;
@@ -1020,7 +1054,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 is = what.copy();
                 is.setStackSize(0);
 
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
+                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.getTasks().entrySet()) {
                     for (final IAEItemStack ais : t.getKey().getCondensedOutputs()) {
                         if (ais.isSameType(is)) {
                             is.setStackSize(is.getStackSize() + ais.getStackSize() * t.getValue().value);
@@ -1045,7 +1079,6 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
     public void writeToNBT(final NBTTagCompound data) {
         data.setTag("finalOutput", this.writeItem(this.finalOutput));
-        data.setTag("inventory", this.writeList(this.inventory.getItemList()));
         data.setBoolean("waiting", this.waiting);
         data.setBoolean("isComplete", this.isComplete);
 
@@ -1055,15 +1088,14 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             data.setTag("link", link);
         }
 
-        final NBTTagList list = new NBTTagList();
-        for (final Entry<ICraftingPatternDetails, TaskProgress> e : this.tasks.entrySet()) {
-            final NBTTagCompound item = this.writeItem(AEItemStack.fromItemStack(e.getKey().getPattern()));
-            item.setLong("craftingProgress", e.getValue().value);
-            list.appendTag(item);
+        if (this.journal == null) {
+            final List<CraftingCPUJournal.PendingTask> pending = new ArrayList<>(this.unresolvedTasks);
+            for (final Entry<ICraftingPatternDetails, TaskProgress> e : this.tasks.entrySet()) {
+                pending.add(new CraftingCPUJournal.PendingTask(AEItemStack.fromItemStack(e.getKey().getPattern()), e.getValue().value));
+            }
+            this.journal = CraftingCPUJournal.write(this.inventory.getItemList(), this.waitingFor, pending);
         }
-        data.setTag("tasks", list);
-
-        data.setTag("waitingFor", this.writeList(this.waitingFor));
+        data.setTag(CraftingCPUJournal.TAG, this.journal);
 
         data.setLong("elapsedTime", this.getElapsedTime());
         data.setLong("startItemCount", this.getStartItemCount());
@@ -1084,16 +1116,6 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return out;
     }
 
-    private NBTTagList writeList(final IItemList<IAEItemStack> myList) {
-        final NBTTagList out = new NBTTagList();
-
-        for (final IAEItemStack ais : myList) {
-            out.appendTag(this.writeItem(ais));
-        }
-
-        return out;
-    }
-
     void done() {
         final TileCraftingTile core = this.getCore();
 
@@ -1110,10 +1132,6 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
     public void readFromNBT(final NBTTagCompound data) {
         this.finalOutput = AEItemStack.fromNBT((NBTTagCompound) data.getTag("finalOutput"));
-        for (final IAEItemStack ais : this.readList((NBTTagList) data.getTag("inventory"))) {
-            this.inventory.injectItems(ais, Actionable.MODULATE, this.machineSrc);
-        }
-
         this.waiting = data.getBoolean("waiting");
         this.isComplete = data.getBoolean("isComplete");
 
@@ -1123,22 +1141,28 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             this.submitLink(this.myLastLink);
         }
 
-        final NBTTagList list = data.getTagList("tasks", 10);
-        for (int x = 0; x < list.tagCount(); x++) {
-            final NBTTagCompound item = list.getCompoundTagAt(x);
-            final IAEItemStack pattern = AEItemStack.fromNBT(item);
-            if (pattern != null && pattern.getItem() instanceof ICraftingPatternItem) {
-                final ICraftingPatternItem cpi = (ICraftingPatternItem) pattern.getItem();
-                final ICraftingPatternDetails details = cpi.getPatternForItem(pattern.createItemStack(), this.getWorld());
-                if (details != null) {
-                    final TaskProgress tp = new TaskProgress();
-                    tp.value = item.getLong("craftingProgress");
-                    this.tasks.put(details, tp);
-                }
+        final CraftingCPUJournal journal = data.hasKey(CraftingCPUJournal.TAG) ? CraftingCPUJournal.read(data.getCompoundTag(CraftingCPUJournal.TAG)) : null;
+        if (journal != null) {
+            for (final IAEItemStack ais : journal.getInventory()) {
+                this.inventory.injectItems(ais, Actionable.MODULATE, this.machineSrc);
+            }
+
+            this.waitingFor = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+            for (final IAEItemStack ais : journal.getWaitingFor()) {
+                this.waitingFor.add(ais);
             }
+
+            // the patterns are decoded once the tasks are needed
+            this.unresolvedTasks.addAll(journal.getTasks());
+            this.journal = data.getCompoundTag(CraftingCPUJournal.TAG);
+        } else if (data.hasKey(CraftingCPUJournal.TAG)) {
+            // written by a newer version. Kept as the cached journal, so it stays in the save until the CPU changes.
+            AELog.warn("Crafting CPU journal has an unknown version, the job of the CPU is not loaded");
+            this.journal = data.getCompoundTag(CraftingCPUJournal.TAG);
+        } else {
+            this.readLegacyLists(data);
         }
 
-        this.waitingFor = this.readList((NBTTagList) data.getTag("waitingFor"));
         for (final IAEItemStack is : this.waitingFor) {
             this.postCraftingStatusChange(is.copy());
         }
@@ -1153,6 +1177,23 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
     }
 
+    /**
+     * Reads the lists as written before the {@link CraftingCPUJournal}.
+     */
+    private void readLegacyLists(final NBTTagCompound data) {
+        for (final IAEItemStack ais : this.readList((NBTTagList) data.getTag("inventory"))) {
+            this.inventory.injectItems(ais, Actionable.MODULATE, this.machineSrc);
+        }
+
+        final NBTTagList list = data.getTagList("tasks", 10);
+        for (int x = 0; x < list.tagCount(); x++) {
+            final NBTTagCompound item = list.getCompoundTagAt(x);
+            this.resolveTask(AEItemStack.fromNBT(item), item.getLong("craftingProgress"));
+        }
+
+        this.waitingFor = this.readList((NBTTagList) data.getTag("waitingFor"));
+    }
+
     public void updateName() {
         this.myName = "";
         for (final TileCraftingTile te : this.tiles) {
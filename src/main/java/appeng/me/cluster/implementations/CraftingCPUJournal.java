@@ -0,0 +1,198 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cluster.implementations;
+
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.AEItemStack;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Compact persistent form of the inventory, the awaited items and the tasks of a crafting CPU.
+ * <p>
+ * Every item type and pattern is written once into a palette, the lists reference them by index and store their
+ * amounts as varints. Patterns are kept as stacks, the CPU decodes them only when it needs its tasks.
+ */
+final class CraftingCPUJournal {
+
+    static final String TAG = "journal";
+
+    private static final int VERSION = 1;
+    private static final String TAG_VERSION = "v";
+    private static final String TAG_TYPES = "types";
+    private static final String TAG_DATA = "data";
+
+    private final List<IAEItemStack> inventory;
+    private final List<IAEItemStack> waitingFor;
+    private final List<PendingTask> tasks;
+
+    private CraftingCPUJournal(final List<IAEItemStack> inventory, final List<IAEItemStack> waitingFor, final List<PendingTask> tasks) {
+        this.inventory = inventory;
+        this.waitingFor = waitingFor;
+        this.tasks = tasks;
+    }
+
+    static NBTTagCompound write(final Iterable<IAEItemStack> inventory, final Iterable<IAEItemStack> waitingFor, final Collection<PendingTask> tasks) {
+        final Palette palette = new Palette();
+        final PacketBuffer data = new PacketBuffer(Unpooled.buffer());
+
+        writeList(data, palette, inventory);
+        writeList(data, palette, waitingFor);
+
+        data.writeVarInt(tasks.size());
+        for (final PendingTask task : tasks) {
+            data.writeVarInt(palette.indexOf(task.getPattern()));
+            data.writeVarLong(task.getProgress());
+        }
+
+        final byte[] bytes = new byte[data.readableBytes()];
+        data.readBytes(bytes);
+
+        final NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger(TAG_VERSION, VERSION);
+        tag.setTag(TAG_TYPES, palette.types);
+        tag.setByteArray(TAG_DATA, bytes);
+        return tag;
+    }
+
+    private static void writeList(final PacketBuffer data, final Palette palette, final Iterable<IAEItemStack> list) {
+        // only the stored entries, the lists also keep types that dropped to 0
+        final List<IAEItemStack> stored = new ArrayList<>();
+        for (final IAEItemStack stack : list) {
+            if (stack.isMeaningful()) {
+                stored.add(stack);
+            }
+        }
+
+        data.writeVarInt(stored.size());
+        for (final IAEItemStack stack : stored) {
+            data.writeVarInt(palette.indexOf(stack));
+            data.writeVarLong(stack.getStackSize());
+        }
+    }
+
+    /**
+     * @return the journal, or null if it was written by an unknown version
+     */
+    static CraftingCPUJournal read(final NBTTagCompound tag) {
+        if (tag.getInteger(TAG_VERSION) != VERSION) {
+            return null;
+        }
+
+        final NBTTagList typeTags = tag.getTagList(TAG_TYPES, 10);
+        final List<IAEItemStack> types = new ArrayList<>(typeTags.tagCount());
+        for (int x = 0; x < typeTags.tagCount(); x++) {
+            // null for items that no longer exist, their entries are skipped
+            types.add(AEItemStack.fromItemStack(new ItemStack(typeTags.getCompoundTagAt(x))));
+        }
+
+        final PacketBuffer data = new PacketBuffer(Unpooled.wrappedBuffer(tag.getByteArray(TAG_DATA)));
+        final List<IAEItemStack> inventory = readList(data, types);
+        final List<IAEItemStack> waitingFor = readList(data, types);
+
+        final int taskCount = data.readVarInt();
+        final List<PendingTask> tasks = new ArrayList<>(taskCount);
+        for (int x = 0; x < taskCount; x++) {
+            final IAEItemStack pattern = types.get(data.readVarInt());
+            final long progress = data.readVarLong();
+            if (pattern != null) {
+                tasks.add(new PendingTask(pattern, progress));
+            }
+        }
+
+        return new CraftingCPUJournal(inventory, waitingFor, tasks);
+    }
+
+    private static List<IAEItemStack> readList(final PacketBuffer data, final List<IAEItemStack> types) {
+        final int size = data.readVarInt();
+        final List<IAEItemStack> list = new ArrayList<>(size);
+        for (int x = 0; x < size; x++) {
+            final IAEItemStack type = types.get(data.readVarInt());
+            final long amount = data.readVarLong();
+            if (type != null) {
+                list.add(type.copy().setStackSize(amount));
+            }
+        }
+        return list;
+    }
+
+    List<IAEItemStack> getInventory() {
+        return Collections.unmodifiableList(this.inventory);
+    }
+
+    List<IAEItemStack> getWaitingFor() {
+        return Collections.unmodifiableList(this.waitingFor);
+    }
+
+    List<PendingTask> getTasks() {
+        return Collections.unmodifiableList(this.tasks);
+    }
+
+    /**
+     * A task whose pattern was not decoded yet.
+     */
+    static final class PendingTask {
+        private final IAEItemStack pattern;
+        private final long progress;
+
+        PendingTask(final IAEItemStack pattern, final long progress) {
+            this.pattern = pattern;
+            this.progress = progress;
+        }
+
+        IAEItemStack getPattern() {
+            return this.pattern;
+        }
+
+        long getProgress() {
+            return this.progress;
+        }
+    }
+
+    private static final class Palette {
+        private final Object2IntMap<IAEItemStack> indices = new Object2IntOpenHashMap<>();
+        private final NBTTagList types = new NBTTagList();
+
+        private Palette() {
+            this.indices.defaultReturnValue(-1);
+        }
+
+        private int indexOf(final IAEItemStack stack) {
+            int index = this.indices.getInt(stack);
+            if (index == -1) {
+                index = this.types.tagCount();
+                this.indices.put(stack.copy(), index);
+                this.types.appendTag(stack.getDefinition().writeToNBT(new NBTTagCompound()));
+            }
+            return index;
+        }
+    }
+}
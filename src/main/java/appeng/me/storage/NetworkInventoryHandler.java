@@ -153,9 +153,8 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
                 if (gn != this.security.getGrid()) {
 
                     final ISecurityGrid sg = gn.getCache(ISecurityGrid.class);
-                    final int playerID = sg.getOwner();
 
-                    return !this.security.hasPermission(playerID, permission);
+                    return !this.security.hasPermission(sg, permission);
                 }
             }
         }
@@ -90,6 +90,17 @@ public abstract class AEBasePart implements IPart, IGridProxyable, IActionHost,
         return this.host;
     }
 
+    /**
+     * Syncs only this part to the clients, instead of every part of the cable bus.
+     */
+    protected void markPartForUpdate() {
+        if (this.host instanceof CableBusContainer && this.side != null) {
+            ((CableBusContainer) this.host).markPartForUpdate(this.side);
+        } else {
+            this.host.markForUpdate();
+        }
+    }
+
     public PartType getType() {
         return ItemPart.instance.getTypeByStack(this.is);
     }
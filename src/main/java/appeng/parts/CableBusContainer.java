@@ -40,6 +40,8 @@ import appeng.helpers.AEMultiTile;
 import appeng.items.parts.ItemFacade;
 import appeng.me.GridConnection;
 import appeng.parts.networking.PartCable;
+import appeng.tile.AEBaseTile;
+import appeng.tile.networking.TileCableBus;
 import appeng.util.Platform;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.state.IBlockState;
@@ -65,6 +67,11 @@ import java.util.*;
 
 public class CableBusContainer extends CableBusStorage implements AEMultiTile, ICableBusContainer {
 
+    /**
+     * Sync field of the facades, the parts use the bits of their {@link AEPartLocation} ordinal.
+     */
+    public static final int FACADES_FIELD = 1 << 7;
+
     private static final ThreadLocal<Boolean> IS_LOADING = new ThreadLocal<>();
     private YesNo hasRedstone = YesNo.UNDECIDED;
     private IPartHost tcb;
@@ -299,6 +306,21 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
         this.tcb.markForUpdate();
     }
 
+    /**
+     * Syncs only the part on the given side, if the host supports partial syncs.
+     */
+    public void markPartForUpdate(final AEPartLocation side) {
+        if (this.tcb instanceof TileCableBus) {
+            ((TileCableBus) this.tcb).markPartForUpdate(side);
+        } else {
+            this.tcb.markForUpdate();
+        }
+    }
+
+    public static int partField(final AEPartLocation side) {
+        return 1 << side.ordinal();
+    }
+
     @Override
     public DimensionalCoord getLocation() {
         return this.tcb.getLocation();
@@ -746,10 +768,17 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     }
 
     public void writeToStream(final ByteBuf data) throws IOException {
+        this.writeToStream(data, AEBaseTile.ALL_FIELDS);
+    }
+
+    /**
+     * Writes the parts and facades selected by the fields, in the same format as a full sync.
+     */
+    public void writeToStream(final ByteBuf data, final int fields) throws IOException {
         int sides = 0;
         for (int x = 0; x < 7; x++) {
             final IPart p = this.getPart(AEPartLocation.fromOrdinal(x));
-            if (p != null) {
+            if (p != null && (fields & (1 << x)) != 0) {
                 sides |= (1 << x);
             }
         }
@@ -758,7 +787,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
 
         for (int x = 0; x < 7; x++) {
             final IPart p = this.getPart(AEPartLocation.fromOrdinal(x));
-            if (p != null) {
+            if (p != null && (sides & (1 << x)) != 0) {
                 final ItemStack is = p.getItemStack(PartItemStack.NETWORK);
 
                 data.writeShort(Item.getIdFromItem(is.getItem()));
@@ -768,16 +797,29 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
             }
         }
 
-        this.getFacadeContainer().writeToStream(data);
+        if ((fields & FACADES_FIELD) != 0) {
+            this.getFacadeContainer().writeToStream(data);
+        }
     }
 
     public boolean readFromStream(final ByteBuf data) throws IOException {
+        return this.readFromStream(data, AEBaseTile.ALL_FIELDS);
+    }
+
+    /**
+     * Reads what {@link #writeToStream(ByteBuf, int)} wrote for the same fields, other parts are left as they are.
+     */
+    public boolean readFromStream(final ByteBuf data, final int fields) throws IOException {
         final byte sides = data.readByte();
 
         boolean updateBlock = false;
 
         for (int x = 0; x < 7; x++) {
             AEPartLocation side = AEPartLocation.fromOrdinal(x);
+            if ((fields & (1 << x)) == 0) {
+                continue;
+            }
+
             if (((sides & (1 << x)) == (1 << x))) {
                 IPart p = this.getPart(side);
 
@@ -806,7 +848,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
             }
         }
 
-        if (this.getFacadeContainer().readFromStream(data)) {
+        if ((fields & FACADES_FIELD) != 0 && this.getFacadeContainer().readFromStream(data)) {
             return true;
         }
 
@@ -46,17 +46,17 @@ public abstract class PartBasicState extends AEBasePart implements IPowerChannel
 
     @MENetworkEventSubscribe
     public void chanRender(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @MENetworkEventSubscribe
     public void bootingRender(final MENetworkBootingStatusChange bs) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
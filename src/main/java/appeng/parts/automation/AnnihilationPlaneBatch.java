@@ -0,0 +1,322 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.parts.automation;
+
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.util.AEPartLocation;
+import appeng.core.AppEng;
+import appeng.core.sync.packets.PacketTransitionEffect;
+import appeng.hooks.TickHandler;
+import appeng.me.GridAccessException;
+import appeng.util.IWorldCallable;
+import appeng.util.item.AEItemStack;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+
+/**
+ * Collects the work of coplanar annihilation planes on the same grid and within the same chunk for one tick.
+ * <p>
+ * The planes only break blocks and report the items that touched them. The batch is queued as world callable behind the
+ * planes, and then looks for the drops of all broken blocks with a single entity query, stores the collected items
+ * merged by type and pays for breaking and storing with a single power extraction.
+ */
+final class AnnihilationPlaneBatch implements IWorldCallable<Void> {
+
+    private static final double DROP_RANGE = 0.2;
+
+    private static final Map<World, Map<Key, AnnihilationPlaneBatch>> PENDING = new WeakHashMap<>();
+
+    private final Key key;
+    private final List<PartAnnihilationPlane> planes = new ArrayList<>();
+    private final LongSet brokenBlocks = new LongOpenHashSet();
+    private final Set<EntityItem> entities = new LinkedHashSet<>();
+    private final Set<EntityItem> collided = new HashSet<>();
+    private int minX = Integer.MAX_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int minZ = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+    private int maxZ = Integer.MIN_VALUE;
+    private double breakPower;
+
+    private AnnihilationPlaneBatch(final Key key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the batch the plane adds to this tick, queued on first use
+     */
+    static AnnihilationPlaneBatch get(final PartAnnihilationPlane plane) throws GridAccessException {
+        final World w = plane.getTile().getWorld();
+        final Key key = Key.of(plane);
+
+        final Map<Key, AnnihilationPlaneBatch> inWorld = PENDING.computeIfAbsent(w, k -> new HashMap<>());
+        AnnihilationPlaneBatch batch = inWorld.get(key);
+        if (batch == null) {
+            inWorld.put(key, batch = new AnnihilationPlaneBatch(key));
+            TickHandler.INSTANCE.addCallable(w, batch);
+        }
+
+        if (!batch.planes.contains(plane)) {
+            batch.planes.add(plane);
+        }
+        return batch;
+    }
+
+    /**
+     * @return the power already promised to break blocks in the batch of the plane, which is not yet extracted
+     */
+    static double getPendingPower(final PartAnnihilationPlane plane) {
+        final Map<Key, AnnihilationPlaneBatch> inWorld = PENDING.get(plane.getTile().getWorld());
+        if (inWorld == null) {
+            return 0;
+        }
+
+        try {
+            final AnnihilationPlaneBatch batch = inWorld.get(Key.of(plane));
+            return batch == null ? 0 : batch.breakPower;
+        } catch (final GridAccessException e) {
+            return 0;
+        }
+    }
+
+    void addBrokenBlock(final BlockPos pos, final double requiredPower) {
+        this.brokenBlocks.add(pos.toLong());
+        this.breakPower += requiredPower;
+
+        this.minX = Math.min(this.minX, pos.getX());
+        this.minY = Math.min(this.minY, pos.getY());
+        this.minZ = Math.min(this.minZ, pos.getZ());
+        this.maxX = Math.max(this.maxX, pos.getX());
+        this.maxY = Math.max(this.maxY, pos.getY());
+        this.maxZ = Math.max(this.maxZ, pos.getZ());
+    }
+
+    void addCollidedEntity(final EntityItem entityItem) {
+        this.entities.add(entityItem);
+        this.collided.add(entityItem);
+    }
+
+    @Override
+    public Void call(final World world) throws Exception {
+        final Map<Key, AnnihilationPlaneBatch> inWorld = PENDING.get(world);
+        if (inWorld != null && inWorld.remove(this.key) == this && inWorld.isEmpty()) {
+            PENDING.remove(world);
+        }
+
+        if (!this.brokenBlocks.isEmpty()) {
+            this.collectDrops(world);
+        }
+
+        final PartAnnihilationPlane plane = this.planes.get(0);
+        final IItemStorageChannel channel = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+        final IEnergyGrid energy;
+        final IMEMonitor<IAEItemStack> inventory;
+        try {
+            energy = plane.getProxy().getEnergy();
+            inventory = plane.getProxy().getStorage().getInventory(channel);
+        } catch (final GridAccessException e) {
+            // the items stay in the world, the planes will try again once they are back on a grid
+            return null;
+        }
+
+        final Map<IAEItemStack, ItemGroup> groups = new LinkedHashMap<>();
+        long items = 0;
+        for (final EntityItem entityItem : this.entities) {
+            if (entityItem.isDead || entityItem.getItem().isEmpty()) {
+                continue;
+            }
+
+            final IAEItemStack stack = AEItemStack.fromItemStack(entityItem.getItem());
+            ItemGroup group = groups.get(stack);
+            if (group == null) {
+                groups.put(stack, group = new ItemGroup(stack));
+            } else {
+                group.total.add(stack);
+            }
+            group.entities.add(entityItem);
+            items += stack.getStackSize();
+        }
+
+        final double energyFactor = Math.max(1.0, channel.transferFactor());
+        final double availablePower = energy.extractAEPower(this.breakPower + items / energyFactor, Actionable.SIMULATE, PowerMultiplier.CONFIG);
+        long budget = Math.min((long) ((availablePower - this.breakPower) * energyFactor + 0.9), items);
+
+        final IActionSource src = plane.getActionSource();
+        long stored = 0;
+        boolean overflow = false;
+        for (final ItemGroup group : groups.values()) {
+            long leftover = group.total.getStackSize();
+
+            if (budget > 0) {
+                final IAEItemStack toStore = group.total.copy();
+                toStore.setStackSize(Math.min(budget, leftover));
+                budget -= toStore.getStackSize();
+
+                final IAEItemStack notStored = inventory.injectItems(toStore, Actionable.MODULATE, src);
+                final long storedOfGroup = toStore.getStackSize() - (notStored == null ? 0 : notStored.getStackSize());
+                stored += storedOfGroup;
+                leftover -= storedOfGroup;
+            }
+
+            overflow |= leftover > 0;
+            this.distributeLeftover(world, group.entities, leftover);
+        }
+
+        energy.extractAEPower(this.breakPower + stored / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
+
+        if (overflow) {
+            for (final PartAnnihilationPlane p : this.planes) {
+                p.setAccepting(false);
+            }
+        }
+
+        return null;
+    }
+
+    private void collectDrops(final World world) {
+        final AxisAlignedBB box = new AxisAlignedBB(this.minX, this.minY, this.minZ, this.maxX + 1, this.maxY + 1, this.maxZ + 1).grow(DROP_RANGE);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (final EntityItem entityItem : world.getEntitiesWithinAABB(EntityItem.class, box)) {
+            // the box spans the whole batch, only take what is next to a block that was actually broken
+            final AxisAlignedBB bb = entityItem.getEntityBoundingBox().grow(DROP_RANGE);
+            search:
+            for (int x = MathHelper.floor(bb.minX); x <= MathHelper.floor(bb.maxX); x++) {
+                for (int y = MathHelper.floor(bb.minY); y <= MathHelper.floor(bb.maxY); y++) {
+                    for (int z = MathHelper.floor(bb.minZ); z <= MathHelper.floor(bb.maxZ); z++) {
+                        if (this.brokenBlocks.contains(pos.setPos(x, y, z).toLong())) {
+                            this.entities.add(entityItem);
+                            break search;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Leaves the items that could not be stored in the first entities of the group, and removes the others.
+     */
+    private void distributeLeftover(final World world, final List<EntityItem> group, long leftover) {
+        for (final EntityItem entityItem : group) {
+            final int oldStackSize = entityItem.getItem().getCount();
+            final int newStackSize = (int) Math.min(oldStackSize, leftover);
+            leftover -= newStackSize;
+
+            if (newStackSize == 0) {
+                entityItem.setDead();
+            } else {
+                entityItem.getItem().setCount(newStackSize);
+            }
+
+            if (newStackSize != oldStackSize && this.collided.contains(entityItem)) {
+                AppEng.proxy.sendToAllNearExcept(null, entityItem.posX, entityItem.posY, entityItem.posZ, 64, world,
+                        new PacketTransitionEffect(entityItem.posX, entityItem.posY, entityItem.posZ, this.key.side, false));
+            }
+        }
+    }
+
+    private static final class ItemGroup {
+        private final IAEItemStack total;
+        private final List<EntityItem> entities = new ArrayList<>();
+
+        private ItemGroup(final IAEItemStack first) {
+            this.total = first.copy();
+        }
+    }
+
+    /**
+     * Planes of a batch share grid and side, lie in the same layer and the same chunk, so the query box stays small.
+     */
+    private static final class Key {
+        private final IGrid grid;
+        private final AEPartLocation side;
+        private final int layer;
+        private final long chunk;
+
+        private Key(final IGrid grid, final AEPartLocation side, final int layer, final long chunk) {
+            this.grid = grid;
+            this.side = side;
+            this.layer = layer;
+            this.chunk = chunk;
+        }
+
+        private static Key of(final PartAnnihilationPlane plane) throws GridAccessException {
+            final EnumFacing facing = plane.getSide().getFacing();
+            final BlockPos pos = plane.getTile().getPos().offset(facing);
+            final int layer = switch (facing.getAxis()) {
+                case X -> pos.getX();
+                case Y -> pos.getY();
+                case Z -> pos.getZ();
+            };
+
+            return new Key(plane.getProxy().getGrid(), plane.getSide(), layer, ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.grid == other.grid && this.side == other.side && this.layer == other.layer && this.chunk == other.chunk;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(this.grid);
+            result = 31 * result + this.side.hashCode();
+            result = 31 * result + this.layer;
+            result = 31 * result + Long.hashCode(this.chunk);
+            return result;
+        }
+    }
+}
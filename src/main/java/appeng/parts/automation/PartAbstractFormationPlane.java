@@ -56,7 +56,7 @@ public abstract class PartAbstractFormationPlane<T extends IAEStack<T>> extends
         if (this.wasActive != currentActive) {
             this.wasActive = currentActive;
             this.updateHandler();
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
     }
 
@@ -60,7 +60,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
@@ -252,11 +251,10 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
             }
 
             if (capture) {
-                final boolean changed = this.storeEntityItem((EntityItem) entity);
-
-                if (changed) {
-                    AppEng.proxy.sendToAllNearExcept(null, pos.getX(), pos.getY(), pos.getZ(), 64, this.getTile().getWorld(),
-                            new PacketTransitionEffect(entity.posX, entity.posY, entity.posZ, this.getSide(), false));
+                try {
+                    AnnihilationPlaneBatch.get(this).addCollidedEntity((EntityItem) entity);
+                } catch (final GridAccessException e) {
+                    // :P
                 }
             }
         }
@@ -267,67 +265,12 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
         return 1;
     }
 
-    /**
-     * Stores an {@link EntityItem} inside the network and either marks it as dead or sets it to the leftover stackSize.
-     *
-     * @param entityItem {@link EntityItem} to store
-     */
-    private boolean storeEntityItem(final EntityItem entityItem) {
-        if (!entityItem.isDead) {
-            final IAEItemStack overflow = this.storeItemStack(entityItem.getItem());
-
-            return this.handleOverflow(entityItem, overflow);
-        }
-
-        return false;
-    }
-
-    /**
-     * Stores an {@link ItemStack} inside the network.
-     *
-     * @param item {@link ItemStack} to store
-     * @return the leftover items, which could not be stored inside the network
-     */
-    private IAEItemStack storeItemStack(final ItemStack item) {
-        final IAEItemStack itemToStore = AEItemStack.fromItemStack(item);
-        try {
-            final IStorageGrid storage = this.getProxy().getStorage();
-            final IEnergyGrid energy = this.getProxy().getEnergy();
-            final IAEItemStack overflow = Platform.poweredInsert(energy,
-                    storage.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)), itemToStore, this.mySrc);
-
-            this.isAccepting = overflow == null;
-
-            return overflow;
-        } catch (final GridAccessException e1) {
-            // :P
-        }
-
-        return null;
+    IActionSource getActionSource() {
+        return this.mySrc;
     }
 
-    /**
-     * Handles a possible overflow or none at all.
-     * It will update the entity to match the leftover stack size as well as mark it as dead without any leftover
-     * amount.
-     *
-     * @param entityItem the entity to update or destroy
-     * @param overflow   the leftover {@link IAEItemStack}
-     * @return true, if the entity was changed otherwise false.
-     */
-    private boolean handleOverflow(final EntityItem entityItem, final IAEItemStack overflow) {
-        if (overflow == null || overflow.getStackSize() == 0) {
-            entityItem.setDead();
-            return true;
-        }
-
-        final int oldStackSize = entityItem.getItem().getCount();
-        final int newStackSize = (int) overflow.getStackSize();
-        final boolean changed = oldStackSize != newStackSize;
-
-        entityItem.getItem().setCount(newStackSize);
-
-        return changed;
+    void setAccepting(final boolean accepting) {
+        this.isAccepting = accepting;
     }
 
     protected boolean isAnnihilationPlane(final TileEntity blockTileEntity, final AEPartLocation side) {
@@ -342,14 +285,14 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
     @MENetworkEventSubscribe
     public void chanRender(final MENetworkChannelsChanged c) {
         this.refresh();
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
         this.refresh();
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     private TickRateModulation breakBlock(final boolean modulate) {
@@ -365,13 +308,15 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
                     final List<ItemStack> items = this.obtainBlockDrops(w, pos);
                     final float requiredPower = this.calculateEnergyUsage(w, pos, items);
 
-                    final boolean hasPower = energy.extractAEPower(requiredPower, Actionable.SIMULATE, PowerMultiplier.CONFIG) > requiredPower - 0.1;
+                    // blocks broken earlier this tick are only paid for when their batch is stored
+                    final double pendingPower = AnnihilationPlaneBatch.getPendingPower(this);
+                    final boolean hasPower = energy.extractAEPower(pendingPower + requiredPower, Actionable.SIMULATE, PowerMultiplier.CONFIG) > pendingPower + requiredPower - 0.1;
                     final boolean canStore = this.canStoreItemStacks(items);
 
                     if (hasPower && canStore) {
                         if (modulate) {
-                            energy.extractAEPower(requiredPower, Actionable.MODULATE, PowerMultiplier.CONFIG);
-                            this.breakBlockAndStoreItems(w, pos);
+                            w.destroyBlock(pos, true);
+                            AnnihilationPlaneBatch.get(this).addBrokenBlock(pos, requiredPower);
                             AppEng.proxy.sendToAllNearExcept(null, pos.getX(), pos.getY(), pos.getZ(), 64, w,
                                     new PacketTransitionEffect(pos.getX(), pos.getY(), pos.getZ(), this.getSide(), true));
                         } else {
@@ -471,18 +416,6 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
         return canStore;
     }
 
-    private void breakBlockAndStoreItems(final WorldServer w, final BlockPos pos) {
-        w.destroyBlock(pos, true);
-
-        final AxisAlignedBB box = new AxisAlignedBB(pos).grow(0.2);
-        for (final Object ei : w.getEntitiesWithinAABB(EntityItem.class, box)) {
-            if (ei instanceof EntityItem) {
-                final EntityItem entityItem = (EntityItem) ei;
-                this.storeEntityItem(entityItem);
-            }
-        }
-    }
-
     private void refresh() {
         this.isAccepting = true;
 
@@ -133,7 +133,7 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
     private void updateState() {
         final boolean isOn = this.isLevelEmitterOn();
         if (this.prevState != isOn) {
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
             final TileEntity te = this.getHost().getTile();
             this.prevState = isOn;
             Platform.notifyBlocksOfNeighbors(te.getWorld(), te.getPos());
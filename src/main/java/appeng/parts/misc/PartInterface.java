@@ -276,6 +276,7 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
         if (tileEntity instanceof TileInterface) {
             ((TileInterface) tileEntity).updateRedstoneState();
         }
+        this.duality.notifyTerminalListeners();
     }
 
     @Override
@@ -130,7 +130,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
             this.wasActive = currentActive;
             try {
                 this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
-                this.getHost().markForUpdate();
+                this.markPartForUpdate();
             } catch (final GridAccessException e) {
                 // :P
             }
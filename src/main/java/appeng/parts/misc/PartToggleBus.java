@@ -107,7 +107,7 @@ public class PartToggleBus extends PartBasicState {
 
         if (this.hasRedstone != oldHasRedstone) {
             this.updateInternalState();
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
     }
 
@@ -162,7 +162,7 @@ public class PartCable extends AEBasePart implements IPartCable {
     }
 
     public void markForUpdate() {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
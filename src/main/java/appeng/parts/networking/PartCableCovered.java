@@ -39,12 +39,12 @@ public class PartCableCovered extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
@@ -28,7 +28,7 @@ import appeng.core.settings.TickRates;
 import appeng.items.parts.PartModels;
 import appeng.me.GridAccessException;
 import appeng.me.cache.helpers.TunnelCollection;
-import appeng.util.Platform;
+import appeng.util.inv.RoundRobinItemDistributor;
 import appeng.util.inv.WrapperChainedItemHandler;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -58,6 +58,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
     private int oldSize = 0;
     private boolean requested;
     private IItemHandler cachedInv;
+    private RoundRobinItemDistributor distributor;
 
     public PartP2PItems(final ItemStack is) {
         super(is);
@@ -65,7 +66,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 
     @Override
     public void onNeighborChanged(IBlockAccess w, BlockPos pos, BlockPos neighbor) {
-        this.cachedInv = null;
+        this.clearDestination();
         try {
             if (this.isOutput()) {
                 for (PartP2PItems input : this.getInputs()) {
@@ -98,15 +99,23 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
         for (final PartP2PItems t : itemTunnels) {
             final IItemHandler inv = t.getOutputInv();
             if (inv != null && inv != this) {
-                if (Platform.getRandomInt() % 2 == 0) {
-                    outs.add(inv);
-                } else {
-                    outs.add(0, inv);
-                }
+                outs.add(inv);
             }
         }
 
-        return this.cachedInv = new WrapperChainedItemHandler(outs.toArray(new IItemHandler[outs.size()]));
+        final IItemHandler[] handlers = outs.toArray(new IItemHandler[outs.size()]);
+        this.distributor = new RoundRobinItemDistributor(handlers);
+        return this.cachedInv = new WrapperChainedItemHandler(handlers);
+    }
+
+    private RoundRobinItemDistributor getDistributor() {
+        this.getDestination();
+        return this.distributor;
+    }
+
+    private void clearDestination() {
+        this.cachedInv = null;
+        this.distributor = null;
     }
 
     private IItemHandler getOutputInv() {
@@ -146,7 +155,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
     @Override
     public void onTunnelNetworkChange() {
         if (!this.isOutput()) {
-            this.cachedInv = null;
+            this.clearDestination();
             final int olderSize = this.oldSize;
             this.oldSize = this.getDestination().getSlots();
             if (olderSize != this.oldSize) {
@@ -196,11 +205,14 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 
     @Override
     public ItemStack insertItem(final int slot, final ItemStack stack, boolean simulate) {
-        if (depth == 1) {
+        // callers try every slot in turn, but one distributor pass already offers the items to every output. Only slot 0
+        // accepts items and hands them to the next output in line, the other slots refuse them right away.
+        if (depth == 1 || slot != 0) {
             return stack;
         }
         this.depth += 1;
-        ItemStack ret = this.getDestination().insertItem(slot, stack, simulate);
+        final RoundRobinItemDistributor distributor = this.getDistributor();
+        ItemStack ret = distributor != null ? distributor.insert(stack, simulate, this.getTile().getWorld().getTotalWorldTime()) : stack;
         this.depth -= 1;
         return ret;
     }
@@ -109,7 +109,7 @@ public class PartP2PLight extends PartP2PTunnel<PartP2PLight> implements IGridTi
     public void onNeighborChanged(IBlockAccess w, BlockPos pos, BlockPos neighbor) {
         if (this.isOutput() && pos.offset(this.getSide().getFacing()).equals(neighbor)) {
             this.opacity = -1;
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         } else {
             this.doWork();
         }
@@ -126,7 +126,7 @@ public class PartP2PLight extends PartP2PTunnel<PartP2PLight> implements IGridTi
 
     private void setLightLevel(final int out) {
         this.lastValue = out;
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     private int blockLight(final int emit) {
@@ -166,7 +166,7 @@ public class PartP2PLight extends PartP2PTunnel<PartP2PLight> implements IGridTi
                     }
                 }
                 this.setLightLevel(light);
-                this.getHost().markForUpdate();
+                this.markPartForUpdate();
             } catch (GridAccessException e) {
                 e.printStackTrace();
             }
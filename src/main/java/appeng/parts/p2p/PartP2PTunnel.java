@@ -379,7 +379,7 @@ public abstract class PartP2PTunnel<T extends PartP2PTunnel> extends PartBasicSt
         final short oldf = this.freq;
         this.freq = freq;
         if (oldf != this.freq) {
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
     }
 
@@ -199,7 +199,7 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay implements
 
             this.configureWatchers();
             this.getHost().markForSave();
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         } else {
             return super.onPartActivate(player, hand, pos);
         }
@@ -225,7 +225,7 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay implements
             this.isLocked = !this.isLocked;
             player.sendMessage((this.isLocked ? PlayerMessages.isNowLocked : PlayerMessages.isNowUnlocked).get());
             this.getHost().markForSave();
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
 
         return true;
@@ -355,7 +355,7 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay implements
         } else if (this.configuredFluid != null) {
             this.configuredFluid.setStackSize(this.configuredAmount);
         }
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
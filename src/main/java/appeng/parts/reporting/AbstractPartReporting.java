@@ -87,13 +87,13 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
     @MENetworkEventSubscribe
     public final void bootingRender(final MENetworkBootingStatusChange c) {
         if (!this.isLightSource()) {
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
     }
 
     @MENetworkEventSubscribe
     public final void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        this.markPartForUpdate();
     }
 
     @Override
@@ -106,7 +106,7 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
     public void onNeighborChanged(IBlockAccess w, BlockPos pos, BlockPos neighbor) {
         if (pos.offset(this.getSide().getFacing()).equals(neighbor)) {
             this.opacity = -1;
-            this.getHost().markForUpdate();
+            this.markPartForUpdate();
         }
     }
 
@@ -190,7 +190,7 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
                         break;
                 }
 
-                this.getHost().markForUpdate();
+                this.markPartForUpdate();
                 this.saveChanges();
             }
             return true;
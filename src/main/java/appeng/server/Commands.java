@@ -20,11 +20,12 @@ package appeng.server;
 
 
 import appeng.server.subcommands.ChunkLogger;
+import appeng.server.subcommands.CraftingCalculations;
 import appeng.server.subcommands.Supporters;
 
 
 public enum Commands {
-    Chunklogger(4, new ChunkLogger()), Supporters(0, new Supporters());
+    Chunklogger(4, new ChunkLogger()), Supporters(0, new Supporters()), CraftingCalculations(4, new CraftingCalculations());
 
     public final int level;
     public final ISubCommand command;
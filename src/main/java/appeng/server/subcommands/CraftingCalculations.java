@@ -0,0 +1,43 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import appeng.crafting.CraftingCalculationScheduler;
+import appeng.server.ISubCommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+
+
+public class CraftingCalculations implements ISubCommand {
+
+    @Override
+    public String getHelp(final MinecraftServer srv) {
+        return "commands.ae2.CraftingCalculations";
+    }
+
+    @Override
+    public void call(final MinecraftServer srv, final String[] data, final ICommandSender sender) {
+        final CraftingCalculationScheduler scheduler = CraftingCalculationScheduler.INSTANCE;
+
+        sender.sendMessage(new TextComponentString(String.format("Crafting calculations: %d running (~%d MB), %d queued, oldest waiting %d ms", scheduler.getRunning(), scheduler.getRunningBytes() >> 20, scheduler.getQueued(), scheduler.getOldestWaitMillis())));
+        sender.sendMessage(new TextComponentString(String.format("Started %d, waited %d ms on average, %d ms at most", scheduler.getStarted(), scheduler.getAverageWaitMillis(), scheduler.getMaxWaitMillis())));
+    }
+}
@@ -24,10 +24,12 @@ import appeng.api.util.DimensionalCoord;
 import appeng.block.storage.BlockSkyChest;
 import appeng.services.compass.CompassReader;
 import appeng.services.compass.ICompassCallback;
+import appeng.tile.storage.TileSkyChest;
 import appeng.util.Platform;
 import com.google.common.base.Preconditions;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.event.world.WorldEvent;
@@ -35,7 +37,10 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import javax.annotation.Nonnull;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -43,6 +48,7 @@ import java.util.concurrent.*;
 
 public final class CompassService {
     private static final int CHUNK_SIZE = 16;
+    private static final int ALL_SLABS = 0xFF;
 
     private final Map<World, CompassReader> worldSet = new HashMap<>(10);
     private final ExecutorService executor;
@@ -92,18 +98,10 @@ public final class CompassService {
     }
 
     public void updateArea(final World w, final int chunkX, final int chunkZ) {
-        final int x = chunkX << 4;
-        final int z = chunkZ << 4;
-
-        this.updateArea(w, x, CHUNK_SIZE, z);
-        this.updateArea(w, x, CHUNK_SIZE + 32, z);
-        this.updateArea(w, x, CHUNK_SIZE + 64, z);
-        this.updateArea(w, x, CHUNK_SIZE + 96, z);
-
-        this.updateArea(w, x, CHUNK_SIZE + 128, z);
-        this.updateArea(w, x, CHUNK_SIZE + 160, z);
-        this.updateArea(w, x, CHUNK_SIZE + 192, z);
-        this.updateArea(w, x, CHUNK_SIZE + 224, z);
+        this.jobSize++;
+
+        final Chunk c = w.getChunk(chunkX, chunkZ);
+        this.executor.submit(new CMUpdatePost(w, chunkX, chunkZ, ALL_SLABS, this.findNaturalSkyChests(c, ALL_SLABS)));
     }
 
     public Future<?> updateArea(final World w, final int x, final int y, final int z) {
@@ -113,32 +111,44 @@ public final class CompassService {
         final int cdy = y >> 5;
         final int cz = z >> 4;
 
-        final int low_y = cdy << 5;
-        final int hi_y = low_y + 32;
-
-        // lower level...
         final Chunk c = w.getChunk(cx, cz);
+        final int slab = 1 << cdy;
 
-        Optional<Block> maybeBlock = AEApi.instance().definitions().blocks().skyStoneChest().maybeBlock();
-        if (maybeBlock.isPresent()) {
-            Block skyStoneChest = maybeBlock.get();
-            for (int i = 0; i < CHUNK_SIZE; i++) {
-                for (int j = 0; j < CHUNK_SIZE; j++) {
-                    for (int k = low_y; k < hi_y; k++) {
-                        final IBlockState state = c.getBlockState(i, k, j);
-                        final Block blk = state.getBlock();
-                        if (blk == skyStoneChest) {
-                            if (state.getPropertyKeys().contains(BlockSkyChest.NATURAL)
-                                    && state.getValue(BlockSkyChest.NATURAL)) {
-                                return this.executor.submit(new CMUpdatePost(w, cx, cz, cdy, true));
-                            }
-                        }
-                    }
+        return this.executor.submit(new CMUpdatePost(w, cx, cz, slab, this.findNaturalSkyChests(c, slab)));
+    }
+
+    /**
+     * Sky chests always carry a tile entity, so the tile entity map of the chunk is a much smaller index to check than
+     * the block states of every scanned slab.
+     *
+     * @param c     chunk to scan
+     * @param slabs bitmask of the 32 block high slabs to scan
+     * @return bitmask of the scanned slabs containing a natural sky chest
+     */
+    private int findNaturalSkyChests(final Chunk c, final int slabs) {
+        final Optional<Block> maybeBlock = AEApi.instance().definitions().blocks().skyStoneChest().maybeBlock();
+        if (!maybeBlock.isPresent()) {
+            return 0;
+        }
+
+        final Block skyStoneChest = maybeBlock.get();
+        int found = 0;
+
+        for (final TileEntity te : c.getTileEntityMap().values()) {
+            if (te instanceof TileSkyChest) {
+                final int slab = 1 << (te.getPos().getY() >> 5);
+                if ((slabs & slab) == 0 || (found & slab) != 0) {
+                    continue;
+                }
+
+                final IBlockState state = c.getBlockState(te.getPos());
+                if (state.getBlock() == skyStoneChest && state.getPropertyKeys().contains(BlockSkyChest.NATURAL) && state.getValue(BlockSkyChest.NATURAL)) {
+                    found |= slab;
                 }
             }
         }
 
-        return this.executor.submit(new CMUpdatePost(w, cx, cz, cdy, false));
+        return found;
     }
 
     public void kill() {
@@ -170,6 +180,18 @@ public final class CompassService {
         return up * up + side * side;
     }
 
+    /**
+     * @return the smallest ring offset (chebyshev distance) any chunk of the given block has to the chunk.
+     */
+    private int blockOffset(final int cx, final int cz, final int bx, final int bz) {
+        final int lowX = bx << CompassReader.BLOCK_BITS;
+        final int lowZ = bz << CompassReader.BLOCK_BITS;
+        final int dx = Math.max(0, Math.max(lowX - cx, cx - (lowX + CompassReader.BLOCK_SIZE - 1)));
+        final int dz = Math.max(0, Math.max(lowZ - cz, cz - (lowZ + CompassReader.BLOCK_SIZE - 1)));
+
+        return Math.max(dx, dz);
+    }
+
     private double rad(final int ax, final int az, final int bx, final int bz) {
         final int up = bz - az;
         final int side = bx - ax;
@@ -183,15 +205,15 @@ public final class CompassService {
 
         public final int chunkX;
         public final int chunkZ;
-        public final int doubleChunkY; // 32 blocks instead of 16.
-        public final boolean value;
+        public final int slabs; // 32 blocks instead of 16.
+        public final int found;
 
-        public CMUpdatePost(final World w, final int cx, final int cz, final int dcy, final boolean val) {
+        public CMUpdatePost(final World w, final int cx, final int cz, final int slabs, final int found) {
             this.world = w;
             this.chunkX = cx;
-            this.doubleChunkY = dcy;
             this.chunkZ = cz;
-            this.value = val;
+            this.slabs = slabs;
+            this.found = found;
         }
 
         @Override
@@ -199,7 +221,7 @@ public final class CompassService {
             CompassService.this.jobSize--;
 
             final CompassReader cr = CompassService.this.getReader(this.world);
-            cr.setHasBeacon(this.chunkX, this.chunkZ, this.doubleChunkY, this.value);
+            cr.setBeacons(this.chunkX, this.chunkZ, this.slabs, this.found);
 
             if (CompassService.this.jobSize() < 2) {
                 CompassService.this.cleanUp();
@@ -239,67 +261,59 @@ public final class CompassService {
                 return;
             }
 
-            // spiral outward...
-            for (int offset = 1; offset < this.maxRange; offset++) {
-                final int minX = cx - offset;
-                final int minZ = cz - offset;
-                final int maxX = cx + offset;
-                final int maxZ = cz + offset;
-
-                int closest = Integer.MAX_VALUE;
-                int chosen_x = cx;
-                int chosen_z = cz;
-
-                for (int z = minZ; z <= maxZ; z++) {
-                    if (cr.hasBeacon(minX, z)) {
-                        final int closeness = CompassService.this.dist(cx, cz, minX, z);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = minX;
-                            chosen_z = z;
-                        }
-                    }
-
-                    if (cr.hasBeacon(maxX, z)) {
-                        final int closeness = CompassService.this.dist(cx, cz, maxX, z);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = maxX;
-                            chosen_z = z;
-                        }
+            // only visit the chunk blocks that contain a beacon at all, nearest first.
+            final int range = this.maxRange - 1;
+            final List<int[]> blocks = new ArrayList<>();
+            for (int bz = (cz - range) >> CompassReader.BLOCK_BITS; bz <= (cz + range) >> CompassReader.BLOCK_BITS; bz++) {
+                for (int bx = (cx - range) >> CompassReader.BLOCK_BITS; bx <= (cx + range) >> CompassReader.BLOCK_BITS; bx++) {
+                    if (cr.hasBeaconInBlock(bx, bz)) {
+                        blocks.add(new int[]{bx, bz, CompassService.this.blockOffset(cx, cz, bx, bz)});
                     }
                 }
+            }
+            blocks.sort(Comparator.comparingInt(b -> b[2]));
 
-                for (int x = minX + 1; x < maxX; x++) {
-                    if (cr.hasBeacon(x, minZ)) {
-                        final int closeness = CompassService.this.dist(cx, cz, x, minZ);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = x;
-                            chosen_z = minZ;
-                        }
-                    }
+            int closestOffset = Integer.MAX_VALUE;
+            int closest = Integer.MAX_VALUE;
+            int chosen_x = cx;
+            int chosen_z = cz;
 
-                    if (cr.hasBeacon(x, maxZ)) {
-                        final int closeness = CompassService.this.dist(cx, cz, x, maxZ);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = x;
-                            chosen_z = maxZ;
+            for (final int[] block : blocks) {
+                // the spiral would have stopped at the ring of the best match already.
+                if (block[2] > closestOffset) {
+                    break;
+                }
+
+                final int lowX = Math.max(block[0] << CompassReader.BLOCK_BITS, cx - range);
+                final int lowZ = Math.max(block[1] << CompassReader.BLOCK_BITS, cz - range);
+                final int highX = Math.min((block[0] << CompassReader.BLOCK_BITS) + CompassReader.BLOCK_SIZE - 1, cx + range);
+                final int highZ = Math.min((block[1] << CompassReader.BLOCK_BITS) + CompassReader.BLOCK_SIZE - 1, cz + range);
+
+                for (int z = lowZ; z <= highZ; z++) {
+                    for (int x = lowX; x <= highX; x++) {
+                        if (cr.hasBeacon(x, z)) {
+                            final int offset = Math.max(Math.abs(x - cx), Math.abs(z - cz));
+                            final int closeness = CompassService.this.dist(cx, cz, x, z);
+                            if (offset < closestOffset || (offset == closestOffset && closeness < closest)) {
+                                closestOffset = offset;
+                                closest = closeness;
+                                chosen_x = x;
+                                chosen_z = z;
+                            }
                         }
                     }
                 }
+            }
 
-                if (closest < Integer.MAX_VALUE) {
-                    this.callback.calculatedDirection(true, false, CompassService.this.rad(cx, cz, chosen_x, chosen_z),
-                            CompassService.this.dist(cx, cz, chosen_x, chosen_z));
-
-                    if (CompassService.this.jobSize() < 2) {
-                        CompassService.this.cleanUp();
-                    }
+            if (closest < Integer.MAX_VALUE) {
+                this.callback.calculatedDirection(true, false, CompassService.this.rad(cx, cz, chosen_x, chosen_z),
+                        CompassService.this.dist(cx, cz, chosen_x, chosen_z));
 
-                    return;
+                if (CompassService.this.jobSize() < 2) {
+                    CompassService.this.cleanUp();
                 }
+
+                return;
             }
 
             // didn't find shit...
@@ -28,7 +28,15 @@ import java.util.Map;
 
 
 public final class CompassReader {
+    /**
+     * Chunks are summarized in square blocks of 32x32 chunks, 32x32 of them make up a region.
+     */
+    public static final int BLOCK_BITS = 5;
+    public static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
     private final Map<Long, CompassRegion> regions = new HashMap<>(100);
+    // summaries outlive the regions, which are closed whenever the service runs out of work.
+    private final Map<Long, short[]> summaries = new HashMap<>(100);
     private final int dimensionId;
     private final File worldCompassFolder;
 
@@ -54,6 +62,29 @@ public final class CompassReader {
         r.setHasBeacon(cx, cz, cdy, hasBeacon);
     }
 
+    /**
+     * Updates all slabs of a chunk at once.
+     *
+     * @param slabs bitmask of the slabs that were scanned
+     * @param found bitmask of the scanned slabs that contain a beacon
+     */
+    public void setBeacons(final int cx, final int cz, final int slabs, final int found) {
+        final CompassRegion r = this.getRegion(cx, cz);
+
+        r.setBeacons(cx, cz, slabs, found);
+    }
+
+    /**
+     * @param bx block x, i.e. chunk x shifted by {@link #BLOCK_BITS}
+     * @param bz block z, i.e. chunk z shifted by {@link #BLOCK_BITS}
+     * @return false if no chunk of the block contains a beacon
+     */
+    public boolean hasBeaconInBlock(final int bx, final int bz) {
+        final CompassRegion r = this.getRegion(bx << BLOCK_BITS, bz << BLOCK_BITS);
+
+        return r.hasBeaconInBlock(bx, bz);
+    }
+
     public boolean hasBeacon(final int cx, final int cz) {
         final CompassRegion r = this.getRegion(cx, cz);
 
@@ -68,8 +99,9 @@ public final class CompassReader {
         CompassRegion cr = this.regions.get(pos);
 
         if (cr == null) {
-            cr = new CompassRegion(cx, cz, this.dimensionId, this.worldCompassFolder);
+            cr = new CompassRegion(cx, cz, this.dimensionId, this.worldCompassFolder, this.summaries.get(pos));
             this.regions.put(pos, cr);
+            this.summaries.put(pos, cr.getSummary());
         }
 
         return cr;
@@ -23,6 +23,7 @@ import appeng.core.worlddata.MeteorDataNameEncoder;
 import com.google.common.base.Preconditions;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -40,7 +41,12 @@ public final class CompassRegion {
     private RandomAccessFile raf = null;
     private ByteBuffer buffer;
 
-    public CompassRegion(final int cx, final int cz, final int worldID, @Nonnull final File worldCompassFolder) {
+    /**
+     * Number of chunks with a beacon in each 32x32 chunk block of the region.
+     */
+    private short[] summary;
+
+    public CompassRegion(final int cx, final int cz, final int worldID, @Nonnull final File worldCompassFolder, @Nullable final short[] summary) {
         Preconditions.checkNotNull(worldCompassFolder);
         Preconditions.checkArgument(worldCompassFolder.isDirectory());
 
@@ -54,7 +60,16 @@ public final class CompassRegion {
         this.lowX = region_x << 10;
         this.lowZ = region_z << 10;
 
+        this.summary = summary;
         this.openFile(false);
+
+        if (this.summary == null) {
+            this.summary = this.buildSummary();
+        }
+    }
+
+    short[] getSummary() {
+        return this.summary;
     }
 
     void close() {
@@ -82,24 +97,33 @@ public final class CompassRegion {
         return false;
     }
 
-    void setHasBeacon(int cx, int cz, final int cdy, final boolean hasBeacon) {
+    boolean hasBeaconInBlock(final int bx, final int bz) {
+        return this.summary[this.summaryIndex(bx << CompassReader.BLOCK_BITS, bz << CompassReader.BLOCK_BITS)] != 0;
+    }
+
+    void setHasBeacon(final int cx, final int cz, final int cdy, final boolean hasBeacon) {
+        this.setBeacons(cx, cz, 1 << cdy, hasBeacon ? 1 << cdy : 0);
+    }
+
+    void setBeacons(int cx, int cz, final int slabs, final int found) {
+        final int block = this.summaryIndex(cx, cz);
         cx &= 0x3FF;
         cz &= 0x3FF;
 
-        this.openFile(hasBeacon);
+        this.openFile(found != 0);
 
         if (this.hasFile) {
-            int val = this.read(cx, cz);
-            final int originalVal = val;
-
-            if (hasBeacon) {
-                val |= 1 << cdy;
-            } else {
-                val &= ~(1 << cdy);
-            }
+            final int originalVal = this.read(cx, cz) & 0xFF;
+            final int val = (originalVal & ~slabs) | (found & slabs);
 
             if (originalVal != val) {
                 this.write(cx, cz, val);
+
+                if (originalVal == 0) {
+                    this.summary[block]++;
+                } else if (val == 0) {
+                    this.summary[block]--;
+                }
             }
         }
     }
@@ -134,6 +158,32 @@ public final class CompassRegion {
         }
     }
 
+    private int summaryIndex(final int cx, final int cz) {
+        final int bx = (cx & 0x3FF) >> CompassReader.BLOCK_BITS;
+        final int bz = (cz & 0x3FF) >> CompassReader.BLOCK_BITS;
+
+        return bx + (bz << (10 - CompassReader.BLOCK_BITS));
+    }
+
+    /**
+     * Counts the chunks with beacons once when a region is first opened, later changes keep it up to date.
+     */
+    private short[] buildSummary() {
+        final short[] summary = new short[1 << (2 * (10 - CompassReader.BLOCK_BITS))];
+
+        if (this.hasFile) {
+            for (int cz = 0; cz < 0x400; cz++) {
+                for (int cx = 0; cx < 0x400; cx++) {
+                    if (this.read(cx, cz) != 0) {
+                        summary[this.summaryIndex(cx, cz)]++;
+                    }
+                }
+            }
+        }
+
+        return summary;
+    }
+
     private File getFile() {
         final String fileName = this.encoder.encode(this.world, this.lowX, this.lowZ);
 
@@ -35,6 +35,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
 import java.util.ArrayList;
@@ -189,6 +190,14 @@ public class CachedPlane {
             final BlockStorageData aD = new BlockStorageData();
             final BlockStorageData bD = new BlockStorageData();
 
+            // whole sections first, only the edges of the region are copied block by block.
+            final boolean[][][] swapped = this.swapSections(dst);
+            final int minCX = this.x_offset >> 4;
+            final int minCY = this.y_offset >> 4;
+            final int minCZ = this.z_offset >> 4;
+            int sections = 0;
+            int blocks = 0;
+
             for (int x = 0; x < this.x_size; x++) {
                 for (int z = 0; z < this.z_size; z++) {
                     final Column a = this.myColumns[x][z];
@@ -198,12 +207,17 @@ public class CachedPlane {
                         final int src_y = y + this.y_offset;
                         final int dst_y = y + dst.y_offset;
 
+                        if (swapped != null && swapped[((x + this.x_offset) >> 4) - minCX][(src_y >> 4) - minCY][((z + this.z_offset) >> 4) - minCZ]) {
+                            continue;
+                        }
+
                         if (a.doNotSkip(src_y) && b.doNotSkip(dst_y)) {
                             a.fillData(src_y, aD);
                             b.fillData(dst_y, bD);
 
                             a.setBlockIDWithMetadata(src_y, bD);
                             b.setBlockIDWithMetadata(dst_y, aD);
+                            blocks++;
                         } else {
                             this.markForUpdate(x + this.x_offset, src_y, z + this.z_offset);
                             dst.markForUpdate(x + dst.x_offset, dst_y, z + dst.z_offset);
@@ -212,9 +226,21 @@ public class CachedPlane {
                 }
             }
 
+            if (swapped != null) {
+                for (final boolean[][] plane : swapped) {
+                    for (final boolean[] row : plane) {
+                        for (final boolean section : row) {
+                            if (section) {
+                                sections++;
+                            }
+                        }
+                    }
+                }
+            }
+
             long endTime = System.nanoTime();
             long duration = endTime - startTime;
-            AELog.info("Block Copy Time: " + duration);
+            AELog.info("Block Copy Time: " + duration + " (" + sections + " whole sections, " + blocks + " single blocks)");
 
             for (final TileEntity te : this.tiles) {
                 final BlockPos tePOS = te.getPos();
@@ -246,6 +272,115 @@ public class CachedPlane {
         }
     }
 
+    /**
+     * Swaps every chunk section that is completely covered by this plane, and by the destination plane at the same
+     * relative position, as a whole. Only possible if both planes share their alignment to the section grid.
+     *
+     * @return the swapped sections indexed by section relative to this plane, or null if none could be swapped.
+     */
+    private boolean[][][] swapSections(final CachedPlane dst) {
+        if (((this.x_offset - dst.x_offset) & 15) != 0 || ((this.y_offset - dst.y_offset) & 15) != 0 || ((this.z_offset - dst.z_offset) & 15) != 0) {
+            return null;
+        }
+
+        final int minCX = this.x_offset >> 4;
+        final int minCY = this.y_offset >> 4;
+        final int minCZ = this.z_offset >> 4;
+        final int cy_size = ((this.y_offset + this.y_size - 1) >> 4) - minCY + 1;
+        final boolean sameSky = this.world.provider.hasSkyLight() == dst.world.provider.hasSkyLight();
+
+        final boolean[][][] swapped = new boolean[this.cx_size][cy_size][this.cz_size];
+        boolean any = false;
+
+        for (int cx = 0; cx < this.cx_size; cx++) {
+            for (int cz = 0; cz < this.cz_size; cz++) {
+                for (int cy = 0; cy < cy_size; cy++) {
+                    final int lowX = (minCX + cx) << 4;
+                    final int lowY = (minCY + cy) << 4;
+                    final int lowZ = (minCZ + cz) << 4;
+
+                    if (lowX < this.x_offset || lowX + 15 >= this.x_offset + this.x_size || lowY < this.y_offset || lowY + 15 >= this.y_offset + this.y_size || lowZ < this.z_offset || lowZ + 15 >= this.z_offset + this.z_size) {
+                        continue;
+                    }
+
+                    final int dstLowX = lowX - this.x_offset + dst.x_offset;
+                    final int dstLowY = lowY - this.y_offset + dst.y_offset;
+                    final int dstLowZ = lowZ - this.z_offset + dst.z_offset;
+
+                    final ExtendedBlockStorage[] aStorage = this.myChunks[cx][cz].getBlockStorageArray();
+                    final ExtendedBlockStorage[] bStorage = dst.myChunks[(dstLowX >> 4) - (dst.x_offset >> 4)][(dstLowZ >> 4) - (dst.z_offset >> 4)].getBlockStorageArray();
+                    final int aY = lowY >> 4;
+                    final int bY = dstLowY >> 4;
+
+                    if (!this.canSwapSection(lowX - this.x_offset, lowY, lowZ - this.z_offset, aStorage[aY]) || !dst.canSwapSection(dstLowX - dst.x_offset, dstLowY, dstLowZ - dst.z_offset, bStorage[bY])) {
+                        continue;
+                    }
+
+                    if (aY == bY && sameSky) {
+                        final ExtendedBlockStorage tmp = aStorage[aY];
+                        aStorage[aY] = bStorage[bY];
+                        bStorage[bY] = tmp;
+                    } else {
+                        this.swapSectionContents(aStorage[aY], bStorage[bY]);
+                    }
+
+                    swapped[cx][cy][cz] = true;
+                    any = true;
+                }
+            }
+        }
+
+        return any ? swapped : null;
+    }
+
+    private boolean canSwapSection(final int x, final int y, final int z, final ExtendedBlockStorage storage) {
+        for (int ax = 0; ax < 16; ax++) {
+            for (int az = 0; az < 16; az++) {
+                final List<Integer> skipThese = this.myColumns[x + ax][z + az].skipThese;
+                if (skipThese != null) {
+                    for (final int skip : skipThese) {
+                        if (skip >= y && skip < y + 16) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int ay = 0; ay < 16; ay++) {
+            for (int az = 0; az < 16; az++) {
+                for (int ax = 0; ax < 16; ax++) {
+                    final IBlockState state = storage.get(ax, ay, az);
+                    if (state == this.matrixBlockState || this.reg.isBlacklisted(state.getBlock())) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void swapSectionContents(final ExtendedBlockStorage a, final ExtendedBlockStorage b) {
+        final byte[] aIds = new byte[4096];
+        final NibbleArray aMeta = new NibbleArray();
+        final NibbleArray aExt = a.getData().getDataForNBT(aIds, aMeta);
+
+        final byte[] bIds = new byte[4096];
+        final NibbleArray bMeta = new NibbleArray();
+        final NibbleArray bExt = b.getData().getDataForNBT(bIds, bMeta);
+
+        a.getData().setDataFromNBT(bIds, bMeta, bExt);
+        b.getData().setDataFromNBT(aIds, aMeta, aExt);
+
+        final NibbleArray aLight = a.getBlockLight();
+        a.setBlockLight(b.getBlockLight());
+        b.setBlockLight(aLight);
+
+        a.recalculateRefCounts();
+        b.recalculateRefCounts();
+    }
+
     private void markForUpdate(final int x, final int y, final int z) {
         this.updates.add(new WorldCoord(x, y, z));
         for (final AEPartLocation d : AEPartLocation.SIDE_LOCATIONS) {
@@ -310,9 +445,7 @@ public class CachedPlane {
 
                 final Chunk c = this.myChunks[x][z];
 
-                for (int y = 1; y < 255; y += 32) {
-                    WorldData.instance().compassData().service().updateArea(this.getWorld(), c.x << 4, y, c.z << 4);
-                }
+                WorldData.instance().compassData().service().updateArea(this.getWorld(), c.x, c.z);
 
                 Platform.sendChunk(c, this.verticalBits);
             }
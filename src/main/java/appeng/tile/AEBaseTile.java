@@ -61,6 +61,11 @@ import java.util.Map;
 
 public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile, ICustomNameObject {
 
+    /**
+     * Marks every field of the tile for the next sync, see {@link #markFieldsForUpdate(int)}.
+     */
+    public static final int ALL_FIELDS = -1;
+
     private static final ThreadLocal<WeakReference<AEBaseTile>> DROP_NO_ITEMS = new ThreadLocal<>();
     private static final Map<Class<? extends TileEntity>, IStackSrc> ITEM_STACKS = new HashMap<>();
     private int renderFragment = 0;
@@ -70,6 +75,7 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
     private EnumFacing up = null;
     private IBlockState state;
     private boolean markDirtyQueued = false;
+    private int dirtyFields = 0;
 
     @Override
     public boolean shouldRefresh(final World world, final BlockPos pos, final IBlockState oldState, final IBlockState newSate) {
@@ -186,12 +192,16 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
     }
 
     private boolean readUpdateData(ByteBuf stream) {
+        return this.readUpdateData(stream, ALL_FIELDS);
+    }
+
+    private boolean readUpdateData(final ByteBuf stream, final int fields) {
         boolean output = false;
 
         try {
             this.renderFragment = 100;
 
-            output = this.readFromStream(stream);
+            output = fields == ALL_FIELDS ? this.readFromStream(stream) : this.readFieldsFromStream(stream, fields);
 
             if ((this.renderFragment & 1) == 1) {
                 output = true;
@@ -254,14 +264,86 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
         }
     }
 
+    /**
+     * Reads the fields written by {@link #writeFieldsToStream(ByteBuf, int)}.
+     */
+    protected boolean readFieldsFromStream(final ByteBuf data, final int fields) throws IOException {
+        return this.readFromStream(data);
+    }
+
+    /**
+     * Writes only the given fields for a sync. Tiles that do not split their sync data into fields write everything.
+     *
+     * @param fields the bits passed to {@link #markFieldsForUpdate(int)} since the last sync, never {@link #ALL_FIELDS}
+     */
+    protected void writeFieldsToStream(final ByteBuf data, final int fields) throws IOException {
+        this.writeToStream(data);
+    }
+
+    /**
+     * Applies a sync of the server, either everything written by {@link #writeToStream(ByteBuf)} or only some fields.
+     */
+    public void handleSyncData(final ByteBuf stream, final int fields) {
+        if (this.readUpdateData(stream, fields)) {
+            this.markForUpdate();
+        }
+    }
+
+    /**
+     * Writes the fields marked since the last sync and resets them.
+     *
+     * @return false if the tile has nothing to send
+     */
+    boolean writeSyncData(final ByteBuf data) {
+        final int fields = this.dirtyFields;
+        this.dirtyFields = 0;
+
+        try {
+            if (fields == ALL_FIELDS) {
+                this.writeToStream(data);
+            } else {
+                this.writeFieldsToStream(data, fields);
+            }
+        } catch (final Throwable t) {
+            AELog.debug(t);
+            return false;
+        }
+
+        return data.readableBytes() > 0;
+    }
+
+    int getDirtyFields() {
+        return this.dirtyFields;
+    }
+
+    void clearDirtyFields() {
+        this.dirtyFields = 0;
+    }
+
     public void markForUpdate() {
+        this.markFieldsForUpdate(ALL_FIELDS);
+    }
+
+    /**
+     * Sends the given fields to the clients watching the tile at the end of the tick. Syncs of all tiles in the same
+     * chunk are sent together.
+     *
+     * @param fields bits of the fields that changed, as understood by {@link #writeFieldsToStream(ByteBuf, int)}
+     */
+    protected void markFieldsForUpdate(final int fields) {
         if (this.renderFragment > 0) {
             this.renderFragment |= 1;
-        } else {
-            // TODO: Optimize Network Load
-            if (this.world != null) {
-                AELog.blockUpdate(this.pos, this);
+        } else if (this.world != null) {
+            AELog.blockUpdate(this.pos, this);
+
+            if (this.world.isRemote) {
                 this.world.notifyBlockUpdate(this.pos, this.getBlockState(), this.getBlockState(), 3);
+            } else {
+                final boolean queued = this.dirtyFields != 0;
+                this.dirtyFields |= fields;
+                if (!queued) {
+                    TileSyncQueue.INSTANCE.add(this);
+                }
             }
         }
     }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.tile;
+
+
+import appeng.core.sync.packets.PacketTileUpdates;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Tiles waiting for a sync to their clients, grouped by chunk.
+ * <p>
+ * {@link AEBaseTile#markFieldsForUpdate(int)} only queues the tile. At the end of the server tick every chunk with
+ * queued tiles is sent as one {@link PacketTileUpdates} to the players watching it, with only the marked fields of each
+ * tile. Chunks that were not yet sent to any player are skipped, as their tiles are sent with the chunk.
+ */
+public final class TileSyncQueue {
+
+    public static final TileSyncQueue INSTANCE = new TileSyncQueue();
+
+    /**
+     * Starts another packet for the same chunk, well below the size limit of custom payloads.
+     */
+    private static final int MAX_PACKET_BYTES = 512 * 1024;
+
+    private final Map<World, Long2ObjectMap<List<AEBaseTile>>> pending = new HashMap<>();
+
+    private TileSyncQueue() {
+    }
+
+    void add(final AEBaseTile tile) {
+        final BlockPos pos = tile.getPos();
+        final Long2ObjectMap<List<AEBaseTile>> inWorld = this.pending.computeIfAbsent(tile.getWorld(), w -> new Long2ObjectOpenHashMap<>());
+        final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+
+        List<AEBaseTile> inChunk = inWorld.get(chunk);
+        if (inChunk == null) {
+            inWorld.put(chunk, inChunk = new ArrayList<>());
+        }
+        inChunk.add(tile);
+    }
+
+    /**
+     * Sends the queued tiles of all worlds, called at the end of the server tick.
+     */
+    public void flush() {
+        for (final Map.Entry<World, Long2ObjectMap<List<AEBaseTile>>> inWorld : this.pending.entrySet()) {
+            final WorldServer world = (WorldServer) inWorld.getKey();
+
+            for (final Long2ObjectMap.Entry<List<AEBaseTile>> inChunk : inWorld.getValue().long2ObjectEntrySet()) {
+                final long chunk = inChunk.getLongKey();
+                final PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry((int) chunk, (int) (chunk >> 32));
+
+                if (watchers == null || !watchers.isSentToPlayers()) {
+                    for (final AEBaseTile tile : inChunk.getValue()) {
+                        tile.clearDirtyFields();
+                    }
+                } else {
+                    this.send(world, watchers, inChunk.getValue());
+                }
+            }
+        }
+
+        this.pending.clear();
+    }
+
+    private void send(final World world, final PlayerChunkMapEntry watchers, final List<AEBaseTile> tiles) {
+        ByteBuf entries = Unpooled.buffer();
+        int count = 0;
+        final ByteBuf data = Unpooled.buffer();
+
+        for (final AEBaseTile tile : tiles) {
+            final int fields = tile.getDirtyFields();
+            data.clear();
+
+            // removed or replaced since it was queued
+            if (tile.isInvalid() || !world.isBlockLoaded(tile.getPos()) || world.getTileEntity(tile.getPos()) != tile || !tile.writeSyncData(data)) {
+                tile.clearDirtyFields();
+                continue;
+            }
+
+            entries.writeLong(tile.getPos().toLong());
+            entries.writeInt(fields);
+            entries.writeInt(data.readableBytes());
+            entries.writeBytes(data);
+            count++;
+
+            if (entries.readableBytes() > MAX_PACKET_BYTES) {
+                watchers.sendPacket(new PacketTileUpdates(count, entries).getProxy());
+                entries = Unpooled.buffer();
+                count = 0;
+            }
+        }
+
+        if (count > 0) {
+            watchers.sendPacket(new PacketTileUpdates(count, entries).getProxy());
+        }
+    }
+
+    /**
+     * Forgets the tiles of an unloaded world.
+     */
+    public void remove(final World world) {
+        final Long2ObjectMap<List<AEBaseTile>> inWorld = this.pending.remove(world);
+        if (inWorld != null) {
+            forget(inWorld);
+        }
+    }
+
+    public void clear() {
+        for (final Long2ObjectMap<List<AEBaseTile>> inWorld : this.pending.values()) {
+            forget(inWorld);
+        }
+        this.pending.clear();
+    }
+
+    private static void forget(final Long2ObjectMap<List<AEBaseTile>> inWorld) {
+        for (final List<AEBaseTile> inChunk : inWorld.values()) {
+            for (final AEBaseTile tile : inChunk) {
+                tile.clearDirtyFields();
+            }
+        }
+    }
+}
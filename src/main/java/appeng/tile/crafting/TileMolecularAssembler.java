@@ -97,6 +97,9 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
     private AEPartLocation pushDirection = AEPartLocation.INTERNAL;
     private ItemStack myPattern = ItemStack.EMPTY;
     private ICraftingPatternDetails myPlan = null;
+    private ICraftingPatternDetails lastPlan = null;
+    private final ItemStack[] lastInputs = new ItemStack[9];
+    private ItemStack lastOutput = ItemStack.EMPTY;
     private double progress = 0;
     private boolean isAwake = false;
     private boolean forcePlan = false;
@@ -250,14 +253,33 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
             return false;
         }
 
+        return !this.getPlanOutput().isEmpty();
+    }
+
+    /**
+     * Copies the grid into the crafting inventory and returns what the current plan makes from it.
+     * <p>
+     * The output is remembered together with the plan and a copy of the inputs, so repeating the same craft does not
+     * match the recipe again. Any difference in the inputs, including their NBT, computes it anew.
+     */
+    private ItemStack getPlanOutput() {
+        boolean same = this.lastPlan == this.myPlan;
+
         for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
-            this.craftingInv.setInventorySlotContents(x, this.gridInv.getStackInSlot(x));
-            if (!myPlan.isValidItemForSlot(x, craftingInv.getStackInSlot(x), world)) {
-                return false;
+            final ItemStack is = this.gridInv.getStackInSlot(x);
+            this.craftingInv.setInventorySlotContents(x, is);
+            same = same && this.lastInputs[x] != null && ItemStack.areItemStacksEqual(this.lastInputs[x], is);
+        }
+
+        if (!same) {
+            for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
+                this.lastInputs[x] = this.craftingInv.getStackInSlot(x).copy();
             }
+            this.lastPlan = this.myPlan;
+            this.lastOutput = this.myPlan.getOutput(this.craftingInv, this.getWorld());
         }
 
-        return this.myPlan.getOutputs().length > 0;
+        return this.lastOutput.copy();
     }
 
     @Override
@@ -483,12 +505,8 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
         }
 
         if (this.progress >= 100) {
-            for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
-                this.craftingInv.setInventorySlotContents(x, this.gridInv.getStackInSlot(x));
-            }
-
             this.progress = 0;
-            final ItemStack output = this.myPlan.getOutput(this.craftingInv, this.getWorld());
+            final ItemStack output = this.getPlanOutput();
             if (!output.isEmpty()) {
                 this.pushOut(output);
 
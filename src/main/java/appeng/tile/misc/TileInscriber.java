@@ -38,6 +38,7 @@ import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.IConfigManager;
+import appeng.core.features.registries.inscriber.InscriberRecipeIndex;
 import appeng.core.settings.TickRates;
 import appeng.me.GridAccessException;
 import appeng.parts.automation.DefinitionUpgradeInventory;
@@ -280,7 +281,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
             return this.makeNamePressRecipe(input, plateB, plateA);
         }
 
-        for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes()) {
+        for (final IInscriberRecipe recipe : InscriberRecipeIndex.get().getCandidatesForInput(input)) {
 
             // Check if plateA matches any item in the list of top components of the recipe
             final boolean matchA = plateA.isEmpty() && recipe.getTopInputs().isEmpty() ||
@@ -516,12 +517,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
                 if (AEApi.instance().definitions().materials().namePress().isSameAs(stack)) {
                     return true;
                 }
-                for (final ItemStack optionals : AEApi.instance().registries().inscriber().getOptionals()) {
-                    if (Platform.itemComparisons().isSameItem(stack, optionals)) {
-                        return true;
-                    }
-                }
-                return false;
+                return InscriberRecipeIndex.get().isPlate(stack);
             }
             return true;
         }
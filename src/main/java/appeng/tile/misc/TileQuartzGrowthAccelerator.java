@@ -25,6 +25,7 @@ import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEPartLocation;
+import appeng.entity.GrowthAcceleratorField;
 import appeng.me.GridAccessException;
 import appeng.tile.grid.AENetworkTile;
 import appeng.util.Platform;
@@ -47,9 +48,43 @@ public class TileQuartzGrowthAccelerator extends AENetworkTile implements IPower
 
     @MENetworkEventSubscribe
     public void onPower(final MENetworkPowerStatusChange ch) {
+        this.updateField();
         this.markForUpdate();
     }
 
+    @Override
+    public void onReady() {
+        super.onReady();
+        this.updateField();
+    }
+
+    @Override
+    public void gridChanged() {
+        super.gridChanged();
+        this.updateField();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        GrowthAcceleratorField.remove(this.world, this.pos);
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        GrowthAcceleratorField.remove(this.world, this.pos);
+    }
+
+    /**
+     * Publishes the current power state to the growing crystals around it.
+     */
+    private void updateField() {
+        if (this.world != null && !this.isInvalid()) {
+            GrowthAcceleratorField.setPowered(this.world, this.pos, this.isPowered());
+        }
+    }
+
     @Override
     public AECableType getCableConnectionType(final AEPartLocation dir) {
         return AECableType.COVERED;
@@ -60,6 +95,7 @@ public class TileQuartzGrowthAccelerator extends AENetworkTile implements IPower
         final boolean c = super.readFromStream(data);
         final boolean hadPower = this.isPowered();
         this.setPowered(data.readBoolean());
+        this.updateField();
         return this.isPowered() != hadPower || c;
     }
 
@@ -74,7 +74,27 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
     @Override
     protected boolean readFromStream(final ByteBuf data) throws IOException {
         final boolean c = super.readFromStream(data);
-        boolean ret = this.getCableBus().readFromStream(data);
+        return this.readCableBus(data, ALL_FIELDS) || c;
+    }
+
+    @Override
+    protected void writeToStream(final ByteBuf data) throws IOException {
+        super.writeToStream(data);
+        this.getCableBus().writeToStream(data);
+    }
+
+    @Override
+    protected boolean readFieldsFromStream(final ByteBuf data, final int fields) throws IOException {
+        return this.readCableBus(data, fields);
+    }
+
+    @Override
+    protected void writeFieldsToStream(final ByteBuf data, final int fields) throws IOException {
+        this.getCableBus().writeToStream(data, fields);
+    }
+
+    private boolean readCableBus(final ByteBuf data, final int fields) throws IOException {
+        boolean ret = this.getCableBus().readFromStream(data, fields);
 
         final int newLV = this.getCableBus().getLightValue();
         if (newLV != this.oldLV) {
@@ -84,13 +104,7 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
         }
 
         this.updateTileSetting();
-        return ret || c;
-    }
-
-    @Override
-    protected void writeToStream(final ByteBuf data) throws IOException {
-        super.writeToStream(data);
-        this.getCableBus().writeToStream(data);
+        return ret;
     }
 
     /**
@@ -159,13 +173,28 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
             return;
         }
 
+        this.updateLightValue();
+        super.markForUpdate();
+    }
+
+    /**
+     * Syncs only the part on the given side, for example when its status light changed.
+     */
+    public void markPartForUpdate(final AEPartLocation side) {
+        if (this.world == null) {
+            return;
+        }
+
+        this.updateLightValue();
+        this.markFieldsForUpdate(CableBusContainer.partField(side));
+    }
+
+    private void updateLightValue() {
         final int newLV = this.getCableBus().getLightValue();
         if (newLV != this.oldLV) {
             this.oldLV = newLV;
             this.world.checkLight(this.pos);
         }
-
-        super.markForUpdate();
     }
 
     @Override
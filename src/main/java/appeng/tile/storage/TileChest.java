@@ -150,7 +150,7 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
         if (this.wasActive != currentActive) {
             this.wasActive = currentActive;
             try {
-                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
             } catch (final GridAccessException e) {
                 // :P
             }
@@ -407,7 +407,7 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
                     final IStorageGrid gs = this.getProxy().getStorage();
                     Platform.postChanges(gs, removed, added, this.mySrc);
                 }
-                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
             } catch (final GridAccessException ignored) {
             }
 
@@ -469,7 +469,7 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
         this.isCached = false; // recalculate the storage cell.
 
         try {
-            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
         } catch (final GridAccessException e) {
             // :P
         }
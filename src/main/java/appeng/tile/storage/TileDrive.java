@@ -172,7 +172,7 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
         if (this.wasActive != currentActive) {
             this.wasActive = currentActive;
             try {
-                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+                this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
             } catch (final GridAccessException e) {
                 // :P
             }
@@ -219,7 +219,7 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
                 final IStorageGrid gs = this.getProxy().getStorage();
                 Platform.postChanges(gs, removed, added, this.mySrc);
             }
-            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
         } catch (final GridAccessException ignored) {
         }
 
@@ -294,7 +294,7 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
         this.updateState();
 
         try {
-            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate());
+            this.getProxy().getGrid().postEvent(new MENetworkCellArrayUpdate(this));
         } catch (final GridAccessException e) {
             // :P
         }
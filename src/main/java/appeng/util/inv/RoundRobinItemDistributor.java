@@ -0,0 +1,115 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.inv;
+
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * Spreads inserted items over a fixed set of handlers in round-robin order.
+ * <p>
+ * Every handler remembers the slot it last accepted items into and starts looking there, and a handler that could not
+ * take an item is skipped for that item for the rest of the tick. The hints are dropped together with the distributor,
+ * which happens whenever the outputs or their neighbours change.
+ */
+public class RoundRobinItemDistributor {
+
+    private final IItemHandler[] outputs;
+    private final int[] lastSlot;
+    private final ItemStack[] rejected;
+    private final long[] rejectedAt;
+    private int next = 0;
+
+    public RoundRobinItemDistributor(IItemHandler... outputs) {
+        this.outputs = outputs;
+        this.lastSlot = new int[outputs.length];
+        this.rejected = new ItemStack[outputs.length];
+        this.rejectedAt = new long[outputs.length];
+        Arrays.fill(this.rejected, ItemStack.EMPTY);
+        Arrays.fill(this.rejectedAt, -1);
+    }
+
+    /**
+     * Inserts the stack into the next handler that accepts it, anything left over goes to the handlers after it.
+     *
+     * @param stack    the items to insert
+     * @param simulate a simulation does not advance the round-robin position, so it predicts the real insert
+     * @param tick     current world time, used to expire the "full" hints
+     * @return what could not be inserted anywhere
+     */
+    @Nonnull
+    public ItemStack insert(@Nonnull ItemStack stack, final boolean simulate, final long tick) {
+        final int count = this.outputs.length;
+        ItemStack remaining = stack;
+
+        for (int i = 0; i < count && !remaining.isEmpty(); i++) {
+            final int index = (this.next + i) % count;
+
+            if (this.rejectedAt[index] == tick && ItemHandlerHelper.canItemStacksStack(this.rejected[index], remaining)) {
+                continue;
+            }
+
+            final ItemStack left = this.insertInto(index, remaining, simulate, tick);
+            if (!simulate && left.getCount() != remaining.getCount()) {
+                this.next = (index + 1) % count;
+            }
+            remaining = left;
+        }
+
+        return remaining;
+    }
+
+    private ItemStack insertInto(final int index, final ItemStack stack, final boolean simulate, final long tick) {
+        final IItemHandler inv = this.outputs[index];
+        final int slots = inv.getSlots();
+        if (slots <= 0) {
+            return stack;
+        }
+
+        final int start = this.lastSlot[index] < slots ? this.lastSlot[index] : 0;
+        ItemStack remaining = stack;
+
+        for (int i = 0; i < slots && !remaining.isEmpty(); i++) {
+            int slot = start + i;
+            if (slot >= slots) {
+                slot -= slots;
+            }
+
+            final ItemStack left = inv.insertItem(slot, remaining, simulate);
+            if (left.getCount() != remaining.getCount()) {
+                this.lastSlot[index] = slot;
+            }
+            remaining = left;
+        }
+
+        // a simulation did not fill anything, so it only proves that the handler is full if nothing fit at all
+        if (!remaining.isEmpty() && (!simulate || remaining.getCount() == stack.getCount())) {
+            this.rejected[index] = ItemHandlerHelper.copyStackWithSize(remaining, 1);
+            this.rejectedAt[index] = tick;
+        }
+
+        return remaining;
+    }
+}
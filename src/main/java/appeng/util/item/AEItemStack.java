@@ -49,7 +49,10 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
     private static final String NBT_CRAFTABLE = "Craft";
 
     private final AESharedItemStack sharedStack;
-    private final Optional<OreReference> oreReference;
+    /**
+     * Null until first needed for stacks created by {@link #AEItemStack(AESharedItemStack)}.
+     */
+    private Optional<OreReference> oreReference;
 
     @SideOnly(Side.CLIENT)
     private String displayName;
@@ -66,7 +69,7 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
         this.cachedItemStack = is.cachedItemStack;
     }
 
-    private AEItemStack(final AESharedItemStack is, long size) {
+    AEItemStack(final AESharedItemStack is, long size) {
         this.sharedStack = is;
         this.setStackSize(size);
         this.setCraftable(false);
@@ -74,6 +77,14 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
         this.oreReference = OreHelper.INSTANCE.getOre(is.getDefinition());
     }
 
+    /**
+     * Creates a stack without setting any amount and without looking up its ore reference yet, for stacks whose amounts
+     * are stored elsewhere.
+     */
+    AEItemStack(final AESharedItemStack is) {
+        this.sharedStack = is;
+    }
+
     @Nullable
     public static AEItemStack fromItemStack(@Nonnull final ItemStack stack) {
         if (stack.isEmpty()) {
@@ -290,6 +301,9 @@ public class AEItemStack extends AEStack<IAEItemStack> implements IAEItemStack {
     }
 
     public Optional<OreReference> getOre() {
+        if (this.oreReference == null) {
+            this.oreReference = OreHelper.INSTANCE.getOre(this.sharedStack.getDefinition());
+        }
         return this.oreReference;
     }
 
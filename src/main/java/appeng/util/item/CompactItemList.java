@@ -0,0 +1,527 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.util.item;
+
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.Platform;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.item.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Item list for networks with very many types, which keeps the amounts of all types in parallel arrays instead of one
+ * {@link AEItemStack} per type.
+ * <p>
+ * A type is the interned {@link AESharedItemStack} of the stack and is found through an open addressed table of slot
+ * indices. The stacks handed out are views of their slot and write through to it, so amounts can be changed in place
+ * like with {@link ItemList}. A view whose type was removed from the list keeps its last values, but no longer changes
+ * the list. Views are created on every access, but only hold the slot and look up their ore reference when first asked.
+ * <p>
+ * Fuzzy searches compare every variant of the item instead of looking up a durability range, which is slower than
+ * {@link ItemList} for damageable items with many variants.
+ */
+public final class CompactItemList implements IItemList<IAEItemStack> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FREE = 0;
+    private static final int REMOVED = -1;
+    private static final int NONE = -1;
+
+    private AESharedItemStack[] types = new AESharedItemStack[INITIAL_CAPACITY];
+    private long[] stackSizes = new long[INITIAL_CAPACITY];
+    private long[] countsRequestable = new long[INITIAL_CAPACITY];
+    private long[] craftable = new long[bitsetLength(INITIAL_CAPACITY)];
+    /**
+     * Incremented when a slot is removed, so views of the old type notice that the slot is no longer theirs.
+     */
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private int[] nextOfItem = new int[INITIAL_CAPACITY];
+    private int slots = 0;
+    private int live = 0;
+    /**
+     * Types with an amount, a requestable amount or a craftable flag, kept up to date by every change of a slot.
+     */
+    private int meaningful = 0;
+    private final IntArrayList freeSlots = new IntArrayList();
+
+    /**
+     * Slot + 1 of each type, {@link #FREE} or {@link #REMOVED}.
+     */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    private int tableUsed = 0;
+    private final Reference2IntMap<Item> firstOfItem = new Reference2IntOpenHashMap<>();
+
+    /**
+     * Incremented on every attempt to add to the list, see {@link ItemList}.
+     */
+    private final AtomicInteger version = new AtomicInteger(0);
+
+    public CompactItemList() {
+        this.firstOfItem.defaultReturnValue(NONE);
+    }
+
+    @Override
+    public IAEItemStack findPrecise(final IAEItemStack itemStack) {
+        if (itemStack == null) {
+            return null;
+        }
+
+        final int slot = this.indexOf(((AEItemStack) itemStack).getSharedStack());
+        return slot != NONE ? new View(slot) : null;
+    }
+
+    @Override
+    public Collection<IAEItemStack> findFuzzy(final IAEItemStack filter, final FuzzyMode fuzzy) {
+        if (filter == null) {
+            return Collections.emptyList();
+        }
+
+        final Item item = filter.getItem();
+        final boolean damageable = item.isDamageable() || Platform.isGTDamageableItem(item);
+
+        final List<IAEItemStack> found = new ArrayList<>();
+        for (int slot = this.firstOfItem.getInt(item); slot != NONE; slot = this.nextOfItem[slot]) {
+            final View view = new View(slot);
+            // like the variant lists, items without durability match in every variant
+            if (!damageable || filter.fuzzyComparison(view, fuzzy)) {
+                found.add(view);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.meaningful == 0;
+    }
+
+    @Override
+    public void add(final IAEItemStack itemStack) {
+        this.version.incrementAndGet();
+
+        if (itemStack == null) {
+            return;
+        }
+
+        final AESharedItemStack type = ((AEItemStack) itemStack).getSharedStack();
+        final int slot = this.indexOf(type);
+        if (slot != NONE) {
+            final boolean wasMeaningful = this.isMeaningful(slot);
+            this.stackSizes[slot] += itemStack.getStackSize();
+            this.countsRequestable[slot] += itemStack.getCountRequestable();
+            if (itemStack.isCraftable()) {
+                this.setCraftable(slot, true);
+            }
+            this.updateMeaningful(slot, wasMeaningful);
+        } else {
+            this.insert(type, itemStack.getStackSize(), itemStack.getCountRequestable(), itemStack.isCraftable());
+        }
+    }
+
+    @Override
+    public void addStorage(final IAEItemStack itemStack) {
+        this.version.incrementAndGet();
+
+        if (itemStack == null) {
+            return;
+        }
+
+        final AESharedItemStack type = ((AEItemStack) itemStack).getSharedStack();
+        final int slot = this.indexOf(type);
+        if (slot != NONE) {
+            final boolean wasMeaningful = this.isMeaningful(slot);
+            this.stackSizes[slot] += itemStack.getStackSize();
+            this.updateMeaningful(slot, wasMeaningful);
+        } else {
+            this.insert(type, itemStack.getStackSize(), itemStack.getCountRequestable(), itemStack.isCraftable());
+        }
+    }
+
+    @Override
+    public void addCrafting(final IAEItemStack itemStack) {
+        this.version.incrementAndGet();
+
+        if (itemStack == null) {
+            return;
+        }
+
+        final AESharedItemStack type = ((AEItemStack) itemStack).getSharedStack();
+        final int slot = this.indexOf(type);
+        if (slot != NONE) {
+            final boolean wasMeaningful = this.isMeaningful(slot);
+            this.setCraftable(slot, true);
+            this.updateMeaningful(slot, wasMeaningful);
+        } else {
+            this.insert(type, 0, itemStack.getCountRequestable(), true);
+        }
+    }
+
+    @Override
+    public void addRequestable(final IAEItemStack itemStack) {
+        this.version.incrementAndGet();
+
+        if (itemStack == null) {
+            return;
+        }
+
+        final AESharedItemStack type = ((AEItemStack) itemStack).getSharedStack();
+        final int slot = this.indexOf(type);
+        if (slot != NONE) {
+            final boolean wasMeaningful = this.isMeaningful(slot);
+            this.countsRequestable[slot] += itemStack.getCountRequestable();
+            this.updateMeaningful(slot, wasMeaningful);
+        } else {
+            this.insert(type, 0, itemStack.getCountRequestable(), false);
+        }
+    }
+
+    @Override
+    public IAEItemStack getFirstItem() {
+        for (final IAEItemStack stackType : this) {
+            return stackType;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return this.meaningful;
+    }
+
+    @Override
+    public Iterator<IAEItemStack> iterator() {
+        return new MeaningfulIterator();
+    }
+
+    @Override
+    public void resetStatus() {
+        Arrays.fill(this.stackSizes, 0, this.slots, 0);
+        Arrays.fill(this.countsRequestable, 0, this.slots, 0);
+        Arrays.fill(this.craftable, 0);
+        this.meaningful = 0;
+    }
+
+    private void updateMeaningful(final int slot, final boolean wasMeaningful) {
+        final boolean isMeaningful = this.isMeaningful(slot);
+        if (isMeaningful != wasMeaningful) {
+            this.meaningful += isMeaningful ? 1 : -1;
+        }
+    }
+
+    private boolean isMeaningful(final int slot) {
+        return this.stackSizes[slot] != 0 || this.countsRequestable[slot] > 0 || this.isCraftable(slot);
+    }
+
+    private boolean isCraftable(final int slot) {
+        return (this.craftable[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    private void setCraftable(final int slot, final boolean craftable) {
+        if (craftable) {
+            this.craftable[slot >>> 6] |= 1L << slot;
+        } else {
+            this.craftable[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    private int indexOf(final AESharedItemStack type) {
+        final int mask = this.table.length - 1;
+        for (int i = HashCommon.mix(type.hashCode()) & mask; ; i = (i + 1) & mask) {
+            final int entry = this.table[i];
+            if (entry == FREE) {
+                return NONE;
+            }
+            if (entry != REMOVED && this.types[entry - 1] == type) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private void insert(final AESharedItemStack type, final long stackSize, final long countRequestable, final boolean craftable) {
+        if ((this.tableUsed + 1) * 4L > this.table.length * 3L) {
+            // grow if the table is mostly taken by live types, otherwise only drop the removed markers
+            this.rehash((this.live + 1) * 8L > this.table.length * 3L ? this.table.length * 2 : this.table.length);
+        }
+
+        final int slot = this.freeSlots.isEmpty() ? this.slots++ : this.freeSlots.popInt();
+        if (slot >= this.types.length) {
+            this.grow(this.types.length * 2);
+        }
+
+        this.types[slot] = type;
+        this.stackSizes[slot] = stackSize;
+        this.countsRequestable[slot] = countRequestable;
+        this.setCraftable(slot, craftable);
+
+        final Item item = type.getDefinition().getItem();
+        this.nextOfItem[slot] = this.firstOfItem.getInt(item);
+        this.firstOfItem.put(item, slot);
+
+        this.place(type, slot);
+        this.live++;
+        if (this.isMeaningful(slot)) {
+            this.meaningful++;
+        }
+    }
+
+    private void place(final AESharedItemStack type, final int slot) {
+        final int mask = this.table.length - 1;
+        int i = HashCommon.mix(type.hashCode()) & mask;
+        while (this.table[i] != FREE && this.table[i] != REMOVED) {
+            i = (i + 1) & mask;
+        }
+
+        if (this.table[i] == FREE) {
+            this.tableUsed++;
+        }
+        this.table[i] = slot + 1;
+    }
+
+    private void remove(final int slot) {
+        final AESharedItemStack type = this.types[slot];
+
+        final int mask = this.table.length - 1;
+        int i = HashCommon.mix(type.hashCode()) & mask;
+        while (this.table[i] != slot + 1) {
+            i = (i + 1) & mask;
+        }
+        this.table[i] = REMOVED;
+
+        final Item item = type.getDefinition().getItem();
+        final int first = this.firstOfItem.getInt(item);
+        if (first == slot) {
+            if (this.nextOfItem[slot] == NONE) {
+                this.firstOfItem.removeInt(item);
+            } else {
+                this.firstOfItem.put(item, this.nextOfItem[slot]);
+            }
+        } else {
+            int previous = first;
+            while (this.nextOfItem[previous] != slot) {
+                previous = this.nextOfItem[previous];
+            }
+            this.nextOfItem[previous] = this.nextOfItem[slot];
+        }
+
+        if (this.isMeaningful(slot)) {
+            this.meaningful--;
+        }
+
+        this.types[slot] = null;
+        this.stackSizes[slot] = 0;
+        this.countsRequestable[slot] = 0;
+        this.setCraftable(slot, false);
+        this.stamps[slot]++;
+        this.freeSlots.add(slot);
+        this.live--;
+    }
+
+    private void rehash(final int length) {
+        this.table = new int[length];
+        this.tableUsed = 0;
+
+        for (int slot = 0; slot < this.slots; slot++) {
+            if (this.types[slot] != null) {
+                this.place(this.types[slot], slot);
+            }
+        }
+    }
+
+    private void grow(final int capacity) {
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.stackSizes = Arrays.copyOf(this.stackSizes, capacity);
+        this.countsRequestable = Arrays.copyOf(this.countsRequestable, capacity);
+        this.craftable = Arrays.copyOf(this.craftable, bitsetLength(capacity));
+        this.stamps = Arrays.copyOf(this.stamps, capacity);
+        this.nextOfItem = Arrays.copyOf(this.nextOfItem, capacity);
+    }
+
+    private static int bitsetLength(final int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    /**
+     * A stack backed by a slot of the list. It keeps a copy of the values it wrote, which it falls back to once the
+     * slot was removed.
+     */
+    private final class View extends AEItemStack {
+
+        private final int slot;
+        private final int stamp;
+
+        private View(final int slot) {
+            super(CompactItemList.this.types[slot]);
+            this.slot = slot;
+            this.stamp = CompactItemList.this.stamps[slot];
+            super.setStackSize(CompactItemList.this.stackSizes[slot]);
+            super.setCountRequestable(CompactItemList.this.countsRequestable[slot]);
+            super.setCraftable(CompactItemList.this.isCraftable(slot));
+        }
+
+        private boolean isAttached() {
+            return CompactItemList.this.stamps[this.slot] == this.stamp;
+        }
+
+        @Override
+        public long getStackSize() {
+            return this.isAttached() ? CompactItemList.this.stackSizes[this.slot] : super.getStackSize();
+        }
+
+        @Override
+        public IAEItemStack setStackSize(final long ss) {
+            super.setStackSize(ss);
+            if (this.isAttached()) {
+                final boolean wasMeaningful = CompactItemList.this.isMeaningful(this.slot);
+                CompactItemList.this.stackSizes[this.slot] = ss;
+                CompactItemList.this.updateMeaningful(this.slot, wasMeaningful);
+            }
+            return this;
+        }
+
+        @Override
+        public long getCountRequestable() {
+            return this.isAttached() ? CompactItemList.this.countsRequestable[this.slot] : super.getCountRequestable();
+        }
+
+        @Override
+        public IAEItemStack setCountRequestable(final long countRequestable) {
+            super.setCountRequestable(countRequestable);
+            if (this.isAttached()) {
+                final boolean wasMeaningful = CompactItemList.this.isMeaningful(this.slot);
+                CompactItemList.this.countsRequestable[this.slot] = countRequestable;
+                CompactItemList.this.updateMeaningful(this.slot, wasMeaningful);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean isCraftable() {
+            return this.isAttached() ? CompactItemList.this.isCraftable(this.slot) : super.isCraftable();
+        }
+
+        @Override
+        public IAEItemStack setCraftable(final boolean isCraftable) {
+            super.setCraftable(isCraftable);
+            if (this.isAttached()) {
+                final boolean wasMeaningful = CompactItemList.this.isMeaningful(this.slot);
+                CompactItemList.this.setCraftable(this.slot, isCraftable);
+                CompactItemList.this.updateMeaningful(this.slot, wasMeaningful);
+            }
+            return this;
+        }
+
+        @Override
+        public IAEItemStack reset() {
+            this.setStackSize(0);
+            this.setCountRequestable(0);
+            this.setCraftable(false);
+            return this;
+        }
+
+        @Override
+        public boolean isMeaningful() {
+            return this.getStackSize() != 0 || this.getCountRequestable() > 0 || this.isCraftable();
+        }
+
+        @Override
+        public void incStackSize(final long i) {
+            this.setStackSize(this.getStackSize() + i);
+        }
+
+        @Override
+        public void decStackSize(final long i) {
+            this.setStackSize(this.getStackSize() - i);
+        }
+
+        @Override
+        public void incCountRequestable(final long i) {
+            this.setCountRequestable(this.getCountRequestable() + i);
+        }
+
+        @Override
+        public void decCountRequestable(final long i) {
+            this.setCountRequestable(this.getCountRequestable() - i);
+        }
+    }
+
+    /**
+     * Returns the meaningful types and removes the others while iterating, like {@link MeaningfulItemIterator}.
+     */
+    private final class MeaningfulIterator implements Iterator<IAEItemStack> {
+
+        private final int expectedVersion = CompactItemList.this.version.get();
+        private int next;
+
+        private MeaningfulIterator() {
+            this.next = this.seek(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != NONE;
+        }
+
+        @Override
+        public IAEItemStack next() {
+            if (this.next == NONE) {
+                throw new NoSuchElementException();
+            }
+            if (this.expectedVersion != CompactItemList.this.version.get()) {
+                throw new ConcurrentModificationException();
+            }
+
+            final View result = new View(this.next);
+            this.next = this.seek(this.next + 1);
+            return result;
+        }
+
+        private int seek(final int from) {
+            for (int slot = from; slot < CompactItemList.this.slots; slot++) {
+                if (CompactItemList.this.types[slot] == null) {
+                    continue;
+                }
+
+                if (CompactItemList.this.isMeaningful(slot)) {
+                    return slot;
+                }
+                CompactItemList.this.remove(slot);
+            }
+
+            return NONE;
+        }
+    }
+}
@@ -143,6 +143,7 @@ public final class MeteoritePlacer {
         }
 
         w.done();
+        this.fillSkyChest(w, x, y, z);
         return true;
     }
 
@@ -195,7 +196,15 @@ public final class MeteoritePlacer {
         if (AEConfig.instance().isFeatureEnabled(AEFeature.SPAWN_PRESSES_IN_METEORITES)) {
             this.skyChestDefinition.maybeBlock().ifPresent(block -> this.putter.put(w, x, y, z,
                             block.getDefaultState().withProperty(BlockSkyChest.NATURAL, true)));
+        }
+    }
 
+    /**
+     * Fills the chest of the meteorite, must only be called after {@link IMeteoriteWorld#done()} wrote the chest into
+     * the world.
+     */
+    private void fillSkyChest(final IMeteoriteWorld w, final int x, final int y, final int z) {
+        if (AEConfig.instance().isFeatureEnabled(AEFeature.SPAWN_PRESSES_IN_METEORITES)) {
             final TileEntity te = w.getTileEntity(x, y, z);
             final InventoryAdaptor ap = InventoryAdaptor.getAdaptor(te, EnumFacing.UP);
             if (ap != null) {
@@ -472,6 +481,7 @@ public final class MeteoritePlacer {
 
             this.settings.setInteger("skyMode", skyMode);
             w.done();
+            this.fillSkyChest(w, x, y, z);
 
             WorldData.instance().spawnData().addNearByMeteorites(w.getWorld().provider.getDimension(), x >> 4, z >> 4, this.settings);
             return true;
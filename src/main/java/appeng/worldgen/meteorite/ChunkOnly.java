@@ -19,10 +19,7 @@
 package appeng.worldgen.meteorite;
 
 
-import appeng.util.Platform;
-import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 
@@ -32,7 +29,6 @@ public class ChunkOnly extends StandardWorld {
     private final Chunk target;
     private final int cx;
     private final int cz;
-    private int verticalBits = 0;
 
     public ChunkOnly(final World w, final int cx, final int cz) {
         super(w);
@@ -62,34 +58,8 @@ public class ChunkOnly extends StandardWorld {
     }
 
     @Override
-    public Block getBlock(final int x, final int y, final int z) {
-        if (this.range(x, y, z)) {
-            return this.target.getBlockState(x, y, z).getBlock();
-        }
-        return Platform.AIR_BLOCK;
-    }
-
-    @Override
-    public void setBlock(final int x, final int y, final int z, final Block blk) {
-        if (this.range(x, y, z)) {
-            this.verticalBits |= 1 << (y >> 4);
-            this.getWorld().setBlockState(new BlockPos(x, y, z), blk.getDefaultState());
-        }
-    }
-
-    @Override
-    public void setBlock(final int x, final int y, final int z, final IBlockState state, final int flags) {
-        if (this.range(x, y, z)) {
-            this.verticalBits |= 1 << (y >> 4);
-            this.getWorld().setBlockState(new BlockPos(x, y, z), state, flags & (~2));
-        }
-    }
-
-    @Override
-    public void done() {
-        if (this.verticalBits != 0) {
-            Platform.sendChunk(this.target, this.verticalBits);
-        }
+    protected IBlockState readBlockState(final int x, final int y, final int z) {
+        return this.target.getBlockState(x, y, z);
     }
 
     @Override
@@ -0,0 +1,185 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.worldgen.meteorite;
+
+
+import appeng.util.Platform;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Collects the block changes of a meteorite per chunk section, so they can be written straight into the sections
+ * afterwards instead of relighting and notifying for every single block.
+ * <p>
+ * Building the plan does not touch the world, only {@link #apply(World)} does.
+ */
+public final class MeteoriteBlockPlan {
+
+    private final Long2ObjectMap<IBlockState[]> sections = new Long2ObjectOpenHashMap<>();
+
+    private static long sectionKey(final int x, final int y, final int z) {
+        return ((long) (x >> 4) & 0x3FFFFFF) << 38 | ((long) (z >> 4) & 0x3FFFFFF) << 12 | (y >> 4);
+    }
+
+    private static int indexInSection(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    public void set(final int x, final int y, final int z, final IBlockState state) {
+        if (y < 0 || y > 255) {
+            return;
+        }
+
+        final long key = sectionKey(x, y, z);
+        IBlockState[] section = this.sections.get(key);
+        if (section == null) {
+            this.sections.put(key, section = new IBlockState[16 * 16 * 16]);
+        }
+
+        section[indexInSection(x, y, z)] = state;
+    }
+
+    /**
+     * @return the planned state, or null if the block is left unchanged.
+     */
+    @Nullable
+    public IBlockState get(final int x, final int y, final int z) {
+        if (y < 0 || y > 255) {
+            return null;
+        }
+
+        final IBlockState[] section = this.sections.get(sectionKey(x, y, z));
+        return section == null ? null : section[indexInSection(x, y, z)];
+    }
+
+    public boolean isEmpty() {
+        return this.sections.isEmpty();
+    }
+
+    /**
+     * Writes all planned blocks section by section, without block updates. Replaced blocks with a tile entity are still
+     * broken, so they drop their contents. Sky light and clients are updated once per affected chunk, block light only
+     * around blocks whose light emission changed.
+     */
+    public void apply(final World w) {
+        if (this.sections.isEmpty()) {
+            return;
+        }
+
+        final Long2IntMap verticalBits = new Long2IntOpenHashMap();
+        final List<BlockPos> lightChanges = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (final Long2ObjectMap.Entry<IBlockState[]> entry : this.sections.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final int cx = (int) (key >> 38);
+            final int cz = (int) (key << 26 >> 38);
+            final int sy = (int) (key & 0xFFF);
+
+            final Chunk c = w.getChunk(cx, cz);
+            final ExtendedBlockStorage[] storageArray = c.getBlockStorageArray();
+            ExtendedBlockStorage storage = storageArray[sy];
+            final IBlockState[] planned = entry.getValue();
+
+            for (int i = 0; i < planned.length; i++) {
+                final IBlockState state = planned[i];
+                if (state == null) {
+                    continue;
+                }
+
+                final int x = i & 15;
+                final int z = (i >> 4) & 15;
+                final int y = i >> 8;
+
+                if (storage == null) {
+                    if (state.getBlock() == Platform.AIR_BLOCK) {
+                        continue;
+                    }
+                    storage = storageArray[sy] = new ExtendedBlockStorage(sy << 4, w.provider.hasSkyLight());
+                }
+
+                final IBlockState old = storage.get(x, y, z);
+                if (old == state) {
+                    continue;
+                }
+
+                pos.setPos((cx << 4) + x, (sy << 4) + y, (cz << 4) + z);
+                final int oldLight = old.getLightValue(w, pos);
+
+                if (old.getBlock().hasTileEntity(old)) {
+                    // lets inventories drop their contents, like replacing the block through the world would
+                    old.getBlock().breakBlock(w, pos.toImmutable(), old);
+                    w.removeTileEntity(pos);
+                }
+
+                storage.set(x, y, z, state);
+
+                if (state.getLightValue(w, pos) != oldLight) {
+                    lightChanges.add(pos.toImmutable());
+                }
+
+                if (state.getBlock().hasTileEntity(state)) {
+                    final TileEntity te = state.getBlock().createTileEntity(w, state);
+                    if (te != null) {
+                        w.setTileEntity(pos.toImmutable(), te);
+                    }
+                }
+            }
+
+            final long chunkKey = ChunkPos.asLong(cx, cz);
+            verticalBits.put(chunkKey, verticalBits.get(chunkKey) | 1 << sy);
+        }
+
+        for (final Long2IntMap.Entry entry : verticalBits.long2IntEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final Chunk c = w.getChunk((int) chunkKey, (int) (chunkKey >> 32));
+
+            c.resetRelightChecks();
+            c.generateSkylightMap();
+            c.setModified(true);
+        }
+
+        // spreads the light of new sources and removes the light of removed ones, e.g. torches or lava in the crater
+        for (final BlockPos lightChange : lightChanges) {
+            w.checkLightFor(EnumSkyBlock.BLOCK, lightChange);
+        }
+
+        for (final Long2IntMap.Entry entry : verticalBits.long2IntEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            Platform.sendChunk(w.getChunk((int) chunkKey, (int) (chunkKey >> 32)), entry.getIntValue());
+        }
+
+        this.sections.clear();
+    }
+}
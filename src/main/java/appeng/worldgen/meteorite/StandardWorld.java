@@ -31,6 +31,7 @@ import net.minecraft.world.World;
 public class StandardWorld implements IMeteoriteWorld {
 
     private final World w;
+    private final MeteoriteBlockPlan plan = new MeteoriteBlockPlan();
 
     public StandardWorld(final World w) {
         this.w = w;
@@ -64,7 +65,7 @@ public class StandardWorld implements IMeteoriteWorld {
     @Override
     public Block getBlock(final int x, final int y, final int z) {
         if (this.range(x, y, z)) {
-            return this.getWorld().getBlockState(new BlockPos(x, y, z)).getBlock();
+            return this.getBlockState(x, y, z).getBlock();
         }
         return Platform.AIR_BLOCK;
     }
@@ -80,6 +81,7 @@ public class StandardWorld implements IMeteoriteWorld {
     @Override
     public TileEntity getTileEntity(final int x, final int y, final int z) {
         if (this.range(x, y, z)) {
+            // planned blocks have no tile entity until done() wrote them
             return this.getWorld().getTileEntity(new BlockPos(x, y, z));
         }
         return null;
@@ -93,13 +95,16 @@ public class StandardWorld implements IMeteoriteWorld {
     @Override
     public void setBlock(final int x, final int y, final int z, final Block blk) {
         if (this.range(x, y, z)) {
-            this.getWorld().setBlockState(new BlockPos(x, y, z), blk.getDefaultState());
+            this.plan.set(x, y, z, blk.getDefaultState());
         }
     }
 
+    /**
+     * Writes all blocks placed so far into the world, one chunk section at a time.
+     */
     @Override
     public void done() {
-
+        this.plan.apply(this.w);
     }
 
     public boolean range(final int x, final int y, final int z) {
@@ -109,15 +114,24 @@ public class StandardWorld implements IMeteoriteWorld {
     @Override
     public void setBlock(final int x, final int y, final int z, final IBlockState state, final int l) {
         if (this.range(x, y, z)) {
-            this.w.setBlockState(new BlockPos(x, y, z), state, l);
+            // the plan never notifies neighbours, regardless of the requested flags
+            this.plan.set(x, y, z, state);
         }
     }
 
     @Override
     public IBlockState getBlockState(final int x, final int y, final int z) {
         if (this.range(x, y, z)) {
-            return this.w.getBlockState(new BlockPos(x, y, z));
+            final IBlockState planned = this.plan.get(x, y, z);
+            return planned != null ? planned : this.readBlockState(x, y, z);
         }
         return Blocks.AIR.getDefaultState();
     }
+
+    /**
+     * Reads a block as it currently is in the world, ignoring anything that was placed but not written yet.
+     */
+    protected IBlockState readBlockState(final int x, final int y, final int z) {
+        return this.w.getBlockState(new BlockPos(x, y, z));
+    }
 }
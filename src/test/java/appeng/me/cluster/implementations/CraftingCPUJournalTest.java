@@ -0,0 +1,111 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cluster.implementations;
+
+
+import appeng.api.AEApi;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.simulator.HeadlessBootstrap;
+import appeng.util.item.AEItemStack;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+public class CraftingCPUJournalTest {
+
+    @BeforeAll
+    public static void setUp() {
+        HeadlessBootstrap.start();
+    }
+
+    private static IAEItemStack paper(final int id, final long size) {
+        final ItemStack is = new ItemStack(Items.PAPER);
+        final NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("id", id);
+        is.setTagCompound(tag);
+        return AEItemStack.fromItemStack(is).setStackSize(size);
+    }
+
+    private static IItemList<IAEItemStack> list(final IAEItemStack... stacks) {
+        final IItemList<IAEItemStack> list = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        for (final IAEItemStack stack : stacks) {
+            list.add(stack);
+        }
+        return list;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final IItemList<IAEItemStack> inventory = list(paper(1, 64), paper(2, Long.MAX_VALUE / 3));
+        final IItemList<IAEItemStack> waitingFor = list(paper(2, 5), paper(3, 1));
+        final IAEItemStack pattern = paper(100, 1);
+
+        final NBTTagCompound tag = CraftingCPUJournal.write(inventory, waitingFor, Collections.singletonList(new CraftingCPUJournal.PendingTask(pattern, 12345L)));
+        final CraftingCPUJournal journal = CraftingCPUJournal.read(tag);
+
+        assertThat(journal, notNullValue());
+        assertThat(journal.getInventory(), containsInAnyOrder(paper(1, 64), paper(2, Long.MAX_VALUE / 3)));
+        assertThat(journal.getWaitingFor(), containsInAnyOrder(paper(2, 5), paper(3, 1)));
+        assertThat(journal.getTasks().size(), is(1));
+        assertThat(journal.getTasks().get(0).getPattern(), is(pattern));
+        assertThat(journal.getTasks().get(0).getProgress(), is(12345L));
+
+        for (final IAEItemStack stack : journal.getInventory()) {
+            final IAEItemStack original = inventory.findPrecise(stack);
+            assertThat(stack.getStackSize(), is(original.getStackSize()));
+        }
+    }
+
+    @Test
+    public void testSharedTypesAreWrittenOnce() {
+        final IItemList<IAEItemStack> inventory = list(paper(1, 1), paper(2, 1));
+        final IItemList<IAEItemStack> waitingFor = list(paper(1, 2), paper(2, 2));
+
+        final NBTTagCompound tag = CraftingCPUJournal.write(inventory, waitingFor, Arrays.asList(new CraftingCPUJournal.PendingTask(paper(1, 1), 1), new CraftingCPUJournal.PendingTask(paper(2, 1), 1)));
+
+        assertThat(tag.getTagList("types", 10).tagCount(), is(2));
+    }
+
+    @Test
+    public void testSkipsEmptyEntries() {
+        final IAEItemStack drained = paper(1, 0);
+        final NBTTagCompound tag = CraftingCPUJournal.write(list(drained), list(), Collections.emptyList());
+
+        assertThat(CraftingCPUJournal.read(tag).getInventory(), empty());
+    }
+
+    @Test
+    public void testRejectsUnknownVersion() {
+        final NBTTagCompound tag = CraftingCPUJournal.write(list(paper(1, 1)), list(), Collections.emptyList());
+        tag.setInteger("v", 99);
+
+        assertThat(CraftingCPUJournal.read(tag), nullValue());
+    }
+}
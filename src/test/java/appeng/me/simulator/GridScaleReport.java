@@ -0,0 +1,85 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.IGridCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Prints how the caches of simulated networks scale with the amount of nodes.
+ * <p>
+ * Run with {@code ./gradlew gridScaleReport}, optionally with the sizes to simulate, e.g.
+ * {@code ./gradlew gridScaleReport --args="1000 50000"}.
+ */
+public final class GridScaleReport {
+
+    private static final int STEADY_TICKS = 200;
+
+    private GridScaleReport() {
+    }
+
+    public static void main(final String[] args) {
+        final List<Integer> sizes = new ArrayList<>();
+        for (final String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            sizes.add(1000);
+            sizes.add(10000);
+            sizes.add(100000);
+        }
+
+        for (final int size : sizes) {
+            report(new GridTopology().setNodes(size));
+        }
+    }
+
+    private static void report(final GridTopology topology) {
+        final GridSimulator simulator = GridSimulator.build(topology);
+        final int maxTicks = 1000 + topology.getNodes() / 10;
+
+        simulator.boot(maxTicks);
+        System.out.printf("%n== %d nodes: %d drives, %d buses, %d pattern providers ==%n", simulator.getNodeCount(), simulator.getDrives().size(), simulator.getBuses().size(), simulator.getPatternProviders().size());
+        System.out.printf("build  %10.1f ms%n", simulator.getBuildNanos() / 1e6);
+        System.out.printf("boot   %10.1f ms  %5d ticks%n", simulator.getBootNanos() / 1e6, simulator.getBootTicks());
+
+        simulator.resetStats();
+        simulator.tick(STEADY_TICKS);
+        printStats("steady state, " + STEADY_TICKS + " ticks", simulator);
+
+        simulator.resetStats();
+        simulator.repath(maxTicks);
+        System.out.printf("repath %10.1f ms  %5d ticks%n", simulator.getRepathNanos() / 1e6, simulator.getRepathTicks());
+        printStats("repath", simulator);
+    }
+
+    private static void printStats(final String title, final GridSimulator simulator) {
+        System.out.printf("-- %s%n", title);
+        System.out.printf("%-24s %12s %12s %12s%n", "cache", "avg µs/tick", "max µs", "KB/tick");
+        for (final Map.Entry<Class<? extends IGridCache>, GridSimulator.CacheStats> e : simulator.getStats().entrySet()) {
+            final GridSimulator.CacheStats stats = e.getValue();
+            System.out.printf("%-24s %12.1f %12.1f %12.1f%n", e.getKey().getSimpleName(), stats.getAverageMicros(), stats.getMaxMicros(), stats.getAllocatedBytesPerTick() / 1024.0);
+        }
+    }
+}
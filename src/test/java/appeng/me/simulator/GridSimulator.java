@@ -0,0 +1,490 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.AEApi;
+import appeng.api.exceptions.FailedConnectionException;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+import appeng.crafting.CraftingJob;
+import appeng.hooks.TickHandler;
+import appeng.me.GridConnection;
+import appeng.me.helpers.BaseActionSource;
+import appeng.util.item.AEItemStack;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+
+/**
+ * Builds a network of simulated machines as described by a {@link GridTopology} and ticks it without a world.
+ * <p>
+ * The caches are ticked one by one, like {@code Grid.update()} does, so the time and memory allocated by each of them
+ * can be reported. Memory is measured per thread, which needs a HotSpot based JVM; elsewhere it stays 0.
+ */
+public final class GridSimulator {
+
+    private final GridTopology topology;
+    private final SimulatedWorld world = new SimulatedWorld();
+    private final Random random;
+    private final IItemStorageChannel channel;
+    private final List<IAEItemStack> itemTypes = new ArrayList<>();
+    private final List<IAEItemStack> craftableTypes = new ArrayList<>();
+    private final List<SimulatedController> controllers = new ArrayList<>();
+    private final List<SimulatedDrive> drives = new ArrayList<>();
+    private final List<SimulatedBus> buses = new ArrayList<>();
+    private final List<SimulatedPatternProvider> patternProviders = new ArrayList<>();
+    private final Map<Class<? extends IGridCache>, CacheStats> stats = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean threads;
+
+    private int remainingNodes;
+    private int nodeCount = 0;
+    private int connectionCount = 0;
+    private IGrid grid;
+
+    private long buildNanos;
+    private int bootTicks;
+    private long bootNanos;
+    private int repathTicks;
+    private long repathNanos;
+
+    private GridSimulator(final GridTopology topology) {
+        this.topology = topology;
+        this.random = new Random(topology.getSeed());
+        this.channel = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+        this.remainingNodes = topology.getNodes();
+
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+            this.threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threads = null;
+        }
+
+        for (final Class<? extends IGridCache> cache : HeadlessBootstrap.GRID_CACHES.keySet()) {
+            this.stats.put(cache, new CacheStats());
+        }
+    }
+
+    /**
+     * Creates all machines and connects them. The network still has to {@link #boot(int)} before it is usable.
+     */
+    public static GridSimulator build(final GridTopology topology) {
+        HeadlessBootstrap.start();
+
+        final GridSimulator simulator = new GridSimulator(topology);
+        final long start = System.nanoTime();
+        simulator.buildNetwork();
+        simulator.buildNanos = System.nanoTime() - start;
+
+        return simulator;
+    }
+
+    private void buildNetwork() {
+        for (int i = 0; i < this.topology.getItemTypes(); i++) {
+            this.itemTypes.add(itemType(i));
+        }
+
+        for (int i = 0; i < this.topology.getControllers() && this.remainingNodes > 0; i++) {
+            final SimulatedController controller = new SimulatedController(this.nextLocation(i, 64));
+            final IGridNode node = this.addNode(controller.getGridBlock());
+            if (!this.controllers.isEmpty()) {
+                this.connect(this.controllers.get(i - 1).getActionableNode(), node, AEPartLocation.EAST);
+            }
+            this.controllers.add(controller);
+        }
+
+        if (this.remainingNodes > 0) {
+            final SimulatedEnergySource energy = new SimulatedEnergySource(this.nextLocation(0, 63));
+            this.connect(this.controllers.get(0).getActionableNode(), this.addNode(energy.getGridBlock()), AEPartLocation.DOWN);
+        }
+
+        final Deque<IGridNode> trunks = new ArrayDeque<>();
+        for (final SimulatedController controller : this.controllers) {
+            for (int i = 0; i < this.topology.getTrunksPerController() && this.remainingNodes > 0; i++) {
+                trunks.add(this.addCable(controller.getActionableNode(), true));
+            }
+        }
+
+        // grow all trunks evenly, one dense cable with its branches at a time
+        while (this.remainingNodes > 0 && !trunks.isEmpty()) {
+            final IGridNode trunk = trunks.poll();
+
+            for (int b = 0; b < this.topology.getBranchesPerTrunk() && this.remainingNodes > 0; b++) {
+                IGridNode previous = trunk;
+                for (int c = 0; c < this.topology.getCablesPerBranch() && this.remainingNodes > 0; c++) {
+                    final IGridNode cable = this.addCable(previous, false);
+                    for (int d = 0; d < this.topology.getDevicesPerCable() && this.remainingNodes > 0; d++) {
+                        this.connect(cable, this.addDevice(), this.nextDirection());
+                    }
+                    previous = cable;
+                }
+            }
+
+            if (this.remainingNodes > 0) {
+                trunks.add(this.addCable(trunk, true));
+            }
+        }
+
+        this.grid = this.controllers.get(0).getActionableNode().getGrid();
+    }
+
+    private IGridNode addCable(final IGridNode parent, final boolean dense) {
+        final SimulatedCable cable = new SimulatedCable(dense, this.nextLocation(this.nodeCount, 0));
+        final IGridNode node = this.addNode(cable.getGridBlock());
+        this.connect(parent, node, this.nextDirection());
+        return node;
+    }
+
+    private IGridNode addDevice() {
+        final DimensionalCoord location = this.nextLocation(this.nodeCount, 0);
+        final int total = this.topology.getDriveWeight() + this.topology.getBusWeight() + this.topology.getPatternProviderWeight();
+        final int roll = this.random.nextInt(total);
+
+        if (roll < this.topology.getDriveWeight()) {
+            final SimulatedDrive drive = new SimulatedDrive(this.createCells(), 0, location);
+            this.drives.add(drive);
+            return this.addNode(drive.getGridBlock());
+        }
+
+        if (roll < this.topology.getDriveWeight() + this.topology.getBusWeight()) {
+            final boolean importing = this.buses.size() % 2 == 0;
+            final SimulatedBus bus = new SimulatedBus(importing, this.topology, this.channel, this.itemTypes, this.random, location);
+            this.buses.add(bus);
+            return this.addNode(bus.getGridBlock());
+        }
+
+        final List<ICraftingPatternDetails> patterns = new ArrayList<>();
+        for (int i = 0; i < this.topology.getPatternsPerProvider(); i++) {
+            patterns.add(this.createPattern());
+        }
+        final SimulatedPatternProvider provider = new SimulatedPatternProvider(patterns, location);
+        this.patternProviders.add(provider);
+        return this.addNode(provider.getGridBlock());
+    }
+
+    private List<SimulatedCellInventory> createCells() {
+        final List<SimulatedCellInventory> cells = new ArrayList<>(this.topology.getCellsPerDrive());
+        for (int i = 0; i < this.topology.getCellsPerDrive(); i++) {
+            final SimulatedCellInventory cell = new SimulatedCellInventory(this.channel, 0);
+            for (int t = 0; t < this.topology.getTypesPerCell(); t++) {
+                final IAEItemStack type = this.itemTypes.get(this.random.nextInt(this.itemTypes.size()));
+                cell.store(type.copy().setStackSize(1 + this.random.nextInt(10000)));
+            }
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Creates a pattern for a new type. Its inputs are stored types or the outputs of earlier patterns, so the
+     * patterns form a graph that gets deeper the more of them exist.
+     */
+    private ICraftingPatternDetails createPattern() {
+        final IAEItemStack output = itemType(this.itemTypes.size() + this.craftableTypes.size());
+        final int inputCount = Math.min(this.topology.getPatternInputs(), this.itemTypes.size() + this.craftableTypes.size());
+        final List<IAEItemStack> inputs = new ArrayList<>(inputCount);
+
+        while (inputs.size() < inputCount) {
+            final List<IAEItemStack> pool = !this.craftableTypes.isEmpty() && this.random.nextBoolean() ? this.craftableTypes : this.itemTypes;
+            final IAEItemStack input = pool.get(this.random.nextInt(pool.size()));
+            if (!inputs.contains(input)) {
+                inputs.add(input);
+            }
+        }
+
+        final IAEItemStack[] in = new IAEItemStack[inputCount];
+        for (int i = 0; i < inputCount; i++) {
+            in[i] = inputs.get(i).copy().setStackSize(1 + this.random.nextInt(4));
+        }
+
+        this.craftableTypes.add(output);
+        return new SyntheticPattern(in, new IAEItemStack[]{output.copy().setStackSize(1)});
+    }
+
+    private IGridNode addNode(final SimulatedGridBlock block) {
+        this.remainingNodes--;
+        this.nodeCount++;
+        return block.createNode();
+    }
+
+    private void connect(final IGridNode a, final IGridNode b, final AEPartLocation direction) {
+        try {
+            GridConnection.create(a, b, direction);
+        } catch (final FailedConnectionException e) {
+            throw new IllegalStateException("Unable to connect simulated nodes", e);
+        }
+    }
+
+    private AEPartLocation nextDirection() {
+        return AEPartLocation.SIDE_LOCATIONS[this.connectionCount++ % AEPartLocation.SIDE_LOCATIONS.length];
+    }
+
+    private DimensionalCoord nextLocation(final int x, final int y) {
+        return new DimensionalCoord(this.world, x, y, 0);
+    }
+
+    /**
+     * @return a distinct type, paper tagged with the id
+     */
+    static IAEItemStack itemType(final int id) {
+        final ItemStack is = new ItemStack(Items.PAPER);
+        final NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("id", id);
+        is.setTagCompound(tag);
+        return AEItemStack.fromItemStack(is);
+    }
+
+    /**
+     * Ticks every cache once, and lets the {@link TickHandler} advance the crafting calculations of the world.
+     */
+    public void tick() {
+        for (final Map.Entry<Class<? extends IGridCache>, CacheStats> e : this.stats.entrySet()) {
+            // like Grid.update(), stop once the grid lost all nodes
+            if (this.grid.isEmpty()) {
+                break;
+            }
+
+            final IGridCache cache = this.grid.getCache(e.getKey());
+            final long allocated = this.allocatedBytes();
+            final long start = System.nanoTime();
+
+            cache.onUpdateTick();
+
+            final long nanos = System.nanoTime() - start;
+            e.getValue().record(nanos, this.allocatedBytes() - allocated);
+        }
+
+        TickHandler.INSTANCE.onTick(new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.END, this.world));
+    }
+
+    public void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            this.tick();
+        }
+    }
+
+    /**
+     * Ticks until the pathing is done and the network has power.
+     *
+     * @return ticks it took
+     */
+    public int boot(final int maxTicks) {
+        final SimulatedController controller = this.controllers.get(0);
+        final IEnergyGrid energy = this.grid.getCache(IEnergyGrid.class);
+        final long start = System.nanoTime();
+
+        int ticks = 0;
+        while (!this.isPathingDone(controller, 2) || !energy.isNetworkPowered()) {
+            if (ticks >= maxTicks) {
+                throw new IllegalStateException("The network did not boot within " + maxTicks + " ticks.");
+            }
+            this.tick();
+            ticks++;
+        }
+
+        this.bootTicks = ticks;
+        this.bootNanos = System.nanoTime() - start;
+        return ticks;
+    }
+
+    /**
+     * Forces the pathing to start over, like placing or breaking a cable does, and ticks until it is done.
+     *
+     * @return ticks it took
+     */
+    public int repath(final int maxTicks) {
+        final SimulatedController controller = this.controllers.get(0);
+        final int expectedEvents = controller.getBootingEvents() + 2;
+        final long start = System.nanoTime();
+
+        this.grid.<IPathingGrid>getCache(IPathingGrid.class).repath();
+
+        int ticks = 0;
+        while (!this.isPathingDone(controller, expectedEvents)) {
+            if (ticks >= maxTicks) {
+                throw new IllegalStateException("The network did not repath within " + maxTicks + " ticks.");
+            }
+            this.tick();
+            ticks++;
+        }
+
+        this.repathTicks = ticks;
+        this.repathNanos = System.nanoTime() - start;
+        return ticks;
+    }
+
+    private boolean isPathingDone(final SimulatedController controller, final int expectedEvents) {
+        // the pathing posts an event when it starts and when it is done
+        return controller.getBootingEvents() >= expectedEvents && controller.getBootingEvents() % 2 == 0;
+    }
+
+    /**
+     * Calculates a crafting job on the calling thread, without the time slicing of the game.
+     */
+    public CraftingJob calculateCraftingJob(final IAEItemStack what) {
+        final CraftingJob job = new CraftingJob(this.world, this.grid, new BaseActionSource(), what, null);
+        job.simulateFor(Integer.MAX_VALUE);
+        job.run();
+
+        // lets the tick handler forget the finished job
+        TickHandler.INSTANCE.onTick(new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.END, this.world));
+        return job;
+    }
+
+    public void resetStats() {
+        for (final CacheStats s : this.stats.values()) {
+            s.reset();
+        }
+    }
+
+    private long allocatedBytes() {
+        return this.threads == null ? 0 : this.threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public GridTopology getTopology() {
+        return this.topology;
+    }
+
+    public IGrid getGrid() {
+        return this.grid;
+    }
+
+    public World getWorld() {
+        return this.world;
+    }
+
+    public int getNodeCount() {
+        return this.nodeCount;
+    }
+
+    public List<IAEItemStack> getItemTypes() {
+        return Collections.unmodifiableList(this.itemTypes);
+    }
+
+    /**
+     * @return the outputs of the patterns, in the order they were created
+     */
+    public List<IAEItemStack> getCraftableTypes() {
+        return Collections.unmodifiableList(this.craftableTypes);
+    }
+
+    public List<SimulatedController> getControllers() {
+        return Collections.unmodifiableList(this.controllers);
+    }
+
+    public List<SimulatedDrive> getDrives() {
+        return Collections.unmodifiableList(this.drives);
+    }
+
+    public List<SimulatedBus> getBuses() {
+        return Collections.unmodifiableList(this.buses);
+    }
+
+    public List<SimulatedPatternProvider> getPatternProviders() {
+        return Collections.unmodifiableList(this.patternProviders);
+    }
+
+    /**
+     * @return tick statistics per cache, in the order the caches are ticked
+     */
+    public Map<Class<? extends IGridCache>, CacheStats> getStats() {
+        return Collections.unmodifiableMap(this.stats);
+    }
+
+    public long getBuildNanos() {
+        return this.buildNanos;
+    }
+
+    public int getBootTicks() {
+        return this.bootTicks;
+    }
+
+    public long getBootNanos() {
+        return this.bootNanos;
+    }
+
+    public int getRepathTicks() {
+        return this.repathTicks;
+    }
+
+    public long getRepathNanos() {
+        return this.repathNanos;
+    }
+
+    /**
+     * Time and allocations of a cache over the ticks since the last {@link #resetStats()}.
+     */
+    public static final class CacheStats {
+        private long ticks;
+        private long nanos;
+        private long maxNanos;
+        private long allocatedBytes;
+
+        private void record(final long nanos, final long allocatedBytes) {
+            this.ticks++;
+            this.nanos += nanos;
+            this.maxNanos = Math.max(this.maxNanos, nanos);
+            this.allocatedBytes += allocatedBytes;
+        }
+
+        private void reset() {
+            this.ticks = 0;
+            this.nanos = 0;
+            this.maxNanos = 0;
+            this.allocatedBytes = 0;
+        }
+
+        public long getTicks() {
+            return this.ticks;
+        }
+
+        public long getTotalNanos() {
+            return this.nanos;
+        }
+
+        public double getAverageMicros() {
+            return this.ticks == 0 ? 0 : this.nanos / 1000.0 / this.ticks;
+        }
+
+        public double getMaxMicros() {
+            return this.maxNanos / 1000.0;
+        }
+
+        public long getAllocatedBytesPerTick() {
+            return this.ticks == 0 ? 0 : this.allocatedBytes / this.ticks;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.pathing.ControllerState;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.crafting.CraftingJob;
+import appeng.me.cache.PathGridCache;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+public class GridSimulatorTest {
+
+    private static GridSimulator simulator;
+
+    @BeforeAll
+    public static void setUp() {
+        simulator = GridSimulator.build(new GridTopology().setNodes(1000).setItemTypes(500));
+        simulator.boot(2000);
+    }
+
+    @Test
+    public void testBuildsRequestedSize() {
+        assertThat(simulator.getNodeCount(), is(1000));
+        assertThat(simulator.getGrid().getNodes().size(), is(1000));
+        assertThat(simulator.getDrives(), not(empty()));
+        assertThat(simulator.getBuses(), not(empty()));
+        assertThat(simulator.getPatternProviders(), not(empty()));
+    }
+
+    @Test
+    public void testBoots() {
+        final IPathingGrid pathing = simulator.getGrid().getCache(IPathingGrid.class);
+
+        assertThat(pathing.isNetworkBooting(), is(false));
+        assertThat(pathing.getControllerState(), is(ControllerState.CONTROLLER_ONLINE));
+        assertThat(((PathGridCache) pathing).getChannelsInUse(), greaterThan(0));
+        assertThat(simulator.getGrid().<IEnergyGrid>getCache(IEnergyGrid.class).isNetworkPowered(), is(true));
+    }
+
+    @Test
+    public void testMountsCellsAndPatterns() {
+        final IStorageGrid storage = simulator.getGrid().getCache(IStorageGrid.class);
+        final IItemList<IAEItemStack> items = storage.getInventory(simulator.getItemTypes().get(0).getChannel()).getStorageList();
+        assertThat(items.isEmpty(), is(false));
+
+        final ICraftingGrid crafting = simulator.getGrid().getCache(ICraftingGrid.class);
+        for (final IAEItemStack craftable : simulator.getCraftableTypes()) {
+            assertThat(crafting.getCraftingFor(craftable, null, 0, simulator.getWorld()), not(empty()));
+        }
+    }
+
+    @Test
+    public void testBusesMoveItems() {
+        simulator.tick(100);
+
+        long operations = 0;
+        for (final SimulatedBus bus : simulator.getBuses()) {
+            operations += bus.getOperations();
+        }
+        assertThat(operations, greaterThan(0L));
+
+        for (final GridSimulator.CacheStats stats : simulator.getStats().values()) {
+            assertThat(stats.getTicks(), greaterThan(0L));
+        }
+    }
+
+    @Test
+    public void testRepaths() {
+        assertThat(simulator.repath(2000), greaterThan(0));
+        assertThat(simulator.getGrid().<IPathingGrid>getCache(IPathingGrid.class).getControllerState(), is(ControllerState.CONTROLLER_ONLINE));
+    }
+
+    @Test
+    public void testCalculatesCraftingJob() {
+        final IAEItemStack deepest = simulator.getCraftableTypes().get(simulator.getCraftableTypes().size() - 1);
+        final CraftingJob job = simulator.calculateCraftingJob(deepest.copy().setStackSize(10));
+
+        assertThat(job.isDone(), is(true));
+        assertThat(job.getByteTotal(), greaterThan(0L));
+    }
+}
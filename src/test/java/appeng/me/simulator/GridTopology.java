@@ -0,0 +1,226 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import com.google.common.base.Preconditions;
+
+
+/**
+ * Shape and workload of a simulated network.
+ * <p>
+ * Controllers are placed in a line, each with dense cable trunks. Every dense cable has branches of smart cables,
+ * which in turn hold the machines. Trunks grow evenly until the network has the requested amount of nodes, so large
+ * networks get long trunks and most machines end up without a channel, like on an overloaded real network.
+ */
+public class GridTopology {
+
+    private int nodes = 1000;
+    private int controllers = 1;
+    private int trunksPerController = 4;
+    private int branchesPerTrunk = 4;
+    private int cablesPerBranch = 2;
+    private int devicesPerCable = 4;
+
+    private int driveWeight = 1;
+    private int busWeight = 6;
+    private int patternProviderWeight = 3;
+
+    private int itemTypes = 10000;
+    private int cellsPerDrive = 10;
+    private int typesPerCell = 63;
+    private int patternsPerProvider = 9;
+    private int patternInputs = 3;
+
+    private int busTransferSize = 64;
+    private int busMinTickRate = 5;
+    private int busMaxTickRate = 40;
+
+    private long seed = 0;
+
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @param nodes amount of nodes, including cables, controllers and the energy source
+     */
+    public GridTopology setNodes(final int nodes) {
+        Preconditions.checkArgument(nodes > 0);
+        this.nodes = nodes;
+        return this;
+    }
+
+    public int getControllers() {
+        return this.controllers;
+    }
+
+    public GridTopology setControllers(final int controllers) {
+        Preconditions.checkArgument(controllers > 0 && controllers <= 7, "Controllers are placed in a line of at most 7 blocks.");
+        this.controllers = controllers;
+        return this;
+    }
+
+    public int getTrunksPerController() {
+        return this.trunksPerController;
+    }
+
+    public GridTopology setTrunksPerController(final int trunksPerController) {
+        Preconditions.checkArgument(trunksPerController > 0 && trunksPerController <= 4, "A controller in a line has 4 free faces.");
+        this.trunksPerController = trunksPerController;
+        return this;
+    }
+
+    public int getBranchesPerTrunk() {
+        return this.branchesPerTrunk;
+    }
+
+    public GridTopology setBranchesPerTrunk(final int branchesPerTrunk) {
+        this.branchesPerTrunk = branchesPerTrunk;
+        return this;
+    }
+
+    public int getCablesPerBranch() {
+        return this.cablesPerBranch;
+    }
+
+    public GridTopology setCablesPerBranch(final int cablesPerBranch) {
+        this.cablesPerBranch = cablesPerBranch;
+        return this;
+    }
+
+    public int getDevicesPerCable() {
+        return this.devicesPerCable;
+    }
+
+    public GridTopology setDevicesPerCable(final int devicesPerCable) {
+        this.devicesPerCable = devicesPerCable;
+        return this;
+    }
+
+    public int getDriveWeight() {
+        return this.driveWeight;
+    }
+
+    public int getBusWeight() {
+        return this.busWeight;
+    }
+
+    public int getPatternProviderWeight() {
+        return this.patternProviderWeight;
+    }
+
+    /**
+     * Sets how often each kind of machine is placed, relative to the others. Buses alternate between import and
+     * export.
+     */
+    public GridTopology setDeviceWeights(final int drives, final int buses, final int patternProviders) {
+        Preconditions.checkArgument(drives >= 0 && buses >= 0 && patternProviders >= 0 && drives + buses + patternProviders > 0);
+        this.driveWeight = drives;
+        this.busWeight = buses;
+        this.patternProviderWeight = patternProviders;
+        return this;
+    }
+
+    public int getItemTypes() {
+        return this.itemTypes;
+    }
+
+    /**
+     * @param itemTypes amount of distinct types stored in the cells and moved by the buses
+     */
+    public GridTopology setItemTypes(final int itemTypes) {
+        Preconditions.checkArgument(itemTypes > 0);
+        this.itemTypes = itemTypes;
+        return this;
+    }
+
+    public int getCellsPerDrive() {
+        return this.cellsPerDrive;
+    }
+
+    public GridTopology setCellsPerDrive(final int cellsPerDrive) {
+        this.cellsPerDrive = cellsPerDrive;
+        return this;
+    }
+
+    public int getTypesPerCell() {
+        return this.typesPerCell;
+    }
+
+    public GridTopology setTypesPerCell(final int typesPerCell) {
+        this.typesPerCell = typesPerCell;
+        return this;
+    }
+
+    public int getPatternsPerProvider() {
+        return this.patternsPerProvider;
+    }
+
+    public GridTopology setPatternsPerProvider(final int patternsPerProvider) {
+        this.patternsPerProvider = patternsPerProvider;
+        return this;
+    }
+
+    public int getPatternInputs() {
+        return this.patternInputs;
+    }
+
+    /**
+     * @param patternInputs distinct inputs of every pattern, either stored types or outputs of earlier patterns
+     */
+    public GridTopology setPatternInputs(final int patternInputs) {
+        Preconditions.checkArgument(patternInputs > 0);
+        this.patternInputs = patternInputs;
+        return this;
+    }
+
+    public int getBusTransferSize() {
+        return this.busTransferSize;
+    }
+
+    public GridTopology setBusTransferSize(final int busTransferSize) {
+        this.busTransferSize = busTransferSize;
+        return this;
+    }
+
+    public int getBusMinTickRate() {
+        return this.busMinTickRate;
+    }
+
+    public int getBusMaxTickRate() {
+        return this.busMaxTickRate;
+    }
+
+    public GridTopology setBusTickRates(final int min, final int max) {
+        Preconditions.checkArgument(min > 0 && min <= max);
+        this.busMinTickRate = min;
+        this.busMaxTickRate = max;
+        return this;
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public GridTopology setSeed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.AEApi;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridCacheRegistry;
+import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.networking.security.ISecurityGrid;
+import appeng.api.networking.spatial.ISpatialCache;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.networking.ticking.ITickManager;
+import appeng.core.AEConfig;
+import appeng.core.worlddata.WorldData;
+import appeng.me.cache.*;
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.init.Bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+
+/**
+ * Sets up what the grid needs outside of a running game: the vanilla registries, a default configuration, world data
+ * in a temporary directory and the grid caches.
+ */
+public final class HeadlessBootstrap {
+
+    /**
+     * The grid caches as registered by AE2 itself.
+     */
+    static final Map<Class<? extends IGridCache>, Class<? extends IGridCache>> GRID_CACHES = ImmutableMap.<Class<? extends IGridCache>, Class<? extends IGridCache>>builder()
+            .put(ITickManager.class, TickManagerCache.class)
+            .put(IEnergyGrid.class, EnergyGridCache.class)
+            .put(IPathingGrid.class, PathGridCache.class)
+            .put(IStorageGrid.class, GridStorageCache.class)
+            .put(P2PCache.class, P2PCache.class)
+            .put(ISpatialCache.class, SpatialPylonCache.class)
+            .put(ISecurityGrid.class, SecurityCache.class)
+            .put(ICraftingGrid.class, CraftingGridCache.class)
+            .put(WirelessGridCache.class, WirelessGridCache.class)
+            .build();
+
+    private static boolean started = false;
+
+    private HeadlessBootstrap() {
+    }
+
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+
+        Bootstrap.register();
+
+        try {
+            final File dir = Files.createTempDirectory("ae2-headless").toFile();
+            AEConfig.init(new File(dir, "AppliedEnergistics2.cfg"));
+
+            final File worldDirectory = new File(dir, "world");
+            if (!worldDirectory.mkdir()) {
+                throw new IllegalStateException("Failed to create " + worldDirectory.getAbsolutePath());
+            }
+            WorldData.startInstance(worldDirectory);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to create the headless configuration", e);
+        }
+
+        final IGridCacheRegistry gcr = AEApi.instance().registries().gridCache();
+        GRID_CACHES.forEach(gcr::registerGridCache);
+
+        started = true;
+    }
+}
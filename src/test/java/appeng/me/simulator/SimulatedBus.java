@@ -0,0 +1,107 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.TickRateModulation;
+import appeng.api.networking.ticking.TickingRequest;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.helpers.MachineSource;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * An import or export bus moving random types of the workload in and out of the network storage.
+ */
+public class SimulatedBus extends SimulatedHost implements IGridTickable {
+
+    private final boolean importing;
+    private final GridTopology topology;
+    private final IStorageChannel<IAEItemStack> channel;
+    private final List<IAEItemStack> types;
+    private final Random random;
+    private final IActionSource src = new MachineSource(this);
+    private long operations = 0;
+
+    SimulatedBus(final boolean importing, final GridTopology topology, final IStorageChannel<IAEItemStack> channel, final List<IAEItemStack> types, final Random random, final DimensionalCoord location) {
+        super(EnumSet.of(GridFlags.REQUIRE_CHANNEL), 1.0, location);
+        this.importing = importing;
+        this.topology = topology;
+        this.channel = channel;
+        this.types = types;
+        this.random = random;
+    }
+
+    public boolean isImporting() {
+        return this.importing;
+    }
+
+    /**
+     * @return amount of successful transfers
+     */
+    public long getOperations() {
+        return this.operations;
+    }
+
+    @Nonnull
+    @Override
+    public TickingRequest getTickingRequest(@Nonnull final IGridNode node) {
+        return new TickingRequest(this.topology.getBusMinTickRate(), this.topology.getBusMaxTickRate(), false, false);
+    }
+
+    @Nonnull
+    @Override
+    public TickRateModulation tickingRequest(@Nonnull final IGridNode node, final int ticksSinceLastCall) {
+        if (!node.isActive()) {
+            return TickRateModulation.IDLE;
+        }
+
+        final IStorageGrid storage = node.getGrid().getCache(IStorageGrid.class);
+        final IMEMonitor<IAEItemStack> inv = storage.getInventory(this.channel);
+        final IAEItemStack request = this.types.get(this.random.nextInt(this.types.size())).copy().setStackSize(this.topology.getBusTransferSize());
+
+        final boolean worked;
+        if (this.importing) {
+            final IAEItemStack notInserted = inv.injectItems(request, Actionable.MODULATE, this.src);
+            worked = notInserted == null || notInserted.getStackSize() < request.getStackSize();
+        } else {
+            final IAEItemStack extracted = inv.extractItems(request, Actionable.MODULATE, this.src);
+            worked = extracted != null && extracted.getStackSize() > 0;
+        }
+
+        if (worked) {
+            this.operations++;
+            return TickRateModulation.FASTER;
+        }
+        return TickRateModulation.SLOWER;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.util.AECableType;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+
+
+/**
+ * A smart or dense cable, carrying the channels of the machines behind it.
+ */
+public class SimulatedCable extends SimulatedHost {
+
+    private final boolean dense;
+
+    SimulatedCable(final boolean dense, final DimensionalCoord location) {
+        super(dense ? EnumSet.of(GridFlags.DENSE_CAPACITY, GridFlags.PREFERRED) : EnumSet.of(GridFlags.PREFERRED), 0.0, location);
+        this.dense = dense;
+    }
+
+    public boolean isDense() {
+        return this.dense;
+    }
+
+    @Nonnull
+    @Override
+    public AECableType getCableConnectionType(@Nonnull final AEPartLocation dir) {
+        return this.dense ? AECableType.DENSE_SMART : AECableType.SMART;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.ItemList;
+
+
+/**
+ * Unbounded in-memory inventory, standing in for a storage cell.
+ * <p>
+ * It only accepts the types it was given, so a network of several handlers has to search for the right one like it
+ * does with partitioned cells.
+ */
+public class SimulatedCellInventory implements IMEInventoryHandler<IAEItemStack> {
+
+    private final IStorageChannel<IAEItemStack> channel;
+    private final IItemList<IAEItemStack> accepted = new ItemList();
+    private final IItemList<IAEItemStack> stored = new ItemList();
+    private final int priority;
+
+    public SimulatedCellInventory(final IStorageChannel<IAEItemStack> channel, final int priority) {
+        this.channel = channel;
+        this.priority = priority;
+    }
+
+    public void accept(final IAEItemStack type) {
+        this.accepted.add(type.copy().setStackSize(1));
+    }
+
+    public void store(final IAEItemStack stack) {
+        this.accept(stack);
+        this.stored.add(stack.copy());
+    }
+
+    @Override
+    public IAEItemStack injectItems(final IAEItemStack input, final Actionable type, final IActionSource src) {
+        if (!this.canAccept(input)) {
+            return input;
+        }
+
+        if (type == Actionable.MODULATE) {
+            this.stored.add(input.copy());
+        }
+        return null;
+    }
+
+    @Override
+    public IAEItemStack extractItems(final IAEItemStack request, final Actionable mode, final IActionSource src) {
+        final IAEItemStack stored = this.stored.findPrecise(request);
+        if (stored == null || stored.getStackSize() <= 0) {
+            return null;
+        }
+
+        final IAEItemStack extracted = request.copy();
+        extracted.setStackSize(Math.min(request.getStackSize(), stored.getStackSize()));
+
+        if (mode == Actionable.MODULATE) {
+            stored.decStackSize(extracted.getStackSize());
+        }
+        return extracted;
+    }
+
+    @Override
+    public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
+        for (final IAEItemStack stack : this.stored) {
+            out.addStorage(stack);
+        }
+        return out;
+    }
+
+    @Override
+    public IStorageChannel<IAEItemStack> getChannel() {
+        return this.channel;
+    }
+
+    @Override
+    public AccessRestriction getAccess() {
+        return AccessRestriction.READ_WRITE;
+    }
+
+    @Override
+    public boolean isPrioritized(final IAEItemStack input) {
+        return false;
+    }
+
+    @Override
+    public boolean canAccept(final IAEItemStack input) {
+        return this.accepted.findPrecise(input) != null;
+    }
+
+    @Override
+    public int getPriority() {
+        return this.priority;
+    }
+
+    @Override
+    public int getSlot() {
+        return 0;
+    }
+
+    @Override
+    public boolean validForPass(final int i) {
+        return true;
+    }
+}
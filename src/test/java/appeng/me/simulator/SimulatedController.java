@@ -0,0 +1,76 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.events.MENetworkBootingStatusChange;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+import appeng.tile.networking.TileController;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+
+
+/**
+ * A controller block outside of a world.
+ * <p>
+ * The pathing only recognizes controllers by their class, so this extends the real tile and swaps its proxy for a
+ * simulated node. It also counts the booting events, as the pathing posts one when it starts and one when it is done.
+ */
+public class SimulatedController extends TileController {
+
+    private final SimulatedGridBlock block;
+    private int bootingEvents = 0;
+
+    SimulatedController(final DimensionalCoord location) {
+        this.setPos(location.getPos());
+        this.block = new SimulatedGridBlock(this, EnumSet.of(GridFlags.CANNOT_CARRY, GridFlags.DENSE_CAPACITY), 3.0, location);
+    }
+
+    SimulatedGridBlock getGridBlock() {
+        return this.block;
+    }
+
+    @MENetworkEventSubscribe
+    public void onBootingChange(final MENetworkBootingStatusChange c) {
+        this.bootingEvents++;
+    }
+
+    /**
+     * @return amount of booting events posted since the controller joined the grid
+     */
+    public int getBootingEvents() {
+        return this.bootingEvents;
+    }
+
+    @Override
+    public IGridNode getGridNode(@Nonnull final AEPartLocation dir) {
+        return this.block.getNode();
+    }
+
+    @Nonnull
+    @Override
+    public IGridNode getActionableNode() {
+        return this.block.getNode();
+    }
+}
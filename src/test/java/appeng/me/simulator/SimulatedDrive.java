@@ -0,0 +1,105 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.events.MENetworkCellArrayUpdate;
+import appeng.api.networking.events.MENetworkChannelsChanged;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.networking.events.MENetworkPowerStatusChange;
+import appeng.api.storage.ICellContainer;
+import appeng.api.storage.ICellInventory;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.util.DimensionalCoord;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+
+/**
+ * A drive with in-memory cells, which mounts them like {@code TileDrive} once it has power and a channel.
+ */
+public class SimulatedDrive extends SimulatedHost implements ICellContainer {
+
+    private final List<SimulatedCellInventory> cells;
+    private final List<IMEInventoryHandler> handlers;
+    private final int priority;
+    private boolean wasActive = false;
+
+    SimulatedDrive(final List<SimulatedCellInventory> cells, final int priority, final DimensionalCoord location) {
+        super(EnumSet.of(GridFlags.REQUIRE_CHANNEL), 2.0 + 0.5 * cells.size(), location);
+        this.cells = cells;
+        this.handlers = Collections.unmodifiableList(new ArrayList<IMEInventoryHandler>(cells));
+        this.priority = priority;
+    }
+
+    public List<SimulatedCellInventory> getCells() {
+        return this.cells;
+    }
+
+    @MENetworkEventSubscribe
+    public void powerRender(final MENetworkPowerStatusChange c) {
+        this.updateActive();
+    }
+
+    @MENetworkEventSubscribe
+    public void channelRender(final MENetworkChannelsChanged c) {
+        this.updateActive();
+    }
+
+    private void updateActive() {
+        final IGridNode node = this.getActionableNode();
+        final boolean active = node.isActive();
+
+        if (this.wasActive != active && node.getGrid() != null) {
+            this.wasActive = active;
+            node.getGrid().postEvent(new MENetworkCellArrayUpdate(this));
+        }
+    }
+
+    @Override
+    public List<IMEInventoryHandler> getCellArray(final IStorageChannel<?> channel) {
+        if (channel instanceof IItemStorageChannel) {
+            return this.handlers;
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int getPriority() {
+        return this.priority;
+    }
+
+    @Override
+    public void blinkCell(final int slot) {
+
+    }
+
+    @Override
+    public void saveChanges(@Nullable final ICellInventory<?> cellInventory) {
+
+    }
+}
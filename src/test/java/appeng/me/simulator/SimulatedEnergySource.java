@@ -0,0 +1,72 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.energy.IAEPowerStorage;
+import appeng.api.util.DimensionalCoord;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+
+
+/**
+ * Endless power, like {@code TileCreativeEnergyCell}.
+ */
+public class SimulatedEnergySource extends SimulatedHost implements IAEPowerStorage {
+
+    SimulatedEnergySource(final DimensionalCoord location) {
+        super(EnumSet.noneOf(GridFlags.class), 0.0, location);
+    }
+
+    @Override
+    public double injectAEPower(final double amt, @Nonnull final Actionable mode) {
+        return 0;
+    }
+
+    @Override
+    public double getAEMaxPower() {
+        return Long.MAX_VALUE / 10000;
+    }
+
+    @Override
+    public double getAECurrentPower() {
+        return Long.MAX_VALUE / 10000;
+    }
+
+    @Override
+    public boolean isAEPublicPowerStorage() {
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public AccessRestriction getPowerFlow() {
+        return AccessRestriction.READ_WRITE;
+    }
+
+    @Override
+    public double extractAEPower(final double amt, @Nonnull final Actionable mode, @Nonnull final PowerMultiplier usePowerMultiplier) {
+        return amt;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.GridNotification;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridBlock;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.util.AEColor;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.GridNode;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+
+
+/**
+ * Grid block of a simulated machine.
+ * <p>
+ * It is not accessible through the world, so the simulator connects the nodes itself instead of the nodes searching
+ * their neighbours.
+ */
+public class SimulatedGridBlock implements IGridBlock {
+
+    private final IGridHost machine;
+    private final EnumSet<GridFlags> flags;
+    private final double idlePowerUsage;
+    private final DimensionalCoord location;
+    private IGridNode node;
+
+    SimulatedGridBlock(final IGridHost machine, final EnumSet<GridFlags> flags, final double idlePowerUsage, final DimensionalCoord location) {
+        this.machine = machine;
+        this.flags = flags;
+        this.idlePowerUsage = idlePowerUsage;
+        this.location = location;
+    }
+
+    IGridNode createNode() {
+        this.node = new GridNode(this);
+        this.node.updateState();
+        return this.node;
+    }
+
+    public IGridNode getNode() {
+        return this.node;
+    }
+
+    @Override
+    public double getIdlePowerUsage() {
+        return this.idlePowerUsage;
+    }
+
+    @Nonnull
+    @Override
+    public EnumSet<GridFlags> getFlags() {
+        return this.flags;
+    }
+
+    @Override
+    public boolean isWorldAccessible() {
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    public DimensionalCoord getLocation() {
+        return this.location;
+    }
+
+    @Nonnull
+    @Override
+    public AEColor getGridColor() {
+        return AEColor.TRANSPARENT;
+    }
+
+    @Override
+    public void onGridNotification(@Nonnull final GridNotification notification) {
+
+    }
+
+    @Override
+    public void setNetworkStatus(final IGrid grid, final int channelsInUse) {
+
+    }
+
+    @Nonnull
+    @Override
+    public EnumSet<EnumFacing> getConnectableSides() {
+        return EnumSet.allOf(EnumFacing.class);
+    }
+
+    @Nonnull
+    @Override
+    public IGridHost getMachine() {
+        return this.machine;
+    }
+
+    @Override
+    public void gridChanged() {
+
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack getMachineRepresentation() {
+        return ItemStack.EMPTY;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.security.IActionHost;
+import appeng.api.util.AECableType;
+import appeng.api.util.AEPartLocation;
+import appeng.api.util.DimensionalCoord;
+
+import javax.annotation.Nonnull;
+import java.util.EnumSet;
+
+
+/**
+ * Base of the simulated machines, a host with a single node on all sides.
+ */
+public abstract class SimulatedHost implements IGridHost, IActionHost {
+
+    private final SimulatedGridBlock block;
+
+    protected SimulatedHost(final EnumSet<GridFlags> flags, final double idlePowerUsage, final DimensionalCoord location) {
+        this.block = new SimulatedGridBlock(this, flags, idlePowerUsage, location);
+    }
+
+    SimulatedGridBlock getGridBlock() {
+        return this.block;
+    }
+
+    @Override
+    public IGridNode getGridNode(@Nonnull final AEPartLocation dir) {
+        return this.block.getNode();
+    }
+
+    @Nonnull
+    @Override
+    public IGridNode getActionableNode() {
+        return this.block.getNode();
+    }
+
+    @Nonnull
+    @Override
+    public AECableType getCableConnectionType(@Nonnull final AEPartLocation dir) {
+        return AECableType.SMART;
+    }
+
+    @Override
+    public void securityBreak() {
+
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.simulator;
+
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.networking.crafting.ICraftingProvider;
+import appeng.api.networking.crafting.ICraftingProviderHelper;
+import appeng.api.networking.events.MENetworkChannelsChanged;
+import appeng.api.networking.events.MENetworkCraftingPatternChange;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.networking.events.MENetworkPowerStatusChange;
+import appeng.api.util.DimensionalCoord;
+import net.minecraft.inventory.InventoryCrafting;
+
+import java.util.EnumSet;
+import java.util.List;
+
+
+/**
+ * An interface holding patterns. Pushed patterns are only counted, nothing is crafted.
+ */
+public class SimulatedPatternProvider extends SimulatedHost implements ICraftingProvider {
+
+    private final List<ICraftingPatternDetails> patterns;
+    private boolean wasActive = false;
+    private long pushed = 0;
+
+    SimulatedPatternProvider(final List<ICraftingPatternDetails> patterns, final DimensionalCoord location) {
+        super(EnumSet.of(GridFlags.REQUIRE_CHANNEL), 1.0, location);
+        this.patterns = patterns;
+    }
+
+    public List<ICraftingPatternDetails> getPatterns() {
+        return this.patterns;
+    }
+
+    public long getPushed() {
+        return this.pushed;
+    }
+
+    @MENetworkEventSubscribe
+    public void powerRender(final MENetworkPowerStatusChange c) {
+        this.updateActive();
+    }
+
+    @MENetworkEventSubscribe
+    public void channelRender(final MENetworkChannelsChanged c) {
+        this.updateActive();
+    }
+
+    private void updateActive() {
+        final IGridNode node = this.getActionableNode();
+        final boolean active = node.isActive();
+
+        if (this.wasActive != active && node.getGrid() != null) {
+            this.wasActive = active;
+            node.getGrid().postEvent(new MENetworkCraftingPatternChange(this, node));
+        }
+    }
+
+    @Override
+    public void provideCrafting(final ICraftingProviderHelper craftingTracker) {
+        if (this.getActionableNode().isActive()) {
+            for (final ICraftingPatternDetails details : this.patterns) {
+                craftingTracker.addCraftingOption(this, details);
+            }
+        }
+    }
+
+    @Override
+    public boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        this.pushed++;
+        return true;
+    }
+
+    @Override
+    public boolean isBusy() {
+        return false;
+    }
+}
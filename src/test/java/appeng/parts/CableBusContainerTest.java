@@ -0,0 +1,133 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.parts;
+
+
+import appeng.api.parts.IPart;
+import appeng.api.parts.PartItemStack;
+import appeng.api.util.AEPartLocation;
+import appeng.me.simulator.HeadlessBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+public class CableBusContainerTest {
+
+    private static final AEPartLocation[] SIDES = {AEPartLocation.DOWN, AEPartLocation.NORTH, AEPartLocation.EAST};
+
+    private final Map<AEPartLocation, int[]> written = new EnumMap<>(AEPartLocation.class);
+    private final Map<AEPartLocation, int[]> read = new EnumMap<>(AEPartLocation.class);
+    private CableBusContainer writer;
+    private CableBusContainer reader;
+
+    @BeforeAll
+    public static void setUp() {
+        HeadlessBootstrap.start();
+    }
+
+    /**
+     * A part that syncs a single int, the other methods return default values.
+     */
+    private static IPart part(final int[] value) {
+        return (IPart) Proxy.newProxyInstance(IPart.class.getClassLoader(), new Class<?>[]{IPart.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getItemStack":
+                    return new ItemStack(Items.STICK);
+                case "writeToStream":
+                    ((ByteBuf) args[0]).writeInt(value[0]);
+                    return null;
+                case "readFromStream":
+                    value[0] = ((ByteBuf) args[0]).readInt();
+                    return true;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    final Class<?> type = method.getReturnType();
+                    return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+            }
+        });
+    }
+
+    @BeforeEach
+    public void createBuses() {
+        this.writer = new CableBusContainer(null);
+        this.reader = new CableBusContainer(null);
+
+        for (int i = 0; i < SIDES.length; i++) {
+            this.written.put(SIDES[i], new int[]{10 * (i + 1)});
+            this.read.put(SIDES[i], new int[1]);
+            this.writer.setSide(SIDES[i], part(this.written.get(SIDES[i])));
+            this.reader.setSide(SIDES[i], part(this.read.get(SIDES[i])));
+        }
+    }
+
+    private ByteBuf sync(final int fields) throws Exception {
+        final ByteBuf data = Unpooled.buffer();
+        this.writer.writeToStream(data, fields);
+        this.reader.readFromStream(data, fields);
+        return data;
+    }
+
+    @Test
+    public void partialSyncOnlyWritesTheSelectedPart() throws Exception {
+        final ByteBuf data = this.sync(CableBusContainer.partField(AEPartLocation.NORTH));
+
+        assertThat(data.readableBytes(), is(0));
+        assertThat(this.read.get(AEPartLocation.NORTH)[0], is(20));
+        assertThat(this.read.get(AEPartLocation.DOWN)[0], is(0));
+        assertThat(this.read.get(AEPartLocation.EAST)[0], is(0));
+    }
+
+    @Test
+    public void partialSyncKeepsTheOrderOfSeveralParts() throws Exception {
+        final ByteBuf data = this.sync(CableBusContainer.partField(AEPartLocation.DOWN) | CableBusContainer.partField(AEPartLocation.EAST));
+
+        assertThat(data.readableBytes(), is(0));
+        assertThat(this.read.get(AEPartLocation.DOWN)[0], is(10));
+        assertThat(this.read.get(AEPartLocation.NORTH)[0], is(0));
+        assertThat(this.read.get(AEPartLocation.EAST)[0], is(30));
+    }
+
+    @Test
+    public void partialSyncOfAnEmptySideLeavesTheOthers() throws Exception {
+        final ByteBuf data = this.sync(CableBusContainer.partField(AEPartLocation.WEST));
+
+        assertThat(data.readableBytes(), is(0));
+        for (final AEPartLocation side : SIDES) {
+            assertThat(this.reader.getPart(side), notNullValue());
+            assertThat(this.read.get(side)[0], is(0));
+        }
+    }
+}
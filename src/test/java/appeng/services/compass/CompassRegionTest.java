@@ -0,0 +1,75 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests for the block summary of {@link CompassRegion}
+ */
+public class CompassRegionTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    public void testSummaryFollowsBeacons() {
+        final CompassRegion region = new CompassRegion(0, 0, 0, this.folder, null);
+
+        assertThat(region.hasBeaconInBlock(1, 2), is(false));
+
+        region.setBeacons(40, 70, 0xFF, 1 << 7);
+        region.setHasBeacon(41, 70, 3, true);
+
+        assertThat(region.hasBeacon(40, 70), is(true));
+        assertThat(region.hasBeaconInBlock(1, 2), is(true));
+        assertThat(region.hasBeaconInBlock(0, 2), is(false));
+
+        region.setBeacons(40, 70, 0xFF, 0);
+        assertThat(region.hasBeaconInBlock(1, 2), is(true));
+
+        region.setHasBeacon(41, 70, 3, false);
+        assertThat(region.hasBeacon(41, 70), is(false));
+        assertThat(region.hasBeaconInBlock(1, 2), is(false));
+
+        region.close();
+    }
+
+    @Test
+    public void testSummaryIsRebuiltFromFile() {
+        final CompassRegion region = new CompassRegion(-1, -1, 0, this.folder, null);
+        region.setHasBeacon(-1, -1, 0, true);
+        region.close();
+
+        final CompassRegion reopened = new CompassRegion(-1, -1, 0, this.folder, null);
+
+        assertThat(reopened.hasBeacon(-1, -1), is(true));
+        assertThat(reopened.hasBeaconInBlock(-1, -1), is(true));
+        assertThat(reopened.hasBeaconInBlock(-2, -1), is(false));
+
+        reopened.close();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.util.item;
+
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.simulator.HeadlessBootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+/**
+ * Checks that {@link CompactItemList} behaves like {@link ItemList}.
+ */
+public class CompactItemListTest {
+
+    @BeforeAll
+    public static void setUp() {
+        HeadlessBootstrap.start();
+    }
+
+    private static IAEItemStack paper(final int id, final long size) {
+        final ItemStack is = new ItemStack(Items.PAPER);
+        final NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("id", id);
+        is.setTagCompound(tag);
+        return AEItemStack.fromItemStack(is).setStackSize(size);
+    }
+
+    private static IAEItemStack sword(final int damage, final long size) {
+        return AEItemStack.fromItemStack(new ItemStack(Items.DIAMOND_SWORD, 1, damage)).setStackSize(size);
+    }
+
+    /**
+     * Iterates the list, which also drops the types that are no longer meaningful.
+     */
+    private static Map<AESharedItemStack, String> contents(final IItemList<IAEItemStack> list) {
+        final Map<AESharedItemStack, String> contents = new HashMap<>();
+        for (final IAEItemStack stack : list) {
+            contents.put(((AEItemStack) stack).getSharedStack(), stack.getStackSize() + "/" + stack.getCountRequestable() + "/" + stack.isCraftable());
+        }
+        return contents;
+    }
+
+    private static Set<AESharedItemStack> types(final Iterable<IAEItemStack> stacks) {
+        final Set<AESharedItemStack> types = new HashSet<>();
+        for (final IAEItemStack stack : stacks) {
+            types.add(((AEItemStack) stack).getSharedStack());
+        }
+        return types;
+    }
+
+    @Test
+    public void addsLikeItemList() {
+        final IItemList<IAEItemStack> expected = new ItemList();
+        final IItemList<IAEItemStack> actual = new CompactItemList();
+
+        for (final IItemList<IAEItemStack> list : Arrays.asList(expected, actual)) {
+            for (int id = 0; id < 40; id++) {
+                list.add(paper(id, id + 1));
+            }
+            for (int id = 20; id < 60; id++) {
+                list.addStorage(paper(id, 5));
+            }
+            for (int id = 30; id < 70; id++) {
+                list.addCrafting(paper(id, 7));
+            }
+            for (int id = 50; id < 80; id++) {
+                list.addRequestable(paper(id, 0).setCountRequestable(id));
+            }
+            list.add(sword(10, 1).setCraftable(true).setCountRequestable(3));
+        }
+
+        assertThat(actual.size(), is(expected.size()));
+        assertThat(contents(actual), is(contents(expected)));
+    }
+
+    @Test
+    public void findsLikeItemList() {
+        final IItemList<IAEItemStack> expected = new ItemList();
+        final IItemList<IAEItemStack> actual = new CompactItemList();
+
+        for (final IItemList<IAEItemStack> list : Arrays.asList(expected, actual)) {
+            for (int id = 0; id < 10; id++) {
+                list.add(paper(id, 10 + id));
+            }
+            for (final int damage : new int[]{0, 10, 800, 1500, 1561}) {
+                list.add(sword(damage, 1));
+            }
+        }
+
+        for (int id = 0; id < 12; id++) {
+            final IAEItemStack found = actual.findPrecise(paper(id, 1));
+            final IAEItemStack reference = expected.findPrecise(paper(id, 1));
+            if (reference == null) {
+                assertThat(found, nullValue());
+            } else {
+                assertThat(found, notNullValue());
+                assertThat(found.getStackSize(), is(reference.getStackSize()));
+            }
+        }
+
+        for (final FuzzyMode mode : FuzzyMode.values()) {
+            for (final int damage : new int[]{0, 400, 1561}) {
+                assertThat(mode + " " + damage, types(actual.findFuzzy(sword(damage, 1), mode)), is(types(expected.findFuzzy(sword(damage, 1), mode))));
+            }
+            assertThat(types(actual.findFuzzy(paper(3, 1), mode)), is(types(expected.findFuzzy(paper(3, 1), mode))));
+        }
+    }
+
+    @Test
+    public void iteratorRemovesTypesThatAreNoLongerMeaningful() {
+        final CompactItemList list = new CompactItemList();
+        for (int id = 0; id < 10; id++) {
+            list.add(paper(id, 1));
+        }
+
+        for (int id = 0; id < 10; id += 2) {
+            list.findPrecise(paper(id, 1)).reset();
+        }
+
+        assertThat(contents(list).size(), is(5));
+        for (int id = 0; id < 10; id++) {
+            assertThat(list.findPrecise(paper(id, 1)), id % 2 == 0 ? nullValue() : notNullValue());
+        }
+    }
+
+    @Test
+    public void sizeFollowsWritesThroughViews() {
+        final CompactItemList list = new CompactItemList();
+        list.add(paper(1, 4));
+        list.add(paper(2, 6));
+        assertThat(list.size(), is(2));
+
+        final IAEItemStack first = list.findPrecise(paper(1, 1));
+        first.setStackSize(0);
+        assertThat(list.size(), is(1));
+
+        first.setCraftable(true);
+        assertThat(list.size(), is(2));
+
+        first.setCraftable(false);
+        list.findPrecise(paper(2, 1)).decStackSize(6);
+        assertThat(list.size(), is(0));
+        assertThat(list.isEmpty(), is(true));
+
+        list.findPrecise(paper(2, 1)).incCountRequestable(1);
+        assertThat(list.size(), is(1));
+        assertThat(list.isEmpty(), is(false));
+    }
+
+    @Test
+    public void viewDetachesWhenItsSlotIsReused() {
+        final CompactItemList list = new CompactItemList();
+        list.add(paper(1, 4));
+
+        final IAEItemStack view = list.findPrecise(paper(1, 1));
+        view.setStackSize(0);
+        assertThat(contents(list).isEmpty(), is(true));
+
+        list.add(paper(2, 9));
+        assertThat(view.getStackSize(), is(0L));
+
+        view.setStackSize(3);
+        assertThat(view.getStackSize(), is(3L));
+        assertThat(list.findPrecise(paper(1, 1)), nullValue());
+        assertThat(list.findPrecise(paper(2, 1)).getStackSize(), is(9L));
+        assertThat(list.size(), is(1));
+    }
+
+    @Test
+    public void findsTypesAfterManyRemovals() {
+        final IItemList<IAEItemStack> expected = new ItemList();
+        final IItemList<IAEItemStack> actual = new CompactItemList();
+
+        int next = 0;
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 500; i++, next++) {
+                expected.add(paper(next, next + 1));
+                actual.add(paper(next, next + 1));
+            }
+
+            // keep every tenth type of this round, the iteration below removes the others
+            for (int id = next - 500; id < next; id++) {
+                if (id % 10 != 0) {
+                    expected.findPrecise(paper(id, 1)).reset();
+                    actual.findPrecise(paper(id, 1)).reset();
+                }
+            }
+
+            assertThat(contents(actual), is(contents(expected)));
+        }
+
+        assertThat(actual.size(), is(250));
+        for (int id = 0; id < next; id++) {
+            final IAEItemStack found = actual.findPrecise(paper(id, 1));
+            if (id % 10 == 0) {
+                assertThat(found.getStackSize(), is((long) id + 1));
+            } else {
+                assertThat(found, nullValue());
+            }
+        }
+    }
+}